@@ -0,0 +1,29 @@
+package com.example.exampleproject.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates, at compile time, a Jackson serializer for the annotated record, written by
+ * {@link JsonSerializerProcessor}.
+ * <p>
+ * The serializer writes the record components under their {@code @JsonProperty} names, in the property order
+ * Jackson resolves for the record at runtime with the configuration of each mapper (so that, for instance,
+ * {@code MapperFeature.SORT_PROPERTIES_ALPHABETICALLY} is honored). The values go directly to the generator:
+ * strings, numbers and booleans without any serializer lookup, other values through the serializers of the
+ * mapper (such as the custom date and time serializers). As configured in
+ * {@code JacksonConfig}, {@code null} components are left out. The generated serializers are registered by the
+ * generated {@code GeneratedSerializersModule}.
+ * <p>
+ * Only {@code @JsonProperty} is supported on the components; the processor rejects the annotations that would
+ * change the output of Jackson's own serializer in a way the generated one does not reproduce.
+ * Deserialization is left to Jackson.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateJsonSerializer {
+}
@@ -0,0 +1,436 @@
+package com.example.exampleproject.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Annotation processor writing the serializers of the records annotated with {@link GenerateJsonSerializer}.
+ * <p>
+ * For each record {@code X}, a {@code XJsonSerializer} is generated in the package of the record, along with a
+ * single {@code GeneratedSerializersModule} registering all of them. The module is generated in the package given
+ * by the {@code jsonSerializer.modulePackage} option, or else in the package common to the annotated records.
+ * <p>
+ * A record is rejected, with a compilation error, when it carries annotations changing its JSON form other than
+ * {@code @JsonProperty}, or declares a getter besides its accessors (Jackson would serialize it as well).
+ */
+@SupportedAnnotationTypes(JsonSerializerProcessor.ANNOTATION)
+@SupportedOptions(JsonSerializerProcessor.MODULE_PACKAGE_OPTION)
+public class JsonSerializerProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION = "com.example.exampleproject.processor.GenerateJsonSerializer";
+
+    static final String MODULE_PACKAGE_OPTION = "jsonSerializer.modulePackage";
+
+    static final String MODULE_NAME = "GeneratedSerializersModule";
+
+    private static final String SERIALIZER_SUFFIX = "JsonSerializer";
+
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+
+    private static final Set<String> UNSUPPORTED_ANNOTATIONS = Set.of(
+            "com.fasterxml.jackson.annotation.JsonAnyGetter",
+            "com.fasterxml.jackson.annotation.JsonAutoDetect",
+            "com.fasterxml.jackson.annotation.JsonFilter",
+            "com.fasterxml.jackson.annotation.JsonFormat",
+            "com.fasterxml.jackson.annotation.JsonGetter",
+            "com.fasterxml.jackson.annotation.JsonIdentityInfo",
+            "com.fasterxml.jackson.annotation.JsonIgnore",
+            "com.fasterxml.jackson.annotation.JsonIgnoreProperties",
+            "com.fasterxml.jackson.annotation.JsonInclude",
+            "com.fasterxml.jackson.annotation.JsonPropertyOrder",
+            "com.fasterxml.jackson.annotation.JsonRawValue",
+            "com.fasterxml.jackson.annotation.JsonRootName",
+            "com.fasterxml.jackson.annotation.JsonTypeInfo",
+            "com.fasterxml.jackson.annotation.JsonUnwrapped",
+            "com.fasterxml.jackson.annotation.JsonValue",
+            "com.fasterxml.jackson.annotation.JsonView",
+            "com.fasterxml.jackson.databind.annotation.JsonNaming",
+            "com.fasterxml.jackson.databind.annotation.JsonSerialize");
+
+    /**
+     * Statements writing the values Jackson serializes without any configuration, by declared type; the other
+     * values go through the serializers of the mapper.
+     */
+    private static final Map<String, String> DIRECT_WRITES = Map.ofEntries(
+            Map.entry("java.lang.String", "gen.writeString(%s)"),
+            Map.entry("java.lang.Integer", "gen.writeNumber(%s.intValue())"),
+            Map.entry("java.lang.Long", "gen.writeNumber(%s.longValue())"),
+            Map.entry("java.lang.Short", "gen.writeNumber(%s.shortValue())"),
+            Map.entry("java.lang.Byte", "gen.writeNumber(%s.intValue())"),
+            Map.entry("java.lang.Double", "gen.writeNumber(%s.doubleValue())"),
+            Map.entry("java.lang.Float", "gen.writeNumber(%s.floatValue())"),
+            Map.entry("java.lang.Boolean", "gen.writeBoolean(%s.booleanValue())"),
+            Map.entry("java.math.BigDecimal", "gen.writeNumber(%s)"),
+            Map.entry("java.math.BigInteger", "gen.writeNumber(%s)"),
+            Map.entry("int", "gen.writeNumber(%s)"),
+            Map.entry("long", "gen.writeNumber(%s)"),
+            Map.entry("short", "gen.writeNumber(%s)"),
+            Map.entry("byte", "gen.writeNumber((int) %s)"),
+            Map.entry("double", "gen.writeNumber(%s)"),
+            Map.entry("float", "gen.writeNumber(%s)"),
+            Map.entry("boolean", "gen.writeBoolean(%s)"));
+
+    private final List<String> serializers = new ArrayList<>();
+
+    private final List<String> serializedTypes = new ArrayList<>();
+
+    private final List<TypeElement> records = new ArrayList<>();
+
+    private boolean moduleWritten;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (annotations.isEmpty()) {
+            return false;
+        }
+
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (moduleWritten) {
+                    error(element, "@GenerateJsonSerializer records must be compiled in the first round");
+                } else if (element.getKind() != ElementKind.RECORD) {
+                    error(element, "@GenerateJsonSerializer only applies to records");
+                } else {
+                    generateSerializer((TypeElement) element);
+                }
+            }
+        }
+
+        if (!moduleWritten && !serializers.isEmpty()) {
+            generateModule();
+            moduleWritten = true;
+        }
+        return true;
+    }
+
+    private void generateSerializer(TypeElement record) {
+        if (!isSupported(record)) {
+            return;
+        }
+
+        String recordName = record.getQualifiedName().toString();
+        String packageName = processingEnv.getElementUtils().getPackageOf(record).getQualifiedName().toString();
+        String typeName = typeName(record, packageName);
+        String simpleName = typeName.replace('.', '_') + SERIALIZER_SUFFIX;
+
+        StringBuilder names = new StringBuilder();
+        StringBuilder cases = new StringBuilder();
+        List<? extends RecordComponentElement> components = record.getRecordComponents();
+        for (int index = 0; index < components.size(); index++) {
+            RecordComponentElement component = components.get(index);
+            String local = component.getSimpleName() + "Value";
+            TypeMirror type = component.asType();
+            String directWrite = DIRECT_WRITES.get(erasedName(type));
+
+            names.append(index == 0 ? "" : ",").append("\n            \"")
+                    .append(escape(jsonName(component))).append('"');
+
+            String write = (directWrite != null
+                    ? directWrite.formatted(local)
+                    : "provider.defaultSerializeValue(" + local + ", gen)") + ";";
+            cases.append("""
+                                case %1$d -> {
+                                    var %2$s = bean.%3$s();
+                """.formatted(index, local, component.getAccessor().getSimpleName()));
+            cases.append(type.getKind().isPrimitive() ? """
+                                    gen.writeFieldName(NAMES[%1$d]);
+                                    %2$s
+                                }
+                """.formatted(index, write) : """
+                                    if (%3$s != null) {
+                                        gen.writeFieldName(NAMES[%1$d]);
+                                        %2$s
+                                    }
+                                }
+                """.formatted(index, write, local));
+        }
+
+        String source = """
+                %1$simport com.fasterxml.jackson.core.JsonGenerator;
+                import com.fasterxml.jackson.core.io.SerializedString;
+                import com.fasterxml.jackson.databind.BeanProperty;
+                import com.fasterxml.jackson.databind.JsonMappingException;
+                import com.fasterxml.jackson.databind.JsonSerializer;
+                import com.fasterxml.jackson.databind.JavaType;
+                import com.fasterxml.jackson.databind.SerializerProvider;
+                import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+                import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+                import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+                import javax.annotation.processing.Generated;
+                import java.io.IOException;
+                import java.util.Arrays;
+                import java.util.stream.IntStream;
+
+                /**
+                 * Serializer of {@link %3$s}, generated from its record components.
+                 * <p>
+                 * The components are written in the order Jackson gives to the properties of the record, which
+                 * depends on its version and configuration. The instance registered by the module is shared by every
+                 * mapper using it and never changes: each mapper gets its own immutable copy, holding the order
+                 * resolved with its configuration, from {@link #createContextual}.
+                 */
+                @Generated("%4$s")
+                public final class %2$s extends StdSerializer<%3$s> implements ContextualSerializer {
+
+                    private static final String[] PROPERTY_NAMES = {%5$s};
+
+                    private static final SerializedString[] NAMES = Arrays.stream(PROPERTY_NAMES)
+                            .map(SerializedString::new)
+                            .toArray(SerializedString[]::new);
+
+                    private static final int[] DECLARATION_ORDER = IntStream.range(0, PROPERTY_NAMES.length).toArray();
+
+                    /**
+                     * Order resolved for a mapper, {@code null} for the shared instance not yet contextualized.
+                     */
+                    private final int[] order;
+
+                    public %2$s() {
+                        this(null);
+                    }
+
+                    private %2$s(int[] order) {
+                        super(%3$s.class);
+                        this.order = order;
+                    }
+
+                    @Override
+                    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                            throws JsonMappingException {
+                        if (order != null) {
+                            return this;
+                        }
+
+                        JavaType type = provider.constructType(%3$s.class);
+                        int[] resolved = provider.getConfig().introspect(type).findProperties().stream()
+                                .filter(BeanPropertyDefinition::couldSerialize)
+                                .mapToInt(definition -> Arrays.asList(PROPERTY_NAMES).indexOf(definition.getName()))
+                                .toArray();
+                        if (resolved.length != PROPERTY_NAMES.length
+                                || Arrays.stream(resolved).distinct().filter(index -> index >= 0).count()
+                                != PROPERTY_NAMES.length) {
+                            provider.reportBadDefinition(type, "Generated serializer does not match the"
+                                    + " properties of the record, remove @GenerateJsonSerializer or the"
+                                    + " conflicting configuration");
+                        }
+                        return new %2$s(resolved);
+                    }
+
+                    @Override
+                    public void serialize(%3$s bean, JsonGenerator gen, SerializerProvider provider)
+                            throws IOException {
+                        gen.writeStartObject(bean);
+                        for (int index : order != null ? order : DECLARATION_ORDER) {
+                            switch (index) {
+                %6$s                default -> throw new IllegalStateException("Unexpected property index " + index);
+                            }
+                        }
+                        gen.writeEndObject();
+                    }
+                }
+                """.formatted(packageName.isEmpty() ? "" : "package " + packageName + ";\n\n", simpleName, typeName,
+                getClass().getName(), names, cases);
+
+        String serializerName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        write(serializerName, source, record);
+        serializers.add(serializerName);
+        serializedTypes.add(recordName);
+        records.add(record);
+    }
+
+    private boolean isSupported(TypeElement record) {
+        boolean supported = true;
+
+        if (!record.getTypeParameters().isEmpty()) {
+            error(record, "@GenerateJsonSerializer does not support generic records");
+            supported = false;
+        }
+
+        if (record.getNestingKind().isNested() && !record.getModifiers().contains(Modifier.PUBLIC)) {
+            error(record, "@GenerateJsonSerializer nested records must be public");
+            supported = false;
+        }
+
+        List<Element> annotated = new ArrayList<>();
+        annotated.add(record);
+        for (Element member : record.getEnclosedElements()) {
+            switch (member.getKind()) {
+                case FIELD, RECORD_COMPONENT -> annotated.add(member);
+                case METHOD -> {
+                    annotated.add(member);
+                    if (isExtraGetter(record, (ExecutableElement) member)) {
+                        error(member, "@GenerateJsonSerializer records cannot declare getters besides their "
+                                + "accessors");
+                        supported = false;
+                    }
+                }
+                default -> {
+                    // Nested types and constructors do not change the JSON form
+                }
+            }
+        }
+
+        // The annotations of a component may be propagated to its accessor and field, reported only once
+        Set<String> reported = new HashSet<>();
+        for (Element element : annotated) {
+            for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+                String annotationName = ((TypeElement) mirror.getAnnotationType().asElement())
+                        .getQualifiedName().toString();
+                if (UNSUPPORTED_ANNOTATIONS.contains(annotationName)
+                        && reported.add(element.getSimpleName() + "@" + annotationName)) {
+                    error(element, "@GenerateJsonSerializer does not support @" + annotationName);
+                    supported = false;
+                }
+            }
+        }
+        return supported;
+    }
+
+    private static boolean isExtraGetter(TypeElement record, ExecutableElement method) {
+        if (method.getModifiers().contains(Modifier.STATIC) || !method.getModifiers().contains(Modifier.PUBLIC)
+                || !method.getParameters().isEmpty() || method.getReturnType().getKind() == TypeKind.VOID) {
+            return false;
+        }
+
+        String name = method.getSimpleName().toString();
+        boolean accessor = record.getRecordComponents().stream()
+                .anyMatch(component -> component.getSimpleName().contentEquals(name));
+        boolean getter = (name.length() > 3 && name.startsWith("get"))
+                || (name.length() > 2 && name.startsWith("is") && method.getReturnType().getKind() == TypeKind.BOOLEAN);
+        return !accessor && getter && !name.equals("getClass");
+    }
+
+    /**
+     * Finds the name given by {@code @JsonProperty}, which the compiler propagates from the component to its
+     * accessor, field and constructor parameter depending on the annotation targets.
+     */
+    private String jsonName(RecordComponentElement component) {
+        Stream<Element> candidates = Stream.concat(
+                Stream.of(component, component.getAccessor()),
+                component.getEnclosingElement().getEnclosedElements().stream()
+                        .filter(element -> element.getKind() == ElementKind.FIELD)
+                        .filter(element -> element.getSimpleName().equals(component.getSimpleName())));
+
+        return candidates
+                .flatMap(element -> element.getAnnotationMirrors().stream())
+                .filter(mirror -> ((TypeElement) mirror.getAnnotationType().asElement())
+                        .getQualifiedName().contentEquals(JSON_PROPERTY))
+                .flatMap(mirror -> mirror.getElementValues().entrySet().stream())
+                .filter(entry -> entry.getKey().getSimpleName().contentEquals("value"))
+                .map(Map.Entry::getValue)
+                .map(AnnotationValue::getValue)
+                .map(String.class::cast)
+                .filter(name -> !name.isEmpty())
+                .findFirst()
+                .orElse(component.getSimpleName().toString());
+    }
+
+    private void generateModule() {
+        String packageName = processingEnv.getOptions().getOrDefault(MODULE_PACKAGE_OPTION, commonPackage());
+
+        StringBuilder registrations = new StringBuilder();
+        for (int i = 0; i < serializers.size(); i++) {
+            registrations.append("        addSerializer(").append(serializedTypes.get(i)).append(".class, new ")
+                    .append(serializers.get(i)).append("());\n");
+        }
+
+        String source = """
+                %1$simport com.fasterxml.jackson.databind.module.SimpleModule;
+
+                import javax.annotation.processing.Generated;
+
+                /**
+                 * Registers the serializers generated for the records annotated with {@code @GenerateJsonSerializer}.
+                 */
+                @Generated("%3$s")
+                public final class %2$s extends SimpleModule {
+
+                    public %2$s() {
+                        super("%2$s");
+                %4$s    }
+                }
+                """.formatted(packageName.isEmpty() ? "" : "package " + packageName + ";\n\n", MODULE_NAME,
+                getClass().getName(), registrations);
+
+        write(packageName.isEmpty() ? MODULE_NAME : packageName + "." + MODULE_NAME, source,
+                records.toArray(Element[]::new));
+    }
+
+    private String commonPackage() {
+        String common = null;
+        for (String type : serializers) {
+            String packageName = type.contains(".") ? type.substring(0, type.lastIndexOf('.')) : "";
+            while (common != null && !(packageName + ".").startsWith(common + ".")) {
+                common = common.contains(".") ? common.substring(0, common.lastIndexOf('.')) : "";
+            }
+            common = common == null ? packageName : common;
+        }
+        return common == null ? "" : common;
+    }
+
+    private void write(String name, String source, Element... origins) {
+        Filer filer = processingEnv.getFiler();
+        try (Writer writer = filer.createSourceFile(name, origins).openWriter()) {
+            writer.write(source);
+        } catch (IOException e) {
+            error(origins[0], "Could not write " + name + ": " + e.getMessage());
+        }
+    }
+
+    private void error(Element element, String message) {
+        Messager messager = processingEnv.getMessager();
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static String typeName(TypeElement record, String packageName) {
+        // Nested records are referenced through their enclosing types, from the same package
+        String qualifiedName = record.getQualifiedName().toString();
+        return packageName.isEmpty() ? qualifiedName : qualifiedName.substring(packageName.length() + 1);
+    }
+
+    private static String erasedName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return type.getKind().name().toLowerCase(Locale.ROOT);
+        }
+        if (type instanceof DeclaredType declared) {
+            return ((TypeElement) declared.asElement()).getQualifiedName().toString();
+        }
+        return "";
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
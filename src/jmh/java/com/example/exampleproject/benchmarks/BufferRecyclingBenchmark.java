@@ -0,0 +1,85 @@
+package com.example.exampleproject.benchmarks;
+
+import com.example.exampleproject.configs.JacksonConfig;
+import com.example.exampleproject.configs.json.JsonBufferRecyclerPool;
+import com.example.exampleproject.dto.response.TestPostResponse;
+import com.example.exampleproject.utils.ProjectTimeService;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the serialization of a list response on a new virtual thread per operation, as with virtual thread
+ * request handling, with Jackson's per-thread buffer recyclers or the shared {@link JsonBufferRecyclerPool}.
+ * Run with {@code -prof gc} to compare the allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BufferRecyclingBenchmark {
+
+    private static final int RESPONSE_SIZE = 50;
+
+    @Param({"threadLocal", "shared"})
+    public String recyclerPool;
+
+    private JsonMapper mapper;
+
+    private List<TestPostResponse> testPostResponses;
+
+    @Setup
+    public void setUp() {
+        mapper = (JsonMapper) new JacksonConfig(new ProjectTimeService("UTC")).objectMapper();
+        if ("threadLocal".equals(recyclerPool)) {
+            mapper = mapper.copy();
+            mapper.getFactory().setRecyclerPool(JsonRecyclerPools.threadLocalPool());
+        }
+
+        testPostResponses = new ArrayList<>(RESPONSE_SIZE);
+        for (int i = 0; i < RESPONSE_SIZE; i++) {
+            testPostResponses.add(TestPostResponse.builder()
+                    .date(new Date())
+                    .localDateTime(LocalDateTime.now())
+                    .localDate(LocalDate.now())
+                    .zonedDateTime(ZonedDateTime.now())
+                    .localTime(LocalTime.now())
+                    .statusEnum("ATIVO")
+                    .bigDecimalValue(new BigDecimal("123.456789"))
+                    .integerValue(i)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public int testPostResponsesOnVirtualThread() throws InterruptedException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(8192);
+        Thread.ofVirtual().start(() -> {
+            try {
+                mapper.writeValue(outputStream, testPostResponses);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).join();
+        return outputStream.size();
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.exampleproject.benchmarks;
+
+import com.example.exampleproject.utils.CpfCnpjUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link CpfCnpjUtils} with the regex and stream based checks previously done by
+ * {@code CpfCnpjValidator}, over a mix of valid and invalid numeric CPFs and CNPJs, and measures the
+ * alphanumeric CNPJ path on its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CpfCnpjValidationBenchmark {
+
+    private static final int VALUE_COUNT = 1024;
+
+    private String[] values;
+
+    private String[] alphanumericCnpjs;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        values = new String[VALUE_COUNT];
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            int length = random.nextBoolean() ? CpfCnpjUtils.CPF_LENGTH : CpfCnpjUtils.CNPJ_LENGTH;
+            StringBuilder value = new StringBuilder(length);
+            for (int j = 0; j < length; j++) {
+                value.append((char) ('0' + random.nextInt(10)));
+            }
+            values[i] = value.toString();
+        }
+        // Half of the values get matching check digits
+        for (int i = 0; i < VALUE_COUNT; i += 2) {
+            values[i] = withCheckDigits(values[i]);
+        }
+
+        alphanumericCnpjs = new String[VALUE_COUNT];
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            StringBuilder value = new StringBuilder(CpfCnpjUtils.CNPJ_LENGTH);
+            for (int j = 0; j < CpfCnpjUtils.CNPJ_LENGTH - 2; j++) {
+                int index = random.nextInt(36);
+                value.append((char) (index < 10 ? '0' + index : 'A' + index - 10));
+            }
+            value.append("00");
+            alphanumericCnpjs[i] = i % 2 == 0 ? withCheckDigits(value.toString()) : value.toString();
+        }
+    }
+
+    @Benchmark
+    public void legacyValidator(Blackhole blackhole) {
+        for (String value : values) {
+            blackhole.consume(LegacyCpfCnpjValidation.isValid(value));
+        }
+    }
+
+    @Benchmark
+    public void cpfCnpjUtils(Blackhole blackhole) {
+        for (String value : values) {
+            blackhole.consume(CpfCnpjUtils.isValid(value));
+        }
+    }
+
+    @Benchmark
+    public void cpfCnpjUtilsAlphanumericCnpj(Blackhole blackhole) {
+        for (String value : alphanumericCnpjs) {
+            blackhole.consume(CpfCnpjUtils.isValid(value));
+        }
+    }
+
+    @Benchmark
+    public CpfCnpjUtils.BulkResult cpfCnpjUtilsBulk() {
+        return CpfCnpjUtils.validateAll(values);
+    }
+
+    private static String withCheckDigits(String value) {
+        for (int digit = 0; digit < 100; digit++) {
+            String candidate = value.substring(0, value.length() - 2) + (digit / 10) + (digit % 10);
+            if (CpfCnpjUtils.isValid(candidate)) {
+                return candidate;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Copy of the checks {@code CpfCnpjValidator} performed before delegating to {@link CpfCnpjUtils}.
+     */
+    private static final class LegacyCpfCnpjValidation {
+
+        static boolean isValid(String value) {
+            if (!value.matches("^\\d+$")) {
+                return false;
+            }
+            String unformatted = value.replaceAll("\\D", "");
+            if (unformatted.length() == CpfCnpjUtils.CPF_LENGTH) {
+                return isValidCpf(unformatted);
+            }
+            return unformatted.length() == CpfCnpjUtils.CNPJ_LENGTH && isValidCnpj(unformatted);
+        }
+
+        static boolean isValidCpf(String cpf) {
+            if (cpf.chars().distinct().count() == 1) {
+                return false;
+            }
+            int digit1 = calculateVerificationDigit(cpf, new int[]{10, 9, 8, 7, 6, 5, 4, 3, 2}, 9);
+            int digit2 = calculateVerificationDigit(cpf, new int[]{11, 10, 9, 8, 7, 6, 5, 4, 3, 2}, 10);
+            return cpf.charAt(9) - '0' == digit1 && cpf.charAt(10) - '0' == digit2;
+        }
+
+        static boolean isValidCnpj(String cnpj) {
+            if (cnpj.chars().distinct().count() == 1) {
+                return false;
+            }
+            int digit1 = calculateVerificationDigit(cnpj, new int[]{5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2}, 12);
+            int digit2 = calculateVerificationDigit(cnpj, new int[]{6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2}, 13);
+            return cnpj.charAt(12) - '0' == digit1 && cnpj.charAt(13) - '0' == digit2;
+        }
+
+        static int calculateVerificationDigit(String value, int[] weights, int length) {
+            int sum = 0;
+            for (int i = 0; i < length; i++) {
+                sum += (value.charAt(i) - '0') * weights[i];
+            }
+            int remainder = sum % 11;
+            return remainder < 2 ? 0 : 11 - remainder;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.exampleproject.benchmarks;
+
+import com.example.exampleproject.utils.DateUtils;
+import com.example.exampleproject.utils.FastDateTimeParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneRules;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares, for each deserializer format, the formatter parse previously done by the {@code Custom*Deserializer}
+ * classes with {@link FastDateTimeParser} reading the same characters, as they would be found in the buffer of
+ * the JSON parser.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateTimeDeserializationBenchmark {
+
+    private static final String LOCAL_DATE = "2024-05-01";
+
+    private static final String LOCAL_DATE_TIME = "2024-05-01 10:15:30";
+
+    private static final String LOCAL_TIME = "10:15:30";
+
+    private static final String ZONED_DATE_TIME = "2024-05-01T10:15:30.123-03:00";
+
+    private DateTimeFormatter localDateFormatter;
+
+    private DateTimeFormatter localDateTimeFormatter;
+
+    private DateTimeFormatter localTimeFormatter;
+
+    private DateTimeFormatter zonedDateTimeFormatter;
+
+    private SimpleDateFormat dateFormatter;
+
+    private ZoneRules dateZoneRules;
+
+    private char[] localDateChars;
+
+    private char[] localDateTimeChars;
+
+    private char[] localTimeChars;
+
+    private char[] zonedDateTimeChars;
+
+    @Setup
+    public void setUp() {
+        localDateFormatter = DateTimeFormatter.ofPattern(DateUtils.LOCAL_DATE_DESERIALIZER_FORMAT);
+        localDateTimeFormatter = DateTimeFormatter.ofPattern(DateUtils.LOCAL_DATE_TIME_DESERIALIZER_FORMAT);
+        localTimeFormatter = DateTimeFormatter.ofPattern(DateUtils.LOCAL_TIME_DESERIALIZER_FORMAT);
+        zonedDateTimeFormatter = DateTimeFormatter.ofPattern(DateUtils.ZONED_DATE_TIME_DESERIALIZER_FORMAT);
+        dateFormatter = new SimpleDateFormat(DateUtils.DATE_DESERIALIZER_FORMAT);
+        dateZoneRules = dateFormatter.getTimeZone().toZoneId().getRules();
+
+        localDateChars = LOCAL_DATE.toCharArray();
+        localDateTimeChars = LOCAL_DATE_TIME.toCharArray();
+        localTimeChars = LOCAL_TIME.toCharArray();
+        zonedDateTimeChars = ZONED_DATE_TIME.toCharArray();
+    }
+
+    @Benchmark
+    public LocalDate localDateFormatter() {
+        return LocalDate.parse(new String(localDateChars), localDateFormatter);
+    }
+
+    @Benchmark
+    public LocalDate localDateFast() {
+        return FastDateTimeParser.parseLocalDate(localDateChars, 0, localDateChars.length);
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTimeFormatter() {
+        return LocalDateTime.parse(new String(localDateTimeChars), localDateTimeFormatter);
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTimeFast() {
+        return FastDateTimeParser.parseLocalDateTime(localDateTimeChars, 0, localDateTimeChars.length);
+    }
+
+    @Benchmark
+    public LocalTime localTimeFormatter() {
+        return LocalTime.parse(new String(localTimeChars), localTimeFormatter);
+    }
+
+    @Benchmark
+    public LocalTime localTimeFast() {
+        return FastDateTimeParser.parseLocalTime(localTimeChars, 0, localTimeChars.length);
+    }
+
+    @Benchmark
+    public ZonedDateTime zonedDateTimeFormatter() {
+        return ZonedDateTime.parse(new String(zonedDateTimeChars), zonedDateTimeFormatter);
+    }
+
+    @Benchmark
+    public ZonedDateTime zonedDateTimeFast() {
+        return FastDateTimeParser.parseZonedDateTime(zonedDateTimeChars, 0, zonedDateTimeChars.length);
+    }
+
+    @Benchmark
+    public Date dateFormatter() throws ParseException {
+        return dateFormatter.parse(new String(localDateTimeChars));
+    }
+
+    @Benchmark
+    public Date dateFast() {
+        LocalDateTime dateTime = FastDateTimeParser.parseLocalDateTime(localDateTimeChars, 0,
+                localDateTimeChars.length);
+        return new Date(dateTime.toEpochSecond(dateZoneRules.getValidOffsets(dateTime).getFirst()) * 1000);
+    }
+}
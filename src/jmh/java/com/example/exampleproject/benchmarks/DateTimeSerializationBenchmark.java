@@ -0,0 +1,72 @@
+package com.example.exampleproject.benchmarks;
+
+import com.example.exampleproject.configs.JacksonConfig;
+import com.example.exampleproject.utils.ProjectTimeService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the serialization of a list response holding thousands of timestamps close to each other, as
+ * produced by the project {@link ObjectMapper}, for the {@link ZonedDateTime}, {@link LocalDateTime} and
+ * {@link Date} serializers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DateTimeSerializationBenchmark {
+
+    private static final int VALUE_COUNT = 4096;
+
+    private ObjectMapper objectMapper;
+
+    private ZonedDateTime[] zonedDateTimes;
+
+    private LocalDateTime[] localDateTimes;
+
+    private Date[] dates;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new JacksonConfig(new ProjectTimeService("UTC")).objectMapper();
+
+        zonedDateTimes = new ZonedDateTime[VALUE_COUNT];
+        localDateTimes = new LocalDateTime[VALUE_COUNT];
+        dates = new Date[VALUE_COUNT];
+        Instant start = Instant.parse("2024-05-01T12:00:00.000Z");
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            Instant instant = start.plusMillis(i * 1_337L);
+            zonedDateTimes[i] = instant.atZone(ZoneOffset.UTC);
+            localDateTimes[i] = LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+            dates[i] = Date.from(instant);
+        }
+    }
+
+    @Benchmark
+    public String zonedDateTimes() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(zonedDateTimes);
+    }
+
+    @Benchmark
+    public String localDateTimes() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(localDateTimes);
+    }
+
+    @Benchmark
+    public String dates() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(dates);
+    }
+}
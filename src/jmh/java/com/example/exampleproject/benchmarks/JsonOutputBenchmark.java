@@ -0,0 +1,93 @@
+package com.example.exampleproject.benchmarks;
+
+import com.example.exampleproject.clients.models.JsonPlaceholderPost;
+import com.example.exampleproject.configs.JacksonConfig;
+import com.example.exampleproject.dto.response.TestPostResponse;
+import com.example.exampleproject.utils.ProjectTimeService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the serialization of list responses with the project mapper, indented (the previous default) or
+ * compact, with and without the {@link BlackbirdModule}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonOutputBenchmark {
+
+    private static final int RESPONSE_SIZE = 500;
+
+    @Param({"true", "false"})
+    public boolean indentOutput;
+
+    @Param({"false", "true"})
+    public boolean blackbird;
+
+    private JsonMapper mapper;
+
+    private List<TestPostResponse> testPostResponses;
+
+    private List<JsonPlaceholderPost> posts;
+
+    @Setup
+    public void setUp() {
+        JacksonConfig config = new JacksonConfig(new ProjectTimeService("UTC"));
+        JsonMapper.Builder builder = ((JsonMapper) config.objectMapper()).rebuild()
+                .configure(SerializationFeature.INDENT_OUTPUT, indentOutput);
+        if (blackbird) {
+            builder.addModule(new BlackbirdModule());
+        }
+        mapper = builder.build();
+
+        testPostResponses = new ArrayList<>(RESPONSE_SIZE);
+        posts = new ArrayList<>(RESPONSE_SIZE);
+        for (int i = 0; i < RESPONSE_SIZE; i++) {
+            testPostResponses.add(TestPostResponse.builder()
+                    .date(new Date())
+                    .localDateTime(LocalDateTime.now())
+                    .localDate(LocalDate.now())
+                    .zonedDateTime(ZonedDateTime.now())
+                    .localTime(LocalTime.now())
+                    .statusEnum("ATIVO")
+                    .bigDecimalValue(new BigDecimal("123.456789"))
+                    .integerValue(i)
+                    .doubleValue(i * 3.14159265359)
+                    .longValue(Long.MAX_VALUE - i)
+                    .floatValue(i * 1.5f)
+                    .build());
+            posts.add(new JsonPlaceholderPost((long) i, (long) i % 10, "Introduction to Swagger",
+                    "This is an example post about Swagger annotations."));
+        }
+    }
+
+    @Benchmark
+    public byte[] testPostResponses() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(testPostResponses);
+    }
+
+    @Benchmark
+    public byte[] jsonPlaceholderPosts() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(posts);
+    }
+}
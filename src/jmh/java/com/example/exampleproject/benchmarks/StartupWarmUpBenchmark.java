@@ -0,0 +1,79 @@
+package com.example.exampleproject.benchmarks;
+
+import com.example.exampleproject.ExampleProjectApplication;
+import com.example.exampleproject.dto.request.TestPostRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency of the first validations after the application started, with and without
+ * {@code ValidationWarmUp}. Each fork is a fresh JVM running a single measurement, so the result is the cost
+ * a first request pays for lazily built constraint metadata, validator initialization (Tika included) and
+ * message resolution.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(5)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class StartupWarmUpBenchmark {
+
+    private static final String SAMPLE_PNG = "data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAQAAAAEACAIAAADTED8x" +
+            "AAADMElEQVR4nOzVwQnAIBQFQYXff81RUkQCOyDj1YOPnbXWPmeTRef+/3O/OyBjzh3CD95BfqICMK0CMO0TAAD//2Anhf4Q" +
+            "tqobAAAAAElFTkSuQmCC";
+
+    @Param({"true", "false"})
+    public boolean warmUp;
+
+    private ConfigurableApplicationContext context;
+
+    private Validator validator;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        SpringApplication application = new SpringApplication(ExampleProjectApplication.class);
+        application.setBannerMode(Banner.Mode.OFF);
+        context = application.run(
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--validation.warm-up.enabled=" + warmUp);
+        validator = context.getBean(Validator.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Set<ConstraintViolation<TestPostRequest>>> firstValidations() {
+        List<Set<ConstraintViolation<TestPostRequest>>> violations = new ArrayList<>();
+        violations.add(validator.validateValue(TestPostRequest.class, "cpfCnpj", "81865839043"));
+        violations.add(validator.validateValue(TestPostRequest.class, "statusValueEnum", "ATIVO"));
+        violations.add(validator.validateValue(TestPostRequest.class, "base64Image", SAMPLE_PNG));
+        violations.add(validator.validateValue(TestPostRequest.class, "name", ""));
+        return violations;
+    }
+}
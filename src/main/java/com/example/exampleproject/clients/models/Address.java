@@ -1,7 +1,9 @@
 package com.example.exampleproject.clients.models;
 
+import com.example.exampleproject.processor.GenerateJsonSerializer;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+@GenerateJsonSerializer
 public record Address(
         @JsonProperty("cep") String zipCode,
         @JsonProperty("logradouro") String street,
@@ -1,7 +1,9 @@
 package com.example.exampleproject.clients.models;
 
+import com.example.exampleproject.processor.GenerateJsonSerializer;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+@GenerateJsonSerializer
 @Schema(description = "Represents a JsonPlaceholder Post with details like title and body.")
 public record JsonPlaceholderPost(
         @Schema(description = "Unique identifier of the post.", example = "1")
@@ -2,16 +2,31 @@ package com.example.exampleproject.configs;
 
 import com.example.exampleproject.configs.datetimes.deserializers.*;
 import com.example.exampleproject.configs.datetimes.serializers.*;
-import com.example.exampleproject.utils.ZoneUtils;
+import com.example.exampleproject.configs.json.GeneratedSerializersModule;
+import com.example.exampleproject.configs.json.JsonBufferRecyclerPool;
+import com.example.exampleproject.configs.json.PrettyPrintHttpMessageConverter;
+import com.example.exampleproject.utils.ProjectTimeService;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 
 import java.time.*;
 import java.util.Date;
@@ -20,20 +35,103 @@ import java.util.Date;
  * Configuration class for Jackson ObjectMapper.
  * Sets up custom serialization and deserialization for Java time types
  * and configures various Jackson features.
+ * <p>
+ * Output is compact unless {@code json.indent-output} is enabled (as in the {@code dev} profile); single
+ * requests can still ask for an indented response, see {@link PrettyPrintHttpMessageConverter}. With
+ * {@code json.blackbird.enabled}, the {@link BlackbirdModule} replaces the reflective property access with
+ * generated accessors.
+ * <p>
+ * The records annotated with {@code @GenerateJsonSerializer} are written by the serializers generated for them at
+ * compile time ({@link GeneratedSerializersModule}), with the same output as Jackson's own serializers; they can be
+ * turned off with {@code json.generated-serializers.enabled}. Deserialization always goes through Jackson's own
+ * deserializers, which enforce {@code @JsonProperty(required = true)}.
+ * <p>
+ * The same configuration backs the Smile ({@code application/x-jackson-smile}) and CBOR ({@code application/cbor})
+ * converters, chosen through the {@code Accept} and {@code Content-Type} headers for callers that do not need
+ * readable JSON. JSON stays the default. The Feign clients use these converters too, through the default Spring
+ * encoder and decoder, when a client method declares one of these media types in {@code consumes} or
+ * {@code produces}.
+ * <p>
+ * The three mappers take their parser and generator buffers from a single {@link JsonBufferRecyclerPool} shared by
+ * all threads, bounded by {@code json.recycler-pool.max-size}, rather than from Jackson's per-thread recyclers.
  */
 @Configuration
 public class JacksonConfig {
 
+    private final ProjectTimeService timeService;
+
+    @Value("${json.indent-output:false}")
+    private boolean indentOutput;
+
+    @Value("${json.blackbird.enabled:false}")
+    private boolean blackbirdEnabled;
+
+    @Value("${json.generated-serializers.enabled:true}")
+    private boolean generatedSerializersEnabled;
+
+    @Value("${json.recycler-pool.max-size:" + JsonBufferRecyclerPool.DEFAULT_MAX_SIZE + "}")
+    private int recyclerPoolMaxSize = JsonBufferRecyclerPool.DEFAULT_MAX_SIZE;
+
+    @Autowired
+    public JacksonConfig(ProjectTimeService timeService) {
+        this.timeService = timeService;
+    }
+
+    @Bean
+    public JsonBufferRecyclerPool jsonBufferRecyclerPool() {
+        return new JsonBufferRecyclerPool(recyclerPoolMaxSize);
+    }
+
     @Bean
     public ObjectMapper objectMapper() {
-        return JsonMapper.builder()
-                .addModule(createJavaTimeModule())
+        JsonFactory factory = JsonFactory.builder().recyclerPool(jsonBufferRecyclerPool()).build();
+        return configure(JsonMapper.builder(factory))
+                .configure(SerializationFeature.INDENT_OUTPUT, indentOutput)
+                .build();
+    }
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new PrettyPrintHttpMessageConverter(objectMapper);
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter mappingJackson2SmileHttpMessageConverter() {
+        SmileFactory factory = SmileFactory.builder().recyclerPool(jsonBufferRecyclerPool()).build();
+        return new MappingJackson2SmileHttpMessageConverter(configure(SmileMapper.builder(factory)).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter mappingJackson2CborHttpMessageConverter() {
+        CBORFactory factory = CBORFactory.builder().recyclerPool(jsonBufferRecyclerPool()).build();
+        return new MappingJackson2CborHttpMessageConverter(configure(CBORMapper.builder(factory)).build());
+    }
+
+    /**
+     * Applies the modules and features shared by the JSON, Smile and CBOR mappers.
+     *
+     * @param builder the builder of the format's mapper
+     * @return the same builder
+     */
+    private <M extends ObjectMapper, B extends MapperBuilder<M, B>> B configure(B builder) {
+        builder.addModule(createJavaTimeModule())
                 .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
                 .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                // The BusinessException of an invalid date reaches the exception handler as thrown, stackless,
+                // instead of wrapped in a JsonMappingException and an HttpMessageNotReadableException
+                .disable(DeserializationFeature.WRAP_EXCEPTIONS)
                 .enable(MapperFeature.ALLOW_EXPLICIT_PROPERTY_RENAMING)
-                .enable(SerializationFeature.INDENT_OUTPUT)
-                .serializationInclusion(JsonInclude.Include.NON_NULL)
-                .build();
+                .serializationInclusion(JsonInclude.Include.NON_NULL);
+
+        if (blackbirdEnabled) {
+            builder.addModule(new BlackbirdModule());
+        }
+
+        if (generatedSerializersEnabled) {
+            builder.addModule(new GeneratedSerializersModule());
+        }
+
+        return builder;
     }
 
     /**
@@ -47,29 +145,28 @@ public class JacksonConfig {
      * <li>{@link LocalTime}</li>
      * <li>{@link Date}</li>
      * </ul>
-     * The date and time formats are derived from predefined patterns and the project's time zone.
+     * The date and time formats are derived from predefined patterns and the project's time zone, which the
+     * serializers take from the injected {@link ProjectTimeService}.
      *
      * @return a configured {@link JavaTimeModule} instance
      */
     private JavaTimeModule createJavaTimeModule() {
 
-        ZoneId projectZoneId = ZoneUtils.getProjectZoneId();
-
         JavaTimeModule module = new JavaTimeModule();
 
-        module.addSerializer(LocalDate.class, new CustomLocalDateSerializer(projectZoneId));
+        module.addSerializer(LocalDate.class, new CustomLocalDateSerializer(timeService));
         module.addDeserializer(LocalDate.class, new CustomLocalDateDeserializer());
 
-        module.addSerializer(LocalDateTime.class, new CustomLocalDateTimeSerializer(projectZoneId));
+        module.addSerializer(LocalDateTime.class, new CustomLocalDateTimeSerializer(timeService));
         module.addDeserializer(LocalDateTime.class, new CustomLocalDateTimeDeserializer());
 
-        module.addSerializer(ZonedDateTime.class, new CustomZonedDateTimeSerializer(projectZoneId));
+        module.addSerializer(ZonedDateTime.class, new CustomZonedDateTimeSerializer(timeService));
         module.addDeserializer(ZonedDateTime.class, new CustomZonedDateTimeDeserializer());
 
-        module.addSerializer(LocalTime.class, new CustomLocalTimeSerializer(projectZoneId));
+        module.addSerializer(LocalTime.class, new CustomLocalTimeSerializer(timeService));
         module.addDeserializer(LocalTime.class, new CustomLocalTimeDeserializer());
 
-        module.addSerializer(Date.class, new CustomDateSerializer(projectZoneId));
+        module.addSerializer(Date.class, new CustomDateSerializer(timeService));
         module.addDeserializer(Date.class, new CustomDateDeserializer());
 
         return module;
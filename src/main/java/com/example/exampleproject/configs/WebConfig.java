@@ -1,10 +1,13 @@
 package com.example.exampleproject.configs;
 
+import com.example.exampleproject.configs.validation.CostOrderedRequestValidator;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.lang.NonNull;
+import org.springframework.validation.Validator;
 import org.springframework.web.servlet.LocaleResolver;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -15,6 +18,13 @@ import java.util.Locale;
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private final CostOrderedRequestValidator requestValidator;
+
+    @Autowired
+    public WebConfig(CostOrderedRequestValidator requestValidator) {
+        this.requestValidator = requestValidator;
+    }
+
     @Bean
     public LocaleResolver localeResolver() {
         return new AcceptHeaderLocaleResolver() {
@@ -41,6 +51,11 @@ public class WebConfig implements WebMvcConfigurer {
         return defaultLocale;
     }
 
+    @Override
+    public Validator getValidator() {
+        return requestValidator;
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         registry.addResourceHandler("/**")
@@ -1,5 +1,7 @@
 package com.example.exampleproject.configs.annotations;
 
+import com.example.exampleproject.configs.annotations.validators.Base64FileContentListValidator;
+import com.example.exampleproject.configs.annotations.validators.Base64FileContentValidator;
 import com.example.exampleproject.configs.annotations.validators.Base64FileListValidator;
 import com.example.exampleproject.configs.annotations.validators.Base64FileMapValidator;
 import com.example.exampleproject.configs.annotations.validators.Base64FileValidator;
@@ -12,6 +14,8 @@ import java.lang.annotation.*;
  * Annotation used to validate whether the provided field or parameter is a valid base64 encoded file
  * string(s) adhering to specific constraints such as file type, size, and count.
  * This annotation can be applied to String fields, lists of Strings, or maps containing base64-encoded file content.
+ * It can also be applied to {@link com.example.exampleproject.configs.files.Base64FileContent} handles (single or
+ * lists), whose content is decoded during deserialization without building the Base64 string.
  *
  * <h4>Validation ensures the following:</h4>
  * <ul>
@@ -26,6 +30,8 @@ import java.lang.annotation.*;
  *   <li><strong>{@link Base64FileValidator}:</strong> Validates single String fields.</li>
  *   <li><strong>{@link Base64FileListValidator}:</strong> Validates lists of base64-encoded files.</li>
  *   <li><strong>{@link Base64FileMapValidator}:</strong> Validates maps containing base64-encoded files as values.</li>
+ *   <li><strong>{@link Base64FileContentValidator}:</strong> Validates single decoded file handles.</li>
+ *   <li><strong>{@link Base64FileContentListValidator}:</strong> Validates lists of decoded file handles.</li>
  * </ol>
  *
  * <h4>Attributes:</h4>
@@ -39,7 +45,13 @@ import java.lang.annotation.*;
  * </ul>
  */
 @Documented
-@Constraint(validatedBy = {Base64FileValidator.class, Base64FileListValidator.class, Base64FileMapValidator.class})
+@Constraint(validatedBy = {
+        Base64FileValidator.class,
+        Base64FileListValidator.class,
+        Base64FileMapValidator.class,
+        Base64FileContentValidator.class,
+        Base64FileContentListValidator.class
+})
 @Target({ElementType.FIELD, ElementType.PARAMETER})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Base64FileValidation {
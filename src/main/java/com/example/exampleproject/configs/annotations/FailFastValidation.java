@@ -0,0 +1,23 @@
+package com.example.exampleproject.configs.annotations;
+
+import com.example.exampleproject.configs.validation.CostOrderedRequestValidator;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a handler method (or every handler method of a controller) whose request body validation stops at the
+ * first constraint violation, instead of reporting every invalid field.
+ * <p>
+ * Meant for high-volume endpoints, where a malformed request should cost as little as possible. The response
+ * then carries a single validation error. See {@link CostOrderedRequestValidator} for the other ways to enable
+ * the fail-fast mode.
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface FailFastValidation {
+}
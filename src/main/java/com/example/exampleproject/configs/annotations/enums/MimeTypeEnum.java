@@ -1,10 +1,9 @@
 package com.example.exampleproject.configs.annotations.enums;
 
+import com.example.exampleproject.enums.EnumIndex;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
-import java.util.Arrays;
-
 /**
  * Enum representing various MIME types associated with specific file extensions.
  * This enumeration maps file extensions to their corresponding MIME types,
@@ -94,6 +93,12 @@ public enum MimeTypeEnum {
     PERL("text/x-perl", "pl"),
     LUA("text/x-lua", "lua");
 
+    private static final EnumIndex<MimeTypeEnum, String> BY_MIME_TYPE =
+            EnumIndex.of(MimeTypeEnum.class, MimeTypeEnum::getMimeType);
+
+    private static final EnumIndex<MimeTypeEnum, String> BY_EXTENSION =
+            EnumIndex.ofIgnoringCase(MimeTypeEnum.class, MimeTypeEnum::getExtension);
+
     private final String mimeType;
     private final String extension;
 
@@ -105,11 +110,8 @@ public enum MimeTypeEnum {
      *         or not found in the predefined set of MIME types.
      */
     public static String getExtensionFromMimeType(String mimeType) {
-        return Arrays.stream(MimeTypeEnum.values())
-                .filter(type -> type.getMimeType().equals(mimeType))
-                .findFirst()
-                .map(MimeTypeEnum::getExtension)
-                .orElse(null);
+        MimeTypeEnum type = BY_MIME_TYPE.get(mimeType);
+        return type != null ? type.getExtension() : null;
     }
 
     /**
@@ -123,9 +125,7 @@ public enum MimeTypeEnum {
             return true;
         }
 
-        return Arrays.stream(MimeTypeEnum.values())
-                .map(MimeTypeEnum::getExtension)
-                .noneMatch(ext -> ext.equalsIgnoreCase(extension));
+        return !BY_EXTENSION.contains(extension);
     }
 
 }
@@ -0,0 +1,15 @@
+package com.example.exampleproject.configs.annotations.groups;
+
+import jakarta.validation.GroupSequence;
+import jakarta.validation.groups.Default;
+
+/**
+ * Validates the cheap constraints of the {@link Default} group first and the {@link ExpensiveChecks} only when
+ * none of them failed, so a malformed request is rejected without decoding its files.
+ * <p>
+ * The request classes carrying {@link ExpensiveChecks} constraints redefine their default group with the same
+ * order, which makes this sequence and a validation with the {@link Default} group equivalent for them.
+ */
+@GroupSequence({Default.class, ExpensiveChecks.class})
+public interface CostOrderedChecks {
+}
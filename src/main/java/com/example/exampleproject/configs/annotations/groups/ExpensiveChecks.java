@@ -0,0 +1,15 @@
+package com.example.exampleproject.configs.annotations.groups;
+
+/**
+ * Validation group of the constraints whose cost depends on the size of the value, such as
+ * {@link com.example.exampleproject.configs.annotations.Base64FileValidation} (Base64 decoding and Tika
+ * detection).
+ * <p>
+ * Request bodies are validated in {@link CostOrderedChecks} order, so these constraints only run once every
+ * constraint of the {@link jakarta.validation.groups.Default Default} group passed. A class using this group
+ * must also redefine its default group sequence as {@code @GroupSequence({TheClass.class, ExpensiveChecks.class})},
+ * so a plain {@code validator.validate(request)} outside the web layer still evaluates these constraints, in the
+ * same order.
+ */
+public interface ExpensiveChecks {
+}
@@ -0,0 +1,60 @@
+package com.example.exampleproject.configs.annotations.validators;
+
+import com.example.exampleproject.configs.annotations.Base64FileValidation;
+import com.example.exampleproject.configs.annotations.validators.base.AbstractListValidator;
+import com.example.exampleproject.configs.annotations.validators.cache.MimeTypeDetectionCache;
+import com.example.exampleproject.configs.files.Base64FileContent;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+public class Base64FileContentListValidator extends AbstractListValidator
+        implements ConstraintValidator<Base64FileValidation, List<Base64FileContent>> {
+
+    private Base64FileContentValidator base64FileContentValidator;
+    private MimeTypeDetectionCache mimeTypeDetectionCache;
+    private int maxFileCount;
+
+    /**
+     * Sets the cache of MIME type detections passed on to the validator of each item.
+     *
+     * @param mimeTypeDetectionCache the shared detection cache, or {@code null} to detect every time
+     */
+    @Autowired(required = false)
+    public void setMimeTypeDetectionCache(MimeTypeDetectionCache mimeTypeDetectionCache) {
+        this.mimeTypeDetectionCache = mimeTypeDetectionCache;
+    }
+
+    @Override
+    public void initialize(Base64FileValidation annotation) {
+        this.maxFileCount = annotation.maxFileCount();
+        base64FileContentValidator = new Base64FileContentValidator();
+        base64FileContentValidator.setMimeTypeDetectionCache(mimeTypeDetectionCache);
+        base64FileContentValidator.initialize(annotation);
+    }
+
+    @Override
+    public boolean isValid(List<Base64FileContent> values, ConstraintValidatorContext context) {
+        if (isNullOrEmpty(values)) {
+            return true;
+        }
+
+        if (validateMaxSize(values, maxFileCount, context,
+                "msg.validation.request.field.base64file.max.file.count")) {
+            return false;
+        }
+
+        if (!validateNoDuplicates(values, context)) {
+            return false;
+        }
+
+        return validateEachItem(values, this::validateBase64File, context,
+                "msg.validation.request.field.base64file.invalid.list");
+    }
+
+    private boolean validateBase64File(Base64FileContent value, ConstraintValidatorContext context) {
+        return base64FileContentValidator.isValid(value, context);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.exampleproject.configs.annotations.validators;
+
+import com.example.exampleproject.configs.annotations.Base64FileValidation;
+import com.example.exampleproject.configs.annotations.validators.base.AbstractFileValidator;
+import com.example.exampleproject.configs.files.Base64FileContent;
+import com.example.exampleproject.utils.TikaUtils;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tika.Tika;
+
+import java.util.Objects;
+
+/**
+ * Validator for files already decoded into a {@link Base64FileContent} handle, applying the same
+ * constraints and messages as {@link Base64FileValidator} does for String fields annotated with
+ * {@link Base64FileValidation}.
+ * <p>
+ * Since the content was decoded during deserialization, this validator only inspects the decoding
+ * status, the decoded size and the MIME type detected from the bytes.
+ */
+@Slf4j
+public class Base64FileContentValidator
+        extends AbstractFileValidator implements ConstraintValidator<Base64FileValidation, Base64FileContent> {
+
+    private Tika tika;
+
+    @Override
+    public void initialize(Base64FileValidation annotation) {
+        this.allowedTypes = annotation.allowedTypes();
+        this.maxSizeInMB = validateMaxSizeInMB(annotation.maxSizeInMB());
+        this.tika = TikaUtils.getTika();
+    }
+
+    @Override
+    public boolean isValid(Base64FileContent value, ConstraintValidatorContext context) {
+        if (Objects.isNull(value)) {
+            return true;
+        }
+
+        if (value.getStatus() == Base64FileContent.Status.INVALID_FORMAT) {
+            addConstraintViolation(context, "msg.validation.request.field.base64file.invalid.format");
+            return false;
+        }
+
+        if (value.getStatus() == Base64FileContent.Status.INVALID_CONTENT) {
+            addConstraintViolation(context, "msg.validation.request.field.base64file.invalid.content");
+            return false;
+        }
+
+        if (!validateFileSize(value.getSize(), context, "msg.validation.request.field.base64file.invalid.size")) {
+            return false;
+        }
+
+        try {
+            byte[] content = value.getBytes();
+            String detectedMimeType =
+                    detectMimeTypeFromPrefix(tika, content, Math.min(content.length, MIME_SNIFF_LENGTH));
+
+            if (isMimeTypeNotAllowed(detectedMimeType)) {
+                log.warn("The MIME detected type ({}) is not allowed. Expected types: {}",
+                        detectedMimeType, String.join(", ", allowedTypes));
+                addConstraintViolation(context,
+                        "msg.validation.request.field.base64file.invalid.detected.type",
+                        detectedMimeType,
+                        String.join(", ", allowedTypes)
+                );
+                return false;
+            }
+
+            return true;
+        } catch (Exception e) {
+            log.error("Error when detecting mime type using Apache Tika: {}", e.getMessage(), e);
+            addConstraintViolation(context, "msg.validation.request.field.base64file.invalid.general");
+            return false;
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.example.exampleproject.configs.annotations.validators;
 
 import com.example.exampleproject.configs.annotations.Base64FileValidation;
 import com.example.exampleproject.configs.annotations.validators.base.AbstractListValidator;
+import com.example.exampleproject.configs.annotations.validators.cache.MimeTypeDetectionCache;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.List;
 
@@ -11,12 +13,24 @@ public class Base64FileListValidator extends AbstractListValidator
         implements ConstraintValidator<Base64FileValidation, List<String>> {
 
     private Base64FileValidator base64FileValidator;
+    private MimeTypeDetectionCache mimeTypeDetectionCache;
     private int maxFileCount;
 
+    /**
+     * Sets the cache of MIME type detections passed on to the validator of each item.
+     *
+     * @param mimeTypeDetectionCache the shared detection cache, or {@code null} to detect every time
+     */
+    @Autowired(required = false)
+    public void setMimeTypeDetectionCache(MimeTypeDetectionCache mimeTypeDetectionCache) {
+        this.mimeTypeDetectionCache = mimeTypeDetectionCache;
+    }
+
     @Override
     public void initialize(Base64FileValidation annotation) {
         this.maxFileCount = annotation.maxFileCount();
         base64FileValidator = new Base64FileValidator();
+        base64FileValidator.setMimeTypeDetectionCache(mimeTypeDetectionCache);
         base64FileValidator.initialize(annotation);
     }
 
@@ -3,11 +3,13 @@ package com.example.exampleproject.configs.annotations.validators;
 import com.example.exampleproject.configs.annotations.Base64FileValidation;
 import com.example.exampleproject.configs.annotations.enums.MimeTypeEnum;
 import com.example.exampleproject.configs.annotations.validators.base.AbstractValidator;
+import com.example.exampleproject.configs.annotations.validators.cache.MimeTypeDetectionCache;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.HashSet;
 import java.util.Map;
@@ -48,10 +50,23 @@ public class Base64FileMapValidator
 
     private Base64FileValidator base64FileValidator;
 
+    private MimeTypeDetectionCache mimeTypeDetectionCache;
+
+    /**
+     * Sets the cache of MIME type detections passed on to the validator of each item.
+     *
+     * @param mimeTypeDetectionCache the shared detection cache, or {@code null} to detect every time
+     */
+    @Autowired(required = false)
+    public void setMimeTypeDetectionCache(MimeTypeDetectionCache mimeTypeDetectionCache) {
+        this.mimeTypeDetectionCache = mimeTypeDetectionCache;
+    }
+
     @Override
     public void initialize(Base64FileValidation annotation) {
         this.maxFileCount = annotation.maxFileCount();
         base64FileValidator = new Base64FileValidator();
+        base64FileValidator.setMimeTypeDetectionCache(mimeTypeDetectionCache);
         base64FileValidator.initialize(annotation);
 
         if (this.maxFileCount <= NumberUtils.INTEGER_ZERO) {
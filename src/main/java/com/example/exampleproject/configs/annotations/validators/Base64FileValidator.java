@@ -2,13 +2,15 @@ package com.example.exampleproject.configs.annotations.validators;
 
 import com.example.exampleproject.configs.annotations.Base64FileValidation;
 import com.example.exampleproject.configs.annotations.validators.base.AbstractFileValidator;
+import com.example.exampleproject.utils.Base64FileUtils;
+import com.example.exampleproject.utils.BufferPool;
+import com.example.exampleproject.utils.TikaUtils;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.tika.Tika;
 
-import java.util.Base64;
 import java.util.regex.Pattern;
 
 /**
@@ -18,6 +20,7 @@ import java.util.regex.Pattern;
  * <p>
  * This validator validates base64 content by:
  * - Checking if the content matches a valid base64 file format.
+ * - Decoding the content in chunks through pooled buffers, keeping only the leading bytes needed for detection.
  * - Verifying that the decoded file size does not exceed the specified maximum file size (in MB).
  * - Ensuring that the MIME type of the file matches one of the allowed types.
  * <p>
@@ -40,7 +43,7 @@ public class Base64FileValidator
     public void initialize(Base64FileValidation annotation) {
         this.allowedTypes = annotation.allowedTypes();
         this.maxSizeInMB = validateMaxSizeInMB(annotation.maxSizeInMB());
-        this.tika = new Tika();
+        this.tika = TikaUtils.getTika();
     }
 
     @Override
@@ -54,17 +57,18 @@ public class Base64FileValidator
             return false;
         }
 
-        String base64Content = value.substring(value.indexOf(",") + NumberUtils.INTEGER_ONE);
+        int payloadStart = value.indexOf(",") + NumberUtils.INTEGER_ONE;
 
-        try {
-            byte[] decodedBytes = Base64.getDecoder().decode(base64Content);
+        try (BufferPool.Buffer prefix = BufferPool.acquire(MIME_SNIFF_LENGTH)) {
+            Base64FileUtils.PrefixCollector collector = new Base64FileUtils.PrefixCollector(prefix.array());
+            long decodedSize = Base64FileUtils.decode(value, payloadStart, value.length(), collector);
 
-            if (!validateFileSize(decodedBytes.length, context, 
+            if (!validateFileSize(decodedSize, context,
                     "msg.validation.request.field.base64file.invalid.size")) {
                 return false;
             }
 
-            String detectedMimeType = tika.detect(decodedBytes);
+            String detectedMimeType = detectMimeTypeFromPrefix(tika, prefix.array(), collector.getLength());
 
             if (isMimeTypeNotAllowed(detectedMimeType)) {
                 log.warn("The MIME detected type ({}) is not allowed. Expected types: {}",
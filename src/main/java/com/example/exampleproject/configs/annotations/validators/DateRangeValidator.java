@@ -2,31 +2,36 @@ package com.example.exampleproject.configs.annotations.validators;
 
 import com.example.exampleproject.configs.annotations.DateRangeValidation;
 import com.example.exampleproject.configs.annotations.validators.base.AbstractValidator;
-import com.example.exampleproject.utils.DateUtils;
-import com.fasterxml.jackson.annotation.JsonProperty;
+import com.example.exampleproject.configs.annotations.validators.cache.DateRangePlanCache;
+import com.example.exampleproject.configs.annotations.validators.cache.DateRangePlanCache.DateField;
+import com.example.exampleproject.configs.annotations.validators.cache.DateRangePlanCache.DateRangePlan;
+import com.example.exampleproject.utils.ProjectTimeService;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import lombok.extern.slf4j.Slf4j;
-
-import java.lang.reflect.Field;
-import java.time.*;
-import java.util.Objects;
+import org.springframework.beans.factory.annotation.Autowired;
 
 @Slf4j
 public class DateRangeValidator extends AbstractValidator implements ConstraintValidator<DateRangeValidation, Object> {
 
     private String dateAField;
     private String dateBField;
-    private String dateAJsonProperty;
-    private String dateBJsonProperty;
+    private ProjectTimeService timeService;
+
+    /**
+     * Sets the source of the project zone in which dates of different types are compared.
+     *
+     * @param timeService the project time service
+     */
+    @Autowired
+    public void setTimeService(ProjectTimeService timeService) {
+        this.timeService = timeService;
+    }
 
     @Override
     public void initialize(DateRangeValidation constraintAnnotation) {
         this.dateAField = constraintAnnotation.dateAField();
         this.dateBField = constraintAnnotation.dateBField();
-
-        this.dateAJsonProperty = this.dateAField;
-        this.dateBJsonProperty = this.dateBField;
     }
 
     /**
@@ -35,19 +40,19 @@ public class DateRangeValidator extends AbstractValidator implements ConstraintV
      * @param value   the object containing the date fields to be validated
      * @param context context in which the constraint is evaluated
      * @return true if the date in dateAField is not after the date in dateBField, otherwise false
+     * @see DateRangePlanCache
      */
     @Override
     public boolean isValid(Object value, ConstraintValidatorContext context) {
         boolean isValid = true;
 
         try {
-            // Get JsonProperty names from the actual object being validated
-            Class<?> clazz = value.getClass();
-            dateAJsonProperty = getJsonPropertyName(clazz, dateAField);
-            dateBJsonProperty = getJsonPropertyName(clazz, dateBField);
+            DateRangePlan plan = DateRangePlanCache.get(value.getClass(), dateAField, dateBField);
+            DateField dateA = plan.dateA();
+            DateField dateB = plan.dateB();
 
-            Object dateAValue = clazz.getMethod(dateAField).invoke(value);
-            Object dateBValue = clazz.getMethod(dateBField).invoke(value);
+            Object dateAValue = dateA.read(value);
+            Object dateBValue = dateB.read(value);
 
             if (dateAValue == null && dateBValue == null) {
                 return true;
@@ -56,21 +61,18 @@ public class DateRangeValidator extends AbstractValidator implements ConstraintV
             if (dateAValue == null) {
                 addConstraintViolationWithPropertyNode(context, dateAField,
                         "msg.validation.request.field.date.range.empty",
-                        dateAJsonProperty, dateBJsonProperty);
+                        dateA.jsonProperty(), dateB.jsonProperty());
                 isValid = false;
             } else if (dateBValue == null) {
                 addConstraintViolationWithPropertyNode(context, dateBField,
                         "msg.validation.request.field.date.range.empty",
-                        dateAJsonProperty, dateBJsonProperty);
+                        dateA.jsonProperty(), dateB.jsonProperty());
                 isValid = false;
             } else {
-                Instant instantA = DateUtils.toInstant(dateAValue);
-                Instant instantB = DateUtils.toInstant(dateBValue);
-
-                if (instantA.isAfter(instantB)) {
+                if (plan.isAfter(dateAValue, dateBValue, timeService)) {
                     addConstraintViolationWithPropertyNode(context, dateAField,
                             "msg.validation.request.field.date.range.invalid",
-                            dateAJsonProperty, dateBJsonProperty);
+                            dateA.jsonProperty(), dateB.jsonProperty());
                     isValid = false;
                 }
             }
@@ -82,27 +84,4 @@ public class DateRangeValidator extends AbstractValidator implements ConstraintV
 
         return isValid;
     }
-
-    /**
-     * Gets the JsonProperty value for a field if it exists.
-     *
-     * @param clazz     the class containing the field
-     * @param fieldName the name of the field
-     * @return the JsonProperty value if it exists, otherwise the original field name
-     */
-    private String getJsonPropertyName(Class<?> clazz, String fieldName) {
-        try {
-            Field field = clazz.getDeclaredField(fieldName);
-            JsonProperty jsonProperty = field.getAnnotation(JsonProperty.class);
-            if (Objects.nonNull(jsonProperty)) {
-                String value = jsonProperty.value().trim();
-                if (!value.isEmpty()) {
-                    return value;
-                }
-            }
-        } catch (NoSuchFieldException | SecurityException e) {
-            log.warn("Error getting JsonProperty for field {}: {}", fieldName, e.getMessage());
-        }
-        return fieldName;
-    }
 }
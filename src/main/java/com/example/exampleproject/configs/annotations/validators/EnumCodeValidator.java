@@ -7,8 +7,6 @@ import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.Arrays;
-
 /**
  * Validator to check if a numeric value matches with the "code" of a constant in a specified Enum class.
  */
@@ -23,7 +21,7 @@ public class EnumCodeValidator
 
     @Override
     public boolean isValid(Integer value, ConstraintValidatorContext context) {
-        if (accessorMethod == null) {
+        if (accessor == null) {
             context.disableDefaultConstraintViolation();
 
             String errorMessage = MessageUtils.getMessage(
@@ -40,8 +38,7 @@ public class EnumCodeValidator
             return true;
         }
 
-        boolean isValid = Arrays.stream(enumClass.getEnumConstants())
-                .anyMatch(enumConstant -> enumValueMatches(enumConstant, value));
+        boolean isValid = findByValue(value) != null;
 
         if (!isValid) {
             addConstraintViolationWithValidValues(context, value, 
@@ -6,12 +6,10 @@ import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.Arrays;
-
 /**
  * Validator to check if a value matches with the custom "value" of an Enum,
  * if available (via a "getValue" method), or falls back to validating against
- * the literal name of the Enum constant.
+ * the literal name of the Enum constant, both ignoring case.
  */
 @Slf4j
 public class EnumValueValidator
@@ -28,27 +26,7 @@ public class EnumValueValidator
             return true;
         }
 
-        for (Enum<?> enumConstant : enumClass.getEnumConstants()) {
-            if (enumConstant.name().equals(value) || 
-                enumConstant.name().equalsIgnoreCase(value)) {
-                return true;
-            }
-
-            if (accessorMethod != null) {
-                try {
-                    Object enumValue = accessorMethod.invoke(enumConstant);
-                    if (enumValue instanceof String string && string.equalsIgnoreCase(value)) {
-                        return true;
-                    }
-                } catch (Exception e) {
-                    log.debug("Error accessing getValue for enum {}: {}", 
-                            enumConstant.name(), e.getMessage());
-                }
-            }
-        }
-
-        boolean isValid = Arrays.stream(enumClass.getEnumConstants())
-                .anyMatch(enumConstant -> enumValueMatches(enumConstant, value));
+        boolean isValid = findIgnoringCase(value) != null;
 
         if (!isValid) {
             addConstraintViolationWithValidValues(context, value, 
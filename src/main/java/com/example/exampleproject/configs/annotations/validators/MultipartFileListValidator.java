@@ -2,9 +2,11 @@ package com.example.exampleproject.configs.annotations.validators;
 
 import com.example.exampleproject.configs.annotations.MultipartFileValidation;
 import com.example.exampleproject.configs.annotations.validators.base.AbstractListValidator;
+import com.example.exampleproject.configs.annotations.validators.cache.MimeTypeDetectionCache;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.HashSet;
@@ -23,12 +25,24 @@ public class MultipartFileListValidator
         extends AbstractListValidator implements ConstraintValidator<MultipartFileValidation, List<MultipartFile>> {
 
     private MultipartFileValidator multipartFileValidator;
+    private MimeTypeDetectionCache mimeTypeDetectionCache;
     private int maxFileCount;
 
+    /**
+     * Sets the cache of MIME type detections passed on to the validator of each item.
+     *
+     * @param mimeTypeDetectionCache the shared detection cache, or {@code null} to detect every time
+     */
+    @Autowired(required = false)
+    public void setMimeTypeDetectionCache(MimeTypeDetectionCache mimeTypeDetectionCache) {
+        this.mimeTypeDetectionCache = mimeTypeDetectionCache;
+    }
+
     @Override
     public void initialize(MultipartFileValidation annotation) {
         this.maxFileCount = annotation.maxFileCount();
         multipartFileValidator = new MultipartFileValidator();
+        multipartFileValidator.setMimeTypeDetectionCache(mimeTypeDetectionCache);
         multipartFileValidator.initialize(annotation);
     }
 
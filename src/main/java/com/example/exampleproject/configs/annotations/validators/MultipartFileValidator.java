@@ -3,6 +3,8 @@ package com.example.exampleproject.configs.annotations.validators;
 import com.example.exampleproject.configs.annotations.MultipartFileValidation;
 import com.example.exampleproject.configs.annotations.enums.MimeTypeEnum;
 import com.example.exampleproject.configs.annotations.validators.base.AbstractFileValidator;
+import com.example.exampleproject.utils.BufferPool;
+import com.example.exampleproject.utils.TikaUtils;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import lombok.extern.slf4j.Slf4j;
@@ -30,7 +32,7 @@ public class MultipartFileValidator
     public void initialize(MultipartFileValidation annotation) {
         this.allowedTypes = annotation.allowedTypes();
         this.maxSizeInMB = validateMaxSizeInMB(annotation.maxSizeInMB());
-        this.tika = new Tika();
+        this.tika = TikaUtils.getTika();
     }
 
     @Override
@@ -61,14 +63,17 @@ public class MultipartFileValidator
     }
 
     /**
-     * Detects the MIME type of the provided file using Apache Tika.
+     * Detects the MIME type of the provided file using Apache Tika, reading only its leading bytes
+     * into a pooled buffer.
      *
      * @param file the file to detect.
      * @return the detected MIME type.
      */
     private String detectMimeType(MultipartFile file) {
-        try (InputStream is = file.getInputStream()) {
-            return tika.detect(is);
+        try (InputStream is = file.getInputStream();
+             BufferPool.Buffer prefix = BufferPool.acquire(MIME_SNIFF_LENGTH)) {
+            int length = is.readNBytes(prefix.array(), 0, MIME_SNIFF_LENGTH);
+            return detectMimeTypeFromPrefix(tika, prefix.array(), length);
         } catch (IOException e) {
             log.warn("Error detecting real MIME with tika. original contentType: {}", file.getContentType(), e);
             return file.getContentType();
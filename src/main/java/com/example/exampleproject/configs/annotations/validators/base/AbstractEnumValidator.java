@@ -1,28 +1,50 @@
 package com.example.exampleproject.configs.annotations.validators.base;
 
+import com.example.exampleproject.enums.EnumIndex;
+import com.example.exampleproject.utils.AccessorBinder;
 import com.example.exampleproject.utils.MessageUtils;
 import jakarta.validation.ConstraintValidatorContext;
 import lombok.extern.slf4j.Slf4j;
 
-import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Abstract base class for validators that validate enum values.
  * <p>
- * This class provides common methods for validating enum values, such as
- * checking if a value matches an enum constant.
+ * The enum constants are read once, when the validator is initialized, into immutable hash indexes of their
+ * accessor values and of their names and textual values compared ignoring case, so validating a value is a
+ * single lookup instead of a call per constant. The accessor is bound once through {@link AccessorBinder}, and
+ * the list of valid values reported in violation messages is computed at the same time.
  */
 @Slf4j
 public abstract class AbstractEnumValidator extends AbstractValidator {
 
     protected Class<? extends Enum<?>> enumClass;
-    protected Method accessorMethod;
+    protected Function<Object, Object> accessor;
     protected String methodName;
 
     /**
-     * Initializes the validator with the enum class and accessor method name.
+     * Accessor value of each constant, compared with {@link Object#equals(Object)}.
+     */
+    private Map<Object, Enum<?>> valueIndex = Map.of();
+
+    /**
+     * Name and textual accessor value of each constant, keyed by their
+     * {@link EnumIndex#foldCase(String) folded case}.
+     */
+    private Map<String, Enum<?>> caseInsensitiveIndex = Map.of();
+
+    /**
+     * Valid values listed in violation messages.
+     */
+    private String validValues = "";
+
+    /**
+     * Initializes the validator with the enum class and accessor method name, and indexes the enum constants.
      *
      * @param enumClass the enum class to validate against
      * @param methodName the name of the accessor method (e.g., "getValue", "getCode")
@@ -31,13 +53,34 @@ public abstract class AbstractEnumValidator extends AbstractValidator {
         this.enumClass = enumClass;
         this.methodName = methodName;
 
-        try {
-            this.accessorMethod = enumClass.getMethod(methodName);
-        } catch (NoSuchMethodException e) {
-            log.warn("The Enum {} does not contain the required '{}' method.",
-                    enumClass.getSimpleName(), methodName, e);
-            this.accessorMethod = null;
+        this.accessor = AccessorBinder.find(enumClass, methodName).orElse(null);
+        if (accessor == null) {
+            log.warn("The Enum {} does not contain the required '{}' method.", enumClass.getSimpleName(), methodName);
         }
+
+        buildIndexes();
+    }
+
+    /**
+     * Finds the constant whose accessor value equals the given value.
+     *
+     * @param value the value to look up
+     * @return the matching constant, or {@code null} if none matches
+     */
+    protected Enum<?> findByValue(Object value) {
+        return valueIndex.get(value);
+    }
+
+    /**
+     * Finds the constant whose name or textual accessor value equals the given value, ignoring case
+     * (as {@link String#equalsIgnoreCase(String)}).
+     *
+     * @param value the value to look up
+     * @return the matching constant, or {@code null} if none matches
+     */
+    protected Enum<?> findIgnoringCase(String value) {
+        Enum<?> enumConstant = caseInsensitiveIndex.get(value);
+        return enumConstant != null ? enumConstant : caseInsensitiveIndex.get(EnumIndex.foldCase(value));
     }
 
     /**
@@ -47,18 +90,16 @@ public abstract class AbstractEnumValidator extends AbstractValidator {
      * @param invalidValue the invalid value
      * @param messageKey the message key for the error message
      */
-    protected void addConstraintViolationWithValidValues(ConstraintValidatorContext context, 
-                                                        Object invalidValue, 
+    protected void addConstraintViolationWithValidValues(ConstraintValidatorContext context,
+                                                        Object invalidValue,
                                                         String messageKey) {
         try {
             context.disableDefaultConstraintViolation();
 
-            String validValues = getValidValuesAsString();
-
             String message = MessageUtils.getMessage(
                     messageKey,
                     String.valueOf(invalidValue),
-                    validValues
+                    getValidValuesAsString()
             );
 
             var builder = context.buildConstraintViolationWithTemplate(message);
@@ -73,16 +114,13 @@ public abstract class AbstractEnumValidator extends AbstractValidator {
     }
 
     /**
-     * Gets a string representation of all valid values for the enum.
+     * Gets a string representation of all valid values for the enum, computed once when the validator is
+     * initialized.
      *
      * @return a comma-separated string of valid values
      */
     protected String getValidValuesAsString() {
-        return Arrays.stream(enumClass.getEnumConstants())
-                .map(this::getEnumValue)
-                .sorted()
-                .map(String::valueOf)
-                .collect(Collectors.joining(", "));
+        return validValues;
     }
 
     /**
@@ -92,9 +130,9 @@ public abstract class AbstractEnumValidator extends AbstractValidator {
      * @return the value of the enum constant
      */
     protected Object getEnumValue(Enum<?> enumConstant) {
-        if (accessorMethod != null) {
+        if (accessor != null) {
             try {
-                return accessorMethod.invoke(enumConstant);
+                return accessor.apply(enumConstant);
             } catch (Exception e) {
                 throw new IllegalArgumentException(
                         "Failed to access the '" + methodName + "' method of Enum " + enumClass.getSimpleName(), e);
@@ -104,29 +142,53 @@ public abstract class AbstractEnumValidator extends AbstractValidator {
         }
     }
 
-    /**
-     * Checks if the provided value matches the enum value.
-     *
-     * @param enumConstant the enum constant
-     * @param value the value to check
-     * @return true if the value matches the enum value, false otherwise
-     */
-    protected boolean enumValueMatches(Enum<?> enumConstant, Object value) {
-        if (accessorMethod != null) {
+    private void buildIndexes() {
+        Map<Object, Enum<?>> values = new HashMap<>();
+        Map<String, Enum<?>> caseInsensitiveValues = new HashMap<>();
+
+        for (Enum<?> enumConstant : enumClass.getEnumConstants()) {
+            caseInsensitiveValues.putIfAbsent(EnumIndex.foldCase(enumConstant.name()), enumConstant);
+
+            if (accessor == null) {
+                values.putIfAbsent(enumConstant.name(), enumConstant);
+                continue;
+            }
+
             try {
-                Object enumValue = accessorMethod.invoke(enumConstant);
-                return enumValue.equals(value);
+                Object enumValue = accessor.apply(enumConstant);
+                if (enumValue != null) {
+                    values.putIfAbsent(enumValue, enumConstant);
+                }
+                if (enumValue instanceof String string) {
+                    caseInsensitiveValues.putIfAbsent(EnumIndex.foldCase(string), enumConstant);
+                }
             } catch (Exception e) {
-                log.warn("Failed to access the '{}' method of Enum {}: {}", 
+                // The constant stays reachable through its name
+                log.warn("Failed to access the '{}' method of Enum {}: {}",
                         methodName, enumClass.getSimpleName(), e.getMessage());
-
-                // Fall back to comparing with the enum name if method access fails
-                return enumConstant.name().equals(value) || 
-                       (value instanceof String string && enumConstant.name().equalsIgnoreCase(string));
+                values.putIfAbsent(enumConstant.name(), enumConstant);
             }
-        } else {
-            return enumConstant.name().equals(value) || 
-                   (value instanceof String string && enumConstant.name().equalsIgnoreCase(string));
+        }
+
+        this.valueIndex = Map.copyOf(values);
+        this.caseInsensitiveIndex = Map.copyOf(caseInsensitiveValues);
+        this.validValues = listValidValues();
+    }
+
+    private String listValidValues() {
+        try {
+            return Arrays.stream(enumClass.getEnumConstants())
+                    .map(this::getEnumValue)
+                    .sorted()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(", "));
+        } catch (Exception e) {
+            log.warn("Could not list the valid values of Enum {}, listing its names instead: {}",
+                    enumClass.getSimpleName(), e.getMessage());
+            return Arrays.stream(enumClass.getEnumConstants())
+                    .map(Enum::name)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
         }
     }
 }
@@ -1,10 +1,16 @@
 package com.example.exampleproject.configs.annotations.validators.base;
 
+import com.example.exampleproject.configs.annotations.validators.cache.MimeTypeDetectionCache;
 import jakarta.validation.ConstraintValidatorContext;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.tika.Tika;
+import org.springframework.beans.factory.annotation.Autowired;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * Abstract base class for validators that validate files.
@@ -15,16 +21,37 @@ import java.util.Arrays;
 @Slf4j
 public abstract class AbstractFileValidator extends AbstractValidator {
 
+    /**
+     * Number of leading bytes inspected to detect a MIME type. Matches the amount read by Tika's
+     * {@code MimeTypes} detector, so detecting on this prefix gives the same result as on the whole file.
+     */
+    protected static final int MIME_SNIFF_LENGTH = 64 * 1024;
+
     protected String[] allowedTypes;
     protected int maxSizeInMB;
 
+    private MimeTypeDetectionCache mimeTypeDetectionCache;
+
     /**
-     * Validates the maximum file size in MB.
+     * Sets the cache of MIME type detections. Injected when the validator is created by Spring; a validator
+     * created directly has no cache and always runs the detection.
+     *
+     * @param mimeTypeDetectionCache the shared detection cache, or {@code null} to detect every time
+     */
+    @Autowired(required = false)
+    public void setMimeTypeDetectionCache(MimeTypeDetectionCache mimeTypeDetectionCache) {
+        this.mimeTypeDetectionCache = mimeTypeDetectionCache;
+    }
+
+    /**
+     * Validates the maximum file size in MB. Also used by
+     * {@link com.example.exampleproject.configs.filters.MultipartSizeLimitFilter}, so the request size limit
+     * matches the size the validators enforce.
      *
      * @param maxSizeInMB the maximum file size in MB
      * @return the validated maximum file size in MB
      */
-    protected int validateMaxSizeInMB(int maxSizeInMB) {
+    public static int validateMaxSizeInMB(int maxSizeInMB) {
         final int DEFAULT_MAX_SIZE_IN_MB = 2;
         if (maxSizeInMB <= NumberUtils.INTEGER_ZERO) {
             log.warn("The value of maxSizeInMB provided is invalid ({}). Default value of {} MB will be used.",
@@ -80,4 +107,22 @@ public abstract class AbstractFileValidator extends AbstractValidator {
         return !Arrays.asList(allowedTypes).contains(mimeType);
     }
 
+    /**
+     * Detects the MIME type from the leading bytes of a file. When a {@link MimeTypeDetectionCache} is set,
+     * results are cached by the digest of those bytes, so resubmitted files skip the Tika detection.
+     *
+     * @param tika   the Tika instance used for detection
+     * @param prefix the array holding the leading bytes of the file
+     * @param length the number of valid bytes in {@code prefix}, at most {@link #MIME_SNIFF_LENGTH}
+     * @return the detected MIME type
+     * @throws IOException if Tika fails to read the bytes
+     */
+    protected String detectMimeTypeFromPrefix(Tika tika, byte[] prefix, int length) throws IOException {
+        MimeTypeDetectionCache.Detection detection = () -> tika.detect(new ByteArrayInputStream(prefix, 0, length));
+        if (Objects.isNull(mimeTypeDetectionCache)) {
+            return detection.detect();
+        }
+        return mimeTypeDetectionCache.detect(prefix, length, detection);
+    }
+
 }
@@ -0,0 +1,179 @@
+package com.example.exampleproject.configs.annotations.validators.cache;
+
+import com.example.exampleproject.ExampleProjectApplication;
+import com.example.exampleproject.configs.annotations.DateRangeValidation;
+import com.example.exampleproject.configs.annotations.repeatables.ValidDateRanges;
+import com.example.exampleproject.utils.AccessorBinder;
+import com.example.exampleproject.utils.DateRangeComparator;
+import com.example.exampleproject.utils.ProjectTimeService;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Cache of the compiled {@link DateRangePlan plans} used by the {@code DateRangeValidator}, one per validated
+ * class and pair of date fields.
+ * <p>
+ * A plan holds everything the validator would otherwise resolve for each validated object: the bound
+ * accessors of both dates, their JSON property names and the {@link DateRangeComparator} chosen from the
+ * declared types of both accessors. Plans are immutable and stored per class in a
+ * {@link ClassValue}, so a lookup is lock-free and a validator instance shared between threads has no
+ * mutable state. When {@code validation.date-range.preload} is enabled, the classes annotated with
+ * {@link DateRangeValidation} in the application packages are compiled at startup, which also reports
+ * annotations referencing missing fields before the first request.
+ */
+@Slf4j
+@Component
+public class DateRangePlanCache implements ApplicationRunner {
+
+    private static final ClassValue<Map<FieldPair, DateRangePlan>> PLANS = new ClassValue<>() {
+        @Override
+        protected Map<FieldPair, DateRangePlan> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    @Value("${validation.date-range.preload:true}")
+    private boolean preload;
+
+    /**
+     * Compiled date range of a class: reading each date of an instance and comparing them are direct calls.
+     *
+     * @param dateA      the first date, which must not be after the second one
+     * @param dateB      the second date
+     * @param comparator the comparison of the dates, chosen from their declared types
+     */
+    public record DateRangePlan(DateField dateA, DateField dateB, DateRangeComparator comparator) {
+
+        /**
+         * @return {@code true} if the first date is after the second one, both being non-null, local dates and
+         * times being placed in the zone of the given {@link ProjectTimeService}
+         */
+        public boolean isAfter(Object dateAValue, Object dateBValue, ProjectTimeService timeService) {
+            return comparator.isAfter(dateAValue, dateBValue, timeService);
+        }
+    }
+
+    /**
+     * Compiled date field of a class.
+     *
+     * @param name         the accessor name given in the annotation
+     * @param jsonProperty the name reported in violation messages, from {@link JsonProperty} when present
+     * @param type         the declared type of the accessor
+     * @param accessor     reads the date from an instance of the class
+     */
+    public record DateField(String name, String jsonProperty, Class<?> type, Function<Object, Object> accessor) {
+
+        public Object read(Object target) {
+            return accessor.apply(target);
+        }
+    }
+
+    private record FieldPair(String dateAField, String dateBField) {
+    }
+
+    /**
+     * Returns the plan of the class for the pair of date fields, compiling it on first use.
+     *
+     * @param type       the validated class
+     * @param dateAField the accessor name of the first date
+     * @param dateBField the accessor name of the second date
+     * @return the compiled plan
+     * @throws IllegalArgumentException if the class has no public no-argument accessor for either field,
+     *                                  in which case nothing is cached
+     */
+    public static DateRangePlan get(Class<?> type, String dateAField, String dateBField) {
+        return PLANS.get(type).computeIfAbsent(new FieldPair(dateAField, dateBField),
+                pair -> compile(type, pair));
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!preload) {
+            return;
+        }
+
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(DateRangeValidation.class));
+        scanner.addIncludeFilter(new AnnotationTypeFilter(ValidDateRanges.class));
+
+        String basePackage = ExampleProjectApplication.class.getPackageName();
+        int compiled = 0;
+        for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+            compiled += preload(candidate.getBeanClassName());
+        }
+        log.info("Compiled {} date range validation plan(s)", compiled);
+    }
+
+    private static int preload(String className) {
+        int compiled = 0;
+        try {
+            Class<?> type = ClassUtils.forName(className, DateRangePlanCache.class.getClassLoader());
+            for (DateRangeValidation annotation : type.getAnnotationsByType(DateRangeValidation.class)) {
+                try {
+                    get(type, annotation.dateAField(), annotation.dateBField());
+                    compiled++;
+                } catch (IllegalArgumentException e) {
+                    log.warn("Invalid @DateRangeValidation on {}: {}", className, e.getMessage());
+                }
+            }
+        } catch (ClassNotFoundException | LinkageError e) {
+            log.warn("Could not load {} to compile its date range validations: {}", className, e.getMessage());
+        }
+        return compiled;
+    }
+
+    private static DateRangePlan compile(Class<?> type, FieldPair pair) {
+        DateField dateA = compileField(type, pair.dateAField());
+        DateField dateB = compileField(type, pair.dateBField());
+        return new DateRangePlan(dateA, dateB, DateRangeComparator.forTypes(dateA.type(), dateB.type()));
+    }
+
+    private static DateField compileField(Class<?> type, String fieldName) {
+        Function<Object, Object> accessor = AccessorBinder.bind(type, fieldName);
+        Class<?> dateType;
+        try {
+            dateType = type.getMethod(fieldName).getReturnType();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(e);
+        }
+
+        return new DateField(fieldName, getJsonPropertyName(type, fieldName), dateType, accessor);
+    }
+
+    /**
+     * Gets the JsonProperty value for a field if it exists.
+     *
+     * @param clazz     the class containing the field
+     * @param fieldName the name of the field
+     * @return the JsonProperty value if it exists, otherwise the original field name
+     */
+    private static String getJsonPropertyName(Class<?> clazz, String fieldName) {
+        try {
+            Field field = clazz.getDeclaredField(fieldName);
+            JsonProperty jsonProperty = field.getAnnotation(JsonProperty.class);
+            if (Objects.nonNull(jsonProperty)) {
+                String value = jsonProperty.value().trim();
+                if (!value.isEmpty()) {
+                    return value;
+                }
+            }
+        } catch (NoSuchFieldException | SecurityException e) {
+            log.warn("Error getting JsonProperty for field {}: {}", fieldName, e.getMessage());
+        }
+        return fieldName;
+    }
+}
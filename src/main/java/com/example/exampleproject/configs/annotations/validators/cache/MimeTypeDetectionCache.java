@@ -0,0 +1,143 @@
+package com.example.exampleproject.configs.annotations.validators.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded LRU cache of MIME type detections, shared by the file validators so that files submitted
+ * repeatedly (standard forms, logos, ...) skip the Tika detection.
+ * <p>
+ * Entries are keyed by the SHA-256 digest of the bytes handed to the detector. The validators only ever
+ * detect on the leading bytes of a file, so the digest covers exactly what determines the result and a
+ * cached type is always the type Tika would return. The remaining checks (size, allowed types, extension)
+ * are cheap comparisons and still run for every validation, so one entry serves every
+ * {@code allowedTypes}/{@code maxSizeInMB} combination. A cryptographic digest is used so that a crafted
+ * file cannot collide with a cached one and borrow its type.
+ * <p>
+ * A cache hit only replaces the Tika detection: the content is still decoded and its size checked by the
+ * validators, since the prefix digest says nothing about the rest of the file.
+ * <p>
+ * The cache is a bean injected into the validators created by Spring. Validators instantiated directly,
+ * as in unit tests, have no cache and always run the detection.
+ */
+@Component
+public class MimeTypeDetectionCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+    private static final ThreadLocal<MessageDigest> DIGEST =
+            ThreadLocal.withInitial(MimeTypeDetectionCache::createDigest);
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final int maxEntries;
+
+    private final Map<ByteBuffer, String> cache;
+
+    /**
+     * @param maxEntries the maximum number of cached detections, {@code 0} or less to disable the cache
+     */
+    @Autowired
+    public MimeTypeDetectionCache(
+            @Value("${file.validation.mime-cache.max-entries:" + DEFAULT_MAX_ENTRIES + "}") int maxEntries) {
+        this.maxEntries = Math.max(maxEntries, 0);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, String> eldest) {
+                return size() > MimeTypeDetectionCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Operation performing the actual detection on a cache miss.
+     */
+    @FunctionalInterface
+    public interface Detection {
+        String detect() throws IOException;
+    }
+
+    /**
+     * Returns the cached MIME type for {@code bytes[0, length)} or runs {@code detection} and caches its result.
+     *
+     * @param bytes     the bytes handed to the detector
+     * @param length    the number of valid bytes
+     * @param detection the detection to run on a cache miss
+     * @return the detected MIME type
+     * @throws IOException if the detection fails, in which case nothing is cached
+     */
+    public String detect(byte[] bytes, int length, Detection detection) throws IOException {
+        if (maxEntries == 0) {
+            return detection.detect();
+        }
+
+        MessageDigest digest = DIGEST.get();
+        digest.update(bytes, 0, length);
+        ByteBuffer key = ByteBuffer.wrap(digest.digest());
+
+        String cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+        }
+
+        if (Objects.nonNull(cached)) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        String detected = detection.detect();
+        if (Objects.nonNull(detected)) {
+            synchronized (cache) {
+                cache.put(key, detected);
+            }
+        }
+        return detected;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of cached detections, at most the configured maximum
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Removes every cached detection.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -2,30 +2,41 @@ package com.example.exampleproject.configs.datetimes.deserializers;
 
 import com.example.exampleproject.configs.exceptions.custom.BusinessException;
 import com.example.exampleproject.utils.DateUtils;
-import com.example.exampleproject.utils.MessageUtils;
+import com.example.exampleproject.utils.FastDateTimeParser;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
-import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
 import java.util.Date;
+import java.util.List;
 
 /**
  * A custom deserializer for {@link Date}, which expects the input date string
  * to be in the format {@value EXPECTED_FORMAT}.
+ * <p>
+ * Well-formed values are read directly from the parser buffer by {@link FastDateTimeParser} and placed in the
+ * time zone of the formatter, unless the local date and time is in a gap or overlap of that zone. The formatter
+ * only handles the remaining values, resolving them leniently or producing the error without throwing
+ * internally (see {@link DateTimeParsing}); as {@link SimpleDateFormat} is not thread-safe, each of those parses
+ * uses a copy of it.
  */
-@Slf4j
 public class CustomDateDeserializer extends JsonDeserializer<Date> {
 
     private static final String EXPECTED_FORMAT = DateUtils.DATE_DESERIALIZER_FORMAT;
 
     private final SimpleDateFormat formatter;
 
+    private final ZoneRules zoneRules;
+
     public CustomDateDeserializer() {
         this.formatter = new SimpleDateFormat(EXPECTED_FORMAT);
+        this.zoneRules = formatter.getTimeZone().toZoneId().getRules();
     }
 
     /**
@@ -39,6 +50,14 @@ public class CustomDateDeserializer extends JsonDeserializer<Date> {
      */
     @Override
     public Date deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        LocalDateTime parsed = FastDateTimeParser.parseLocalDateTime(
+                p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        if (parsed != null) {
+            List<ZoneOffset> offsets = zoneRules.getValidOffsets(parsed);
+            if (offsets.size() == 1) {
+                return new Date(parsed.toEpochSecond(offsets.getFirst()) * 1000);
+            }
+        }
 
         String date = p.getText();
 
@@ -46,15 +65,11 @@ public class CustomDateDeserializer extends JsonDeserializer<Date> {
             return null;
         }
 
-        try {
-            return formatter.parse(date);
-        } catch (ParseException e) {
-            log.warn(e.getMessage(), e);
-            throw new BusinessException(
-                    MessageUtils.getMessage("msg.deserialization.invalid.datetime.format",
-                            p.getParsingContext().getCurrentName(),
-                            date,
-                            EXPECTED_FORMAT));
+        // Same result as parse(String), which only fails when nothing is parsed, without the ParseException
+        Date resolved = ((SimpleDateFormat) formatter.clone()).parse(date, new ParsePosition(0));
+        if (resolved == null) {
+            throw DateTimeParsing.invalidFormat(p, date, EXPECTED_FORMAT);
         }
+        return resolved;
     }
 }
\ No newline at end of file
@@ -2,22 +2,23 @@ package com.example.exampleproject.configs.datetimes.deserializers;
 
 import com.example.exampleproject.configs.exceptions.custom.BusinessException;
 import com.example.exampleproject.utils.DateUtils;
-import com.example.exampleproject.utils.MessageUtils;
+import com.example.exampleproject.utils.FastDateTimeParser;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 
 /**
  * A custom deserializer for {@link LocalDateTime}, which expects the input date string
  * to be in the format {@value EXPECTED_FORMAT}.
+ * <p>
+ * Well-formed values are read directly from the parser buffer by {@link FastDateTimeParser}; the formatter
+ * only handles the remaining values, resolving them or producing the error, both without throwing
+ * internally (see {@link DateTimeParsing}).
  */
-@Slf4j
 public class CustomLocalDateTimeDeserializer extends JsonDeserializer<LocalDateTime> {
 
     private static final String EXPECTED_FORMAT = DateUtils.LOCAL_DATE_TIME_DESERIALIZER_FORMAT;
@@ -39,6 +40,11 @@ public class CustomLocalDateTimeDeserializer extends JsonDeserializer<LocalDateT
      */
     @Override
     public LocalDateTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        LocalDateTime parsed = FastDateTimeParser.parseLocalDateTime(
+                p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        if (parsed != null) {
+            return parsed;
+        }
 
         String date = p.getText();
 
@@ -46,15 +52,10 @@ public class CustomLocalDateTimeDeserializer extends JsonDeserializer<LocalDateT
             return null;
         }
 
-        try {
-            return LocalDateTime.parse(date, formatter);
-        } catch (DateTimeParseException e) {
-            log.warn(e.getMessage(), e);
-            throw new BusinessException(
-                    MessageUtils.getMessage("msg.deserialization.invalid.datetime.format",
-                            p.getParsingContext().getCurrentName(),
-                            date,
-                            EXPECTED_FORMAT));
+        LocalDateTime resolved = DateTimeParsing.parseOrNull(formatter, date, LocalDateTime::from);
+        if (resolved == null) {
+            throw DateTimeParsing.invalidFormat(p, date, EXPECTED_FORMAT);
         }
+        return resolved;
     }
 }
\ No newline at end of file
@@ -2,22 +2,23 @@ package com.example.exampleproject.configs.datetimes.deserializers;
 
 import com.example.exampleproject.configs.exceptions.custom.BusinessException;
 import com.example.exampleproject.utils.DateUtils;
-import com.example.exampleproject.utils.MessageUtils;
+import com.example.exampleproject.utils.FastDateTimeParser;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 
 /**
  * A custom deserializer for {@link LocalTime}, which expects the input date string
  * to be in the format {@value EXPECTED_FORMAT}.
+ * <p>
+ * Well-formed values are read directly from the parser buffer by {@link FastDateTimeParser}; the formatter
+ * only handles the remaining values, resolving them or producing the error, both without throwing
+ * internally (see {@link DateTimeParsing}).
  */
-@Slf4j
 public class CustomLocalTimeDeserializer extends JsonDeserializer<LocalTime> {
 
     private static final String EXPECTED_FORMAT = DateUtils.LOCAL_TIME_DESERIALIZER_FORMAT;
@@ -40,21 +41,22 @@ public class CustomLocalTimeDeserializer extends JsonDeserializer<LocalTime> {
      */
     @Override
     public LocalTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        LocalTime parsed = FastDateTimeParser.parseLocalTime(
+                p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        if (parsed != null) {
+            return parsed;
+        }
+
         String time = p.getText();
 
         if (time == null || time.trim().isEmpty()) {
             return null;
         }
 
-        try {
-            return LocalTime.parse(time, formatter);
-        } catch (DateTimeParseException e) {
-            log.warn(e.getMessage(), e);
-            throw new BusinessException(
-                    MessageUtils.getMessage("msg.deserialization.invalid.datetime.format",
-                            p.getParsingContext().getCurrentName(),
-                            time,
-                            EXPECTED_FORMAT));
+        LocalTime resolved = DateTimeParsing.parseOrNull(formatter, time, LocalTime::from);
+        if (resolved == null) {
+            throw DateTimeParsing.invalidFormat(p, time, EXPECTED_FORMAT);
         }
+        return resolved;
     }
 }
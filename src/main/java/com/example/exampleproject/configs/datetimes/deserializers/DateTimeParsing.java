@@ -0,0 +1,102 @@
+package com.example.exampleproject.configs.datetimes.deserializers;
+
+import com.example.exampleproject.configs.exceptions.custom.BusinessException;
+import com.example.exampleproject.utils.LogRateLimiter;
+import com.example.exampleproject.utils.MessageUtils;
+import com.fasterxml.jackson.core.JsonParser;
+import lombok.extern.slf4j.Slf4j;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
+import java.util.stream.Stream;
+
+/**
+ * Parsing of the values left by {@code FastDateTimeParser} to the formatters of the custom deserializers, and
+ * reporting of the invalid ones.
+ * <p>
+ * Invalid dates are a common input error, which a misbehaving client can repeat on every request, so they are
+ * detected without throwing: the text is first parsed without resolution, which reports format errors through a
+ * {@link ParsePosition}, and the parsed fields are checked against their ranges before the formatter resolves
+ * them. They are then reported with a {@link BusinessException} without stack trace, carrying the same localized
+ * message as before, and a warning logged at most once every {@link #WARN_INTERVAL}.
+ */
+@Slf4j
+final class DateTimeParsing {
+
+    static final Duration WARN_INTERVAL = Duration.ofSeconds(10);
+
+    private static final String INVALID_FORMAT_MESSAGE = "msg.deserialization.invalid.datetime.format";
+
+    private static final LogRateLimiter WARN_LIMITER = new LogRateLimiter(WARN_INTERVAL);
+
+    private DateTimeParsing() {
+        throw new IllegalStateException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Parses and resolves the text with the formatter.
+     *
+     * @param formatter the formatter of the expected format
+     * @param text      the text to parse
+     * @param query     the query resolving the parsed fields, such as {@code LocalDate::from}
+     * @param <T>       the type of the parsed value
+     * @return the parsed value, or {@code null} if the text does not match the format or holds an invalid value
+     */
+    static <T> T parseOrNull(DateTimeFormatter formatter, String text, TemporalQuery<T> query) {
+        try {
+            ParsePosition position = new ParsePosition(0);
+            TemporalAccessor unresolved = formatter.parseUnresolved(text, position);
+            if (unresolved == null || position.getErrorIndex() >= 0 || position.getIndex() < text.length()) {
+                return null;
+            }
+
+            for (ChronoField field : ChronoField.values()) {
+                if (unresolved.isSupported(field) && !field.range().isValidValue(unresolved.getLong(field))
+                        && !(field == ChronoField.HOUR_OF_DAY && isEndOfDay(unresolved))) {
+                    return null;
+                }
+            }
+
+            return formatter.parse(text, query);
+        } catch (DateTimeException e) {
+            // Rare leftovers, such as fields in range that do not combine into a valid value or offset hours
+            // above 23, which the formatter reports by throwing
+            return null;
+        }
+    }
+
+    /**
+     * Tells whether the parsed time is 24:00:00, which the smart resolver accepts as the end of the day.
+     */
+    private static boolean isEndOfDay(TemporalAccessor unresolved) {
+        return unresolved.getLong(ChronoField.HOUR_OF_DAY) == 24
+                && Stream.of(ChronoField.MINUTE_OF_HOUR, ChronoField.SECOND_OF_MINUTE, ChronoField.NANO_OF_SECOND)
+                .noneMatch(field -> unresolved.isSupported(field) && unresolved.getLong(field) != 0);
+    }
+
+    /**
+     * Creates the error for a value that does not match the expected format.
+     *
+     * @param p              the parser positioned on the value
+     * @param text           the invalid value
+     * @param expectedFormat the expected format, as shown to the client
+     * @return a {@link BusinessException} without stack trace, to be thrown by the deserializer
+     */
+    static BusinessException invalidFormat(JsonParser p, String text, String expectedFormat) {
+        String fieldName = p.getParsingContext().getCurrentName();
+
+        long suppressed = WARN_LIMITER.tryAcquire();
+        if (suppressed >= 0) {
+            log.warn("Invalid date/time for field '{}': '{}', expected format is {} ({} similar warning(s) "
+                    + "suppressed in the last {})", fieldName, text, expectedFormat, suppressed, WARN_INTERVAL);
+        }
+
+        return new BusinessException(
+                MessageUtils.getMessage(INVALID_FORMAT_MESSAGE, fieldName, text, expectedFormat), false);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.exampleproject.configs.datetimes.serializers;
 
 import com.example.exampleproject.utils.DateUtils;
+import com.example.exampleproject.utils.ProjectTimeService;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
@@ -8,25 +9,43 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.text.SimpleDateFormat;
-import java.time.ZoneId;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Date;
 import java.util.TimeZone;
 
 /**
  * Custom serializer for {@link Date} that converts the Date object to a JSON string representation
  * using a predefined format and time zone.
+ * <p>
+ * The date of each local hour is written once per thread into the buffer of the {@link HourTextCache}, from
+ * the rules of the same {@link TimeZone} as the formatter, and that buffer is passed to the generator as is.
+ * Dates the cache does not cover (hours with an offset transition, years before 1900 or after 9999) are
+ * formatted by the formatter; as {@link SimpleDateFormat} is not thread-safe, each of those uses a copy
+ * of it.
  */
 @Slf4j
 public class CustomDateSerializer extends JsonSerializer<Date> {
 
     private static final String EXPECTED_FORMAT = DateUtils.DATE_SERIALIZER_FORMAT;
 
+    /**
+     * First year written by hand. Earlier dates may use the Julian calendar in {@link SimpleDateFormat}, and the
+     * history of {@link TimeZone} before 1900 differs from the one of {@link java.time.zone.ZoneRules}.
+     */
+    private static final int FIRST_CACHED_YEAR = 1900;
+
+    private static final int TEXT_LENGTH = 10;
+
     private final SimpleDateFormat formatter;
 
-    public CustomDateSerializer(ZoneId zoneId) {
+    private final HourTextCache hours;
+
+    public CustomDateSerializer(ProjectTimeService timeService) {
         this.formatter = new SimpleDateFormat(EXPECTED_FORMAT);
-        TimeZone timeZone = TimeZone.getTimeZone(zoneId);
+        TimeZone timeZone = TimeZone.getTimeZone(timeService.getZoneId());
         this.formatter.setTimeZone(timeZone);
+        this.hours = new HourTextCache(timeZone.toZoneId().getRules(), TEXT_LENGTH, CustomDateSerializer::writeHour);
     }
 
     /**
@@ -42,8 +61,21 @@ public class CustomDateSerializer extends JsonSerializer<Date> {
         if (value == null) {
             gen.writeNull();
         } else {
-            String dateString = formatter.format(value);
-            gen.writeString(dateString);
+            HourTextCache.Hour hour = hours.get(Math.floorDiv(value.getTime(), 1000));
+            if (hour == null) {
+                String dateString = ((SimpleDateFormat) formatter.clone()).format(value);
+                gen.writeString(dateString);
+                return;
+            }
+            gen.writeString(hour.text, 0, hour.length);
+        }
+    }
+
+    private static int writeHour(char[] text, LocalDateTime hourStart, ZoneOffset offset) {
+        int year = hourStart.getYear();
+        if (year < FIRST_CACHED_YEAR || !DateTimeText.isFourDigitYear(year)) {
+            return -1;
         }
+        return DateTimeText.writeDayMonthYear(text, 0, year, hourStart.getMonthValue(), hourStart.getDayOfMonth());
     }
 }
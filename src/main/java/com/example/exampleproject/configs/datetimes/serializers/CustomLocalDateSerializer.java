@@ -2,6 +2,7 @@ package com.example.exampleproject.configs.datetimes.serializers;
 
 
 import com.example.exampleproject.utils.DateUtils;
+import com.example.exampleproject.utils.ProjectTimeService;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
@@ -15,6 +16,9 @@ import java.time.format.DateTimeFormatter;
 /**
  * Custom serializer for {@link LocalDate} that converts the LocalDate to a JSON string
  * representation based on a specified time zone and a predefined format.
+ * <p>
+ * The digits are written into a per-thread buffer passed to the generator, without formatting a
+ * {@link java.time.ZonedDateTime} first. Years outside 1 to 9999 are formatted by the formatter.
  */
 @Slf4j
 public class CustomLocalDateSerializer extends JsonSerializer<LocalDate> {
@@ -25,9 +29,11 @@ public class CustomLocalDateSerializer extends JsonSerializer<LocalDate> {
 
     private final ZoneId zoneId;
 
-    public CustomLocalDateSerializer(ZoneId zoneId) {
+    private final ThreadLocal<char[]> buffers = ThreadLocal.withInitial(() -> new char[EXPECTED_FORMAT.length()]);
+
+    public CustomLocalDateSerializer(ProjectTimeService timeService) {
         this.formatter = DateTimeFormatter.ofPattern(EXPECTED_FORMAT);
-        this.zoneId = zoneId;
+        this.zoneId = timeService.getZoneId();
     }
 
     /**
@@ -42,6 +48,11 @@ public class CustomLocalDateSerializer extends JsonSerializer<LocalDate> {
     public void serialize(LocalDate value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
         if (value == null) {
             gen.writeNull();
+        } else if (DateTimeText.isFourDigitYear(value.getYear())) {
+            char[] text = buffers.get();
+            int length = DateTimeText.writeDayMonthYear(text, 0,
+                    value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+            gen.writeString(text, 0, length);
         } else {
             String dateString = value.atStartOfDay(zoneId).format(formatter);
             gen.writeString(dateString);
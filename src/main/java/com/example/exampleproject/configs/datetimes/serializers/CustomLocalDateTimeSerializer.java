@@ -1,6 +1,7 @@
 package com.example.exampleproject.configs.datetimes.serializers;
 
 import com.example.exampleproject.utils.DateUtils;
+import com.example.exampleproject.utils.ProjectTimeService;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
@@ -10,10 +11,16 @@ import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 
 /**
  * Custom serializer for {@link LocalDateTime} that converts the LocalDateTime to a JSON string
  * representation based on a specified time zone and a predefined format.
+ * <p>
+ * The digits are written into a per-thread buffer passed to the generator. Placing the value in the zone only
+ * changes it when it falls in a gap of the zone, which is checked on the cached {@link ZoneRules}; those values,
+ * and years outside 1 to 9999, are formatted by the formatter.
  */
 @Slf4j
 public class CustomLocalDateTimeSerializer extends JsonSerializer<LocalDateTime> {
@@ -21,10 +28,13 @@ public class CustomLocalDateTimeSerializer extends JsonSerializer<LocalDateTime>
     private static final String EXPECTED_FORMAT = DateUtils.LOCAL_DATE_TIME_SERIALIZER_FORMAT;
     private final DateTimeFormatter formatter;
     private final ZoneId zoneId;
+    private final ZoneRules zoneRules;
+    private final ThreadLocal<char[]> buffers = ThreadLocal.withInitial(() -> new char[EXPECTED_FORMAT.length()]);
 
-    public CustomLocalDateTimeSerializer(ZoneId zoneId) {
+    public CustomLocalDateTimeSerializer(ProjectTimeService timeService) {
         this.formatter = DateTimeFormatter.ofPattern(EXPECTED_FORMAT);
-        this.zoneId = zoneId;
+        this.zoneId = timeService.getZoneId();
+        this.zoneRules = timeService.getZoneRules();
     }
 
     /**
@@ -39,9 +49,24 @@ public class CustomLocalDateTimeSerializer extends JsonSerializer<LocalDateTime>
     public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
         if (value == null) {
             gen.writeNull();
+        } else if (DateTimeText.isFourDigitYear(value.getYear()) && !isInGap(value)) {
+            char[] text = buffers.get();
+            int index = DateTimeText.writeDayMonthYear(text, 0,
+                    value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+            text[index++] = ' ';
+            int length = DateTimeText.writeTime(text, index, value.getHour(), value.getMinute(), value.getSecond());
+            gen.writeString(text, 0, length);
         } else {
             String dateString = value.atZone(zoneId).format(formatter);
             gen.writeString(dateString);
         }
     }
+
+    private boolean isInGap(LocalDateTime value) {
+        if (zoneRules.isFixedOffset()) {
+            return false;
+        }
+        ZoneOffsetTransition transition = zoneRules.getTransition(value);
+        return transition != null && transition.isGap();
+    }
 }
\ No newline at end of file
@@ -1,20 +1,28 @@
 package com.example.exampleproject.configs.datetimes.serializers;
 
 import com.example.exampleproject.utils.DateUtils;
+import com.example.exampleproject.utils.ProjectTimeService;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
-import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 
 /**
  * Custom serializer for {@link LocalTime} that converts the LocalTime to a JSON string
  * representation based on a specified time zone and a predefined format.
+ * <p>
+ * The digits are written into a per-thread buffer passed to the generator. Placing the value on the current date
+ * in the zone only changes it when it falls in a gap of the zone on that date, which is checked on the cached
+ * {@link ZoneRules}; those values are formatted by the formatter. The current date is the one of the project zone,
+ * shared through {@link ProjectTimeService#today()} rather than read from the clock for each value.
  */
 @Slf4j
 public class CustomLocalTimeSerializer extends JsonSerializer<LocalTime> {
@@ -22,10 +30,15 @@ public class CustomLocalTimeSerializer extends JsonSerializer<LocalTime> {
     private static final String EXPECTED_FORMAT = DateUtils.LOCAL_TIME_SERIALIZER_FORMAT;
     private final DateTimeFormatter formatter;
     private final ZoneId zoneId;
+    private final ZoneRules zoneRules;
+    private final ProjectTimeService timeService;
+    private final ThreadLocal<char[]> buffers = ThreadLocal.withInitial(() -> new char[EXPECTED_FORMAT.length()]);
 
-    public CustomLocalTimeSerializer(ZoneId zoneId) {
+    public CustomLocalTimeSerializer(ProjectTimeService timeService) {
         this.formatter = DateTimeFormatter.ofPattern(EXPECTED_FORMAT);
-        this.zoneId = zoneId;
+        this.zoneId = timeService.getZoneId();
+        this.zoneRules = timeService.getZoneRules();
+        this.timeService = timeService;
     }
 
     /**
@@ -40,9 +53,18 @@ public class CustomLocalTimeSerializer extends JsonSerializer<LocalTime> {
     public void serialize(LocalTime value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
         if (value == null) {
             gen.writeNull();
+        } else if (zoneRules.isFixedOffset() || !isInGap(value.atDate(timeService.today()))) {
+            char[] text = buffers.get();
+            int length = DateTimeText.writeTime(text, 0, value.getHour(), value.getMinute(), value.getSecond());
+            gen.writeString(text, 0, length);
         } else {
-            String timeString = value.atDate(LocalDate.now()).atZone(zoneId).format(formatter);
+            String timeString = value.atDate(timeService.today()).atZone(zoneId).format(formatter);
             gen.writeString(timeString);
         }
     }
+
+    private boolean isInGap(LocalDateTime value) {
+        ZoneOffsetTransition transition = zoneRules.getTransition(value);
+        return transition != null && transition.isGap();
+    }
 }
\ No newline at end of file
@@ -1,13 +1,16 @@
 package com.example.exampleproject.configs.datetimes.serializers;
 
 import com.example.exampleproject.utils.DateUtils;
+import com.example.exampleproject.utils.ProjectTimeService;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
@@ -15,6 +18,11 @@ import java.time.format.DateTimeFormatterBuilder;
 /**
  * Custom serializer for {@link ZonedDateTime} that converts the ZonedDateTime
  * to a JSON string representation based on a specified time zone and a predefined format.
+ * <p>
+ * The text is written by hand into a per-thread buffer whose date, hour and offset come from the
+ * {@link HourTextCache}, so only the minutes, seconds and milliseconds are written for each value. Values the
+ * cache does not cover (hours with an offset transition, offsets with seconds, years outside 1 to 9999) are
+ * formatted by the formatter, which produces the same text.
  */
 @Slf4j
 public class CustomZonedDateTimeSerializer extends JsonSerializer<ZonedDateTime> {
@@ -27,10 +35,23 @@ public class CustomZonedDateTimeSerializer extends JsonSerializer<ZonedDateTime>
             .optionalEnd()
             .toFormatter();
 
+    /**
+     * Index of the minutes in {@code yyyy-MM-dd'T'HH:mm:ss.SSS}, followed by the seconds and milliseconds.
+     */
+    private static final int MINUTE_INDEX = 14;
+
+    private static final int OFFSET_INDEX = 23;
+
     private final ZoneId zoneId;
 
-    public CustomZonedDateTimeSerializer(ZoneId zoneId) {
+    private final HourTextCache hours;
+
+    public CustomZonedDateTimeSerializer(ProjectTimeService timeService) {
+        ZoneId zoneId = timeService.getZoneId();
         this.zoneId = zoneId;
+        String zoneText = zoneId.getId();
+        this.hours = new HourTextCache(zoneId.getRules(), OFFSET_INDEX + 7 + zoneText.length(),
+                (text, hourStart, offset) -> writeHour(text, hourStart, offset, zoneText));
     }
 
     /**
@@ -46,9 +67,55 @@ public class CustomZonedDateTimeSerializer extends JsonSerializer<ZonedDateTime>
         if (value == null) {
             gen.writeNull();
         } else {
-            ZonedDateTime zonedValue = value.withZoneSameInstant(zoneId);
-            String dateString = zonedValue.format(FORMATTER);
-            gen.writeString(dateString);
+            HourTextCache.Hour hour = hours.get(value.toEpochSecond());
+            if (hour == null) {
+                ZonedDateTime zonedValue = value.withZoneSameInstant(zoneId);
+                String dateString = zonedValue.format(FORMATTER);
+                gen.writeString(dateString);
+                return;
+            }
+
+            int secondOfHour = hour.secondOfHour(value.toEpochSecond());
+            char[] text = hour.text;
+            DateTimeText.writeDigits(text, MINUTE_INDEX, secondOfHour / 60, 2);
+            DateTimeText.writeDigits(text, MINUTE_INDEX + 3, secondOfHour % 60, 2);
+            DateTimeText.writeDigits(text, MINUTE_INDEX + 6, value.getNano() / 1_000_000, 3);
+            gen.writeString(text, 0, hour.length);
+        }
+    }
+
+    /**
+     * Writes {@code yyyy-MM-dd'T'HH:__:__.___XXX} followed by a space and the zone ID, leaving the minutes,
+     * seconds and milliseconds to each value.
+     */
+    private static int writeHour(char[] text, LocalDateTime hourStart, ZoneOffset offset, String zoneText) {
+        int offsetSeconds = offset.getTotalSeconds();
+        if (!DateTimeText.isFourDigitYear(hourStart.getYear()) || offsetSeconds % 60 != 0) {
+            return -1;
+        }
+
+        int index = DateTimeText.writeDigits(text, 0, hourStart.getYear(), 4);
+        text[index++] = '-';
+        index = DateTimeText.writeDigits(text, index, hourStart.getMonthValue(), 2);
+        text[index++] = '-';
+        index = DateTimeText.writeDigits(text, index, hourStart.getDayOfMonth(), 2);
+        text[index++] = 'T';
+        index = DateTimeText.writeTime(text, index, hourStart.getHour(), 0, 0);
+        text[index++] = '.';
+        index = DateTimeText.writeDigits(text, index, 0, 3);
+
+        if (offsetSeconds == 0) {
+            text[index++] = 'Z';
+        } else {
+            int offsetMinutes = Math.abs(offsetSeconds / 60);
+            text[index++] = offsetSeconds < 0 ? '-' : '+';
+            index = DateTimeText.writeDigits(text, index, offsetMinutes / 60, 2);
+            text[index++] = ':';
+            index = DateTimeText.writeDigits(text, index, offsetMinutes % 60, 2);
         }
+
+        text[index++] = ' ';
+        zoneText.getChars(0, zoneText.length(), text, index);
+        return index + zoneText.length();
     }
 }
\ No newline at end of file
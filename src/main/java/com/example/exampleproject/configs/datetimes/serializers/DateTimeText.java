@@ -0,0 +1,59 @@
+package com.example.exampleproject.configs.datetimes.serializers;
+
+/**
+ * Writes the fields of the serializer formats as digits into a character buffer, for the serializers of this
+ * package. Years are written on four digits, so callers only use it for years 1 to 9999 and leave other years,
+ * which the formatters print with a sign or an era, to the formatters.
+ */
+final class DateTimeText {
+
+    private DateTimeText() {
+        throw new IllegalStateException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Checks whether the year is written by the formatters as its four digits, without sign or era.
+     */
+    static boolean isFourDigitYear(int year) {
+        return year >= 1 && year <= 9999;
+    }
+
+    /**
+     * Writes the value with the given number of digits, padded with zeros.
+     *
+     * @return the index after the last written character
+     */
+    static int writeDigits(char[] text, int index, int value, int width) {
+        for (int i = index + width - 1; i >= index; i--) {
+            text[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return index + width;
+    }
+
+    /**
+     * Writes {@code dd/MM/yyyy}.
+     *
+     * @return the index after the last written character
+     */
+    static int writeDayMonthYear(char[] text, int index, int year, int month, int day) {
+        index = writeDigits(text, index, day, 2);
+        text[index++] = '/';
+        index = writeDigits(text, index, month, 2);
+        text[index++] = '/';
+        return writeDigits(text, index, year, 4);
+    }
+
+    /**
+     * Writes {@code HH:mm:ss}.
+     *
+     * @return the index after the last written character
+     */
+    static int writeTime(char[] text, int index, int hour, int minute, int second) {
+        index = writeDigits(text, index, hour, 2);
+        text[index++] = ':';
+        index = writeDigits(text, index, minute, 2);
+        text[index++] = ':';
+        return writeDigits(text, index, second, 2);
+    }
+}
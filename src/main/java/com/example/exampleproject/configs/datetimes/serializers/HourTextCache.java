@@ -0,0 +1,116 @@
+package com.example.exampleproject.configs.datetimes.serializers;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+
+/**
+ * Per-thread cache of the text shared by the instants of the last local hour written by a serializer.
+ * <p>
+ * The timestamps of a response are usually close to each other, so most of them fall in the hour of the previous
+ * one. For those, the offset of the zone and the text depending only on the hour (date, hour, offset) are taken
+ * from the cache, and the serializer only writes the minutes, seconds and fraction into the cached buffer, which
+ * it then passes to the generator. Hours containing an offset transition are not cached and {@link #get(long)}
+ * returns {@code null} for them, so the serializer formats those instants with its formatter.
+ */
+final class HourTextCache {
+
+    private static final int SECONDS_PER_HOUR = 3600;
+
+    /**
+     * Writes the text shared by the instants of an hour.
+     */
+    @FunctionalInterface
+    interface HourWriter {
+
+        /**
+         * @param text      the buffer to write into, from index 0
+         * @param hourStart the local date and time at the start of the hour
+         * @param offset    the offset of the zone during the hour
+         * @return the length of the text, or {@code -1} if the hour must be formatted by the formatter
+         */
+        int write(char[] text, LocalDateTime hourStart, ZoneOffset offset);
+    }
+
+    /**
+     * The cached hour of a thread, from {@link #from} (inclusive) to {@link #until} (exclusive) in epoch seconds.
+     */
+    static final class Hour {
+
+        final char[] text;
+
+        int length;
+
+        long from = Long.MAX_VALUE;
+
+        long until = Long.MIN_VALUE;
+
+        Hour(int capacity) {
+            this.text = new char[capacity];
+        }
+
+        /**
+         * @return the seconds elapsed since the start of the hour, which gives the local minute and second
+         */
+        int secondOfHour(long epochSecond) {
+            return (int) (epochSecond - from);
+        }
+    }
+
+    private final ZoneRules zoneRules;
+
+    private final HourWriter writer;
+
+    private final ThreadLocal<Hour> hours;
+
+    HourTextCache(ZoneRules zoneRules, int capacity, HourWriter writer) {
+        this.zoneRules = zoneRules;
+        this.writer = writer;
+        this.hours = ThreadLocal.withInitial(() -> new Hour(capacity));
+    }
+
+    /**
+     * Gets the cached hour of the current thread containing the instant, loading it if needed.
+     *
+     * @param epochSecond the instant to write
+     * @return the hour, or {@code null} if the instant must be formatted by the formatter
+     */
+    Hour get(long epochSecond) {
+        Hour hour = hours.get();
+        if (epochSecond >= hour.from && epochSecond < hour.until) {
+            return hour;
+        }
+        return load(hour, epochSecond) ? hour : null;
+    }
+
+    private boolean load(Hour hour, long epochSecond) {
+        hour.from = Long.MAX_VALUE;
+        hour.until = Long.MIN_VALUE;
+
+        ZoneOffset offset = offsetAt(epochSecond);
+        long localHourStart = Math.floorDiv(epochSecond + offset.getTotalSeconds(), SECONDS_PER_HOUR)
+                * SECONDS_PER_HOUR;
+        long from = localHourStart - offset.getTotalSeconds();
+        long until = from + SECONDS_PER_HOUR;
+        if (!offset.equals(offsetAt(from)) || !offset.equals(offsetAt(until - 1))) {
+            return false;
+        }
+
+        int length = writer.write(hour.text, LocalDateTime.ofEpochSecond(localHourStart, 0, ZoneOffset.UTC), offset);
+        if (length < 0) {
+            return false;
+        }
+
+        hour.length = length;
+        hour.from = from;
+        hour.until = until;
+        return true;
+    }
+
+    private ZoneOffset offsetAt(long epochSecond) {
+        return zoneRules.isFixedOffset()
+                ? zoneRules.getOffset(Instant.EPOCH)
+                : zoneRules.getOffset(Instant.ofEpochSecond(epochSecond));
+    }
+}
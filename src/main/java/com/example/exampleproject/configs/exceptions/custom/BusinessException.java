@@ -7,4 +7,16 @@ public class BusinessException extends RuntimeException {
     public BusinessException(String message) {
         super(message);
     }
+
+    /**
+     * Creates an exception that, when {@code writableStackTrace} is false, does not capture the stack trace,
+     * for input errors frequent enough that capturing it would be a cost of its own and whose origin is already
+     * known from the message.
+     *
+     * @param message            the message returned to the client
+     * @param writableStackTrace whether the stack trace is captured
+     */
+    public BusinessException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
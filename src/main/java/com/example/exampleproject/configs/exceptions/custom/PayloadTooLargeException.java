@@ -0,0 +1,10 @@
+package com.example.exampleproject.configs.exceptions.custom;
+
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+public class PayloadTooLargeException extends RuntimeException {
+    public PayloadTooLargeException(String message) {
+        super(message);
+    }
+}
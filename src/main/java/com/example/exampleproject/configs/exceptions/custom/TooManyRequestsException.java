@@ -0,0 +1,10 @@
+package com.example.exampleproject.configs.exceptions.custom;
+
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -5,9 +5,12 @@ import com.example.exampleproject.configs.exceptions.ErrorMultipleResponse;
 import com.example.exampleproject.configs.exceptions.ErrorSingleResponse;
 import com.example.exampleproject.configs.exceptions.custom.BusinessException;
 import com.example.exampleproject.configs.exceptions.custom.DataIntegrityViolationException;
+import com.example.exampleproject.configs.exceptions.custom.PayloadTooLargeException;
 import com.example.exampleproject.configs.exceptions.custom.ResourceNotFoundException;
+import com.example.exampleproject.configs.exceptions.custom.TooManyRequestsException;
 import com.example.exampleproject.configs.exceptions.custom.UnauthorizedException;
 import com.example.exampleproject.configs.exceptions.handler.helper.ExceptionHandlerMessageHelper;
+import com.example.exampleproject.utils.ProjectTimeService;
 import feign.FeignException;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -18,6 +21,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.springframework.beans.ConversionNotSupportedException;
 import org.springframework.beans.TypeMismatchException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -53,6 +57,13 @@ import java.util.concurrent.TimeoutException;
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final ProjectTimeService timeService;
+
+    @Autowired
+    public GlobalExceptionHandler(ProjectTimeService timeService) {
+        this.timeService = timeService;
+    }
+
     @ApiResponse(
             responseCode = "404",
             description = "<p><strong>English:</strong> Not Found. The requested resource could not be found on the " +
@@ -102,7 +113,7 @@ public class GlobalExceptionHandler {
         log.error("Resource not found: {}", ex.getMessage(), ex);
 
         ErrorSingleResponse errorResponse = ErrorSingleResponse.builder()
-                .timestamp(LocalDateTime.now())
+                .timestamp(timeService.currentDateTime())
                 .status(HttpStatus.NOT_FOUND.value())
                 .error(HttpStatus.NOT_FOUND.getReasonPhrase())
                 .message(ExceptionHandlerMessageHelper.getNotFoundMessage(ex))
@@ -164,7 +175,7 @@ public class GlobalExceptionHandler {
         log.error("HTTP request method not supported: {}", ex.getMessage(), ex);
 
         ErrorSingleResponse errorSingleResponse = ErrorSingleResponse.builder()
-                .timestamp(LocalDateTime.now())
+                .timestamp(timeService.currentDateTime())
                 .status(HttpStatus.METHOD_NOT_ALLOWED.value())
                 .error(HttpStatus.METHOD_NOT_ALLOWED.getReasonPhrase())
                 .message(ExceptionHandlerMessageHelper.getMethodNotAllowedMessage(ex))
@@ -277,7 +288,7 @@ public class GlobalExceptionHandler {
         Map<String, String> messages = ExceptionHandlerMessageHelper.getBadRequestMessage(ex);
         HttpStatus status = HttpStatus.BAD_REQUEST;
         String path = request.getDescription(Boolean.FALSE);
-        LocalDateTime timestamp = LocalDateTime.now();
+        LocalDateTime timestamp = timeService.currentDateTime();
         String error = status.getReasonPhrase();
         final String DEFAULT_MESSAGE_KEY = "message";
 
@@ -356,7 +367,7 @@ public class GlobalExceptionHandler {
         log.error("Unauthorized: {}", ex.getMessage(), ex);
 
         ErrorSingleResponse errorSingleResponse = ErrorSingleResponse.builder()
-                .timestamp(LocalDateTime.now())
+                .timestamp(timeService.currentDateTime())
                 .status(HttpStatus.UNAUTHORIZED.value())
                 .error(HttpStatus.UNAUTHORIZED.getReasonPhrase())
                 .message(ExceptionHandlerMessageHelper.getUnauthorizedMessage(ex))
@@ -419,7 +430,7 @@ public class GlobalExceptionHandler {
         log.error("Access denied: {}", ex.getMessage(), ex);
 
         ErrorSingleResponse errorSingleResponse = ErrorSingleResponse.builder()
-                .timestamp(LocalDateTime.now())
+                .timestamp(timeService.currentDateTime())
                 .status(HttpStatus.FORBIDDEN.value())
                 .error(HttpStatus.FORBIDDEN.getReasonPhrase())
                 .message(ExceptionHandlerMessageHelper.getForbiddenMessage(ex))
@@ -483,7 +494,7 @@ public class GlobalExceptionHandler {
         log.error("Conflict: {}", ex.getMessage(), ex);
 
         ErrorSingleResponse errorSingleResponse = ErrorSingleResponse.builder()
-                .timestamp(LocalDateTime.now())
+                .timestamp(timeService.currentDateTime())
                 .status(HttpStatus.CONFLICT.value())
                 .error(HttpStatus.CONFLICT.getReasonPhrase())
                 .message(ExceptionHandlerMessageHelper.getConflictMessage(ex))
@@ -543,7 +554,7 @@ public class GlobalExceptionHandler {
         log.error("Request timed out: {}", ex.getMessage(), ex);
 
         ErrorSingleResponse errorSingleResponse = ErrorSingleResponse.builder()
-                .timestamp(LocalDateTime.now())
+                .timestamp(timeService.currentDateTime())
                 .status(HttpStatus.REQUEST_TIMEOUT.value())
                 .error(HttpStatus.REQUEST_TIMEOUT.getReasonPhrase())
                 .message(ExceptionHandlerMessageHelper.getTimeoutMessage(ex))
@@ -604,7 +615,7 @@ public class GlobalExceptionHandler {
         log.error("Service unavailable due to async request timeout: {}", ex.getMessage(), ex);
 
         ErrorSingleResponse errorSingleResponse = ErrorSingleResponse.builder()
-                .timestamp(LocalDateTime.now())
+                .timestamp(timeService.currentDateTime())
                 .status(HttpStatus.SERVICE_UNAVAILABLE.value())
                 .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
                 .message(ExceptionHandlerMessageHelper.getServiceUnavailableMessage(ex))
@@ -669,7 +680,7 @@ public class GlobalExceptionHandler {
         log.error("Http Media Type Not Acceptable: {}", ex.getMessage(), ex);
 
         ErrorSingleResponse errorSingleResponse = ErrorSingleResponse.builder()
-                .timestamp(LocalDateTime.now())
+                .timestamp(timeService.currentDateTime())
                 .status(HttpStatus.NOT_ACCEPTABLE.value())
                 .error(HttpStatus.NOT_ACCEPTABLE.getReasonPhrase())
                 .message(ExceptionHandlerMessageHelper.getHttpMediaTypeNotAcceptableException(ex))
@@ -734,7 +745,7 @@ public class GlobalExceptionHandler {
         log.error("Http Media Type Not Supported: {}", ex.getMessage(), ex);
 
         ErrorSingleResponse errorSingleResponse = ErrorSingleResponse.builder()
-                .timestamp(LocalDateTime.now())
+                .timestamp(timeService.currentDateTime())
                 .status(HttpStatus.UNSUPPORTED_MEDIA_TYPE.value())
                 .error(HttpStatus.UNSUPPORTED_MEDIA_TYPE.getReasonPhrase())
                 .message(ExceptionHandlerMessageHelper.getHttpMediaTypeNotSupportedException(ex))
@@ -789,13 +800,13 @@ public class GlobalExceptionHandler {
                     )
             }
     )
-    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    @ExceptionHandler({MaxUploadSizeExceededException.class, PayloadTooLargeException.class})
     protected ResponseEntity<ErrorSingleResponse> handleMaxUploadSizeExceededException(
             Exception ex, WebRequest request) {
         log.error("Max Upload Size Exceeded: {}", ex.getMessage(), ex);
 
         ErrorSingleResponse errorResponse = ErrorSingleResponse.builder()
-                .timestamp(LocalDateTime.now())
+                .timestamp(timeService.currentDateTime())
                 .status(HttpStatus.PAYLOAD_TOO_LARGE.value())
                 .error(HttpStatus.PAYLOAD_TOO_LARGE.getReasonPhrase())
                 .message(ExceptionHandlerMessageHelper.getMaxUploadSizeExceededException(ex))
@@ -805,6 +816,67 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.PAYLOAD_TOO_LARGE);
     }
 
+    @ApiResponse(
+            responseCode = "429",
+            description = "<p><strong>English:</strong> Too Many Requests. This error occurs when the server is " +
+                    "already handling as much work as it can accept for this operation, for example when the file " +
+                    "processing queue is full. Wait a few moments before retrying.</p>" +
+                    "<p><strong>Brazilian Portuguese:</strong> Muitas Requisições. Este erro ocorre quando o " +
+                    "servidor já está processando o máximo de trabalho que pode aceitar para esta operação, por " +
+                    "exemplo, quando a fila de processamento de arquivos está cheia. Aguarde alguns instantes antes " +
+                    "de tentar novamente.</p>",
+            content = {
+                    @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorSingleResponse.class),
+                            examples = {
+                                    @ExampleObject(
+                                            name = "English - 429 Too Many Requests",
+                                            summary = "English: Example of a 429 error response caused by a " +
+                                                    "saturated file processing queue.",
+                                            value = """
+                                                    {
+                                                      "timestamp": "2023-01-01T19:45:00",
+                                                      "path": "/api/files/upload-async",
+                                                      "status": 429,
+                                                      "error": "Too Many Requests",
+                                                      "message": "The file processing queue is full. Please try again later."
+                                                    }
+                                                    """
+                                    ),
+                                    @ExampleObject(
+                                            name = "Brazilian Portuguese - 429 Muitas Requisições",
+                                            summary = "Brazilian Portuguese: Exemplo de uma resposta de erro 429 " +
+                                                    "causada por uma fila de processamento de arquivos saturada.",
+                                            value = """
+                                                    {
+                                                      "timestamp": "2023-01-01T19:45:00",
+                                                      "path": "/api/files/upload-async",
+                                                      "status": 429,
+                                                      "error": "Too Many Requests",
+                                                      "message": "A fila de processamento de arquivos está cheia. Tente novamente mais tarde."
+                                                    }
+                                                    """
+                                    )
+                            }
+                    )
+            }
+    )
+    @ExceptionHandler(TooManyRequestsException.class)
+    protected ResponseEntity<ErrorSingleResponse> handleTooManyRequestsException(Exception ex, WebRequest request) {
+        log.error("Too Many Requests: {}", ex.getMessage(), ex);
+
+        ErrorSingleResponse errorSingleResponse = ErrorSingleResponse.builder()
+                .timestamp(timeService.currentDateTime())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+                .message(ExceptionHandlerMessageHelper.getTooManyRequestsMessage(ex))
+                .path(request.getDescription(Boolean.FALSE))
+                .build();
+
+        return new ResponseEntity<>(errorSingleResponse, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
     @ApiResponse(
             responseCode = "500",
             description = "<p><strong>English:</strong> Internal Server Error. This error occurs when the server " +
@@ -855,7 +927,7 @@ public class GlobalExceptionHandler {
         log.error("An unexpected error occurred: {}", ex.getMessage(), ex);
 
         ErrorSingleResponse errorSingleResponse = ErrorSingleResponse.builder()
-                .timestamp(LocalDateTime.now())
+                .timestamp(timeService.currentDateTime())
                 .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
                 .error(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase())
                 .message(ExceptionHandlerMessageHelper.getInternalServerErrorMessage(ex))
@@ -915,6 +987,7 @@ public class GlobalExceptionHandler {
             case CONFLICT -> this.handleConflictException(e, request);
             case UNSUPPORTED_MEDIA_TYPE -> this.handleHttpMediaTypeNotSupportedException(e, request);
             case PAYLOAD_TOO_LARGE -> this.handleMaxUploadSizeExceededException(e, request);
+            case TOO_MANY_REQUESTS -> this.handleTooManyRequestsException(e, request);
             case SERVICE_UNAVAILABLE -> this.handleAsyncRequestTimeoutException(e, request);
             default -> this.handleGlobalException(e, request);
         };
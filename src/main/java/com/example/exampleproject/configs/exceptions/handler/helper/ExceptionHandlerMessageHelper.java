@@ -55,6 +55,7 @@ import java.util.stream.Collectors;
  *   <li>Timeout errors.</li>
  *   <li>HTTP media type errors (not acceptable or not supported).</li>
  *   <li>File upload size exceeded errors.</li>
+ *   <li>Too many requests errors caused by saturated work queues.</li>
  *   <li>Bad request errors caused by invalid parameters, missing properties, or data violations.</li>
  * </ul>
  *
@@ -239,7 +240,7 @@ public class ExceptionHandlerMessageHelper {
      *
      * @param ex The exception that triggered the upload size exceeded the error.
      *           This exception is typically related to file upload size constraints,
-     *           such as {@code MaxUploadSizeExceededException} or similar.
+     *           such as {@code MaxUploadSizeExceededException} or {@code PayloadTooLargeException}.
      * @return A localized error message indicating that the uploaded file size exceeded
      * the allowed limit. If the exception does not contain specifics, a default
      * message is returned.
@@ -248,6 +249,19 @@ public class ExceptionHandlerMessageHelper {
         return getErrorMessage(ex, "msg.exception.handler.max.upload.size.exceeded.default");
     }
 
+    /**
+     * Generates an error message indicating that the server is saturated and cannot accept more work
+     * for the requested operation at the moment.
+     *
+     * @param ex The exception that triggered the too many requests error, typically a
+     *           {@code TooManyRequestsException} raised when a bounded work queue is full.
+     * @return A localized error message indicating that the request should be retried later.
+     * If the exception does not contain a message, a default message is returned.
+     */
+    public static String getTooManyRequestsMessage(Exception ex) {
+        return getErrorMessage(ex, "msg.exception.handler.too.many.requests.default");
+    }
+
     /**
      * Generates an appropriate error message based on the provided exception, specifically for
      * bad request scenarios. The error message is determined by the type of the exception passed in.
@@ -0,0 +1,112 @@
+package com.example.exampleproject.configs.files;
+
+import com.example.exampleproject.configs.annotations.Base64FileValidation;
+import com.example.exampleproject.configs.files.deserializers.Base64FileContentDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Lightweight handle for a file received as a Base64 data URI
+ * ({@code data:[type]/[subtype];base64,[content]}) in a JSON body.
+ * <p>
+ * Instances are created by {@link Base64FileContentDeserializer}, which decodes the content segment by segment
+ * from the parser's text buffer, so the Base64 text is never materialized as a {@link String}. Only the decoded
+ * bytes are retained. Malformed input does not fail deserialization: the handle keeps a
+ * {@link Status} describing the problem so that {@link Base64FileValidation} can report it with the
+ * same messages used for String fields.
+ */
+@Getter
+@JsonDeserialize(using = Base64FileContentDeserializer.class)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Schema(type = "string", description = "Base64 encoded file. Expected format: data:[type]/[subtype];base64,[content]")
+public final class Base64FileContent {
+
+    /**
+     * Outcome of decoding the data URI.
+     */
+    public enum Status {
+        VALID,
+        INVALID_FORMAT,
+        INVALID_CONTENT
+    }
+
+    private static final byte[] EMPTY_CONTENT = new byte[0];
+
+    private final Status status;
+
+    /**
+     * MIME type declared in the data URI prefix, or {@code null} when the format is invalid.
+     */
+    private final String declaredMimeType;
+
+    @Getter(AccessLevel.NONE)
+    private final byte[] content;
+
+    public static Base64FileContent valid(String declaredMimeType, byte[] content) {
+        return new Base64FileContent(Status.VALID, declaredMimeType, content);
+    }
+
+    public static Base64FileContent invalidFormat() {
+        return new Base64FileContent(Status.INVALID_FORMAT, null, EMPTY_CONTENT);
+    }
+
+    public static Base64FileContent invalidContent(String declaredMimeType) {
+        return new Base64FileContent(Status.INVALID_CONTENT, declaredMimeType, EMPTY_CONTENT);
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+
+    /**
+     * @return the decoded size in bytes.
+     */
+    public long getSize() {
+        return content.length;
+    }
+
+    /**
+     * Returns the decoded bytes without copying them. Callers must not modify the returned array.
+     *
+     * @return the decoded file content.
+     */
+    public byte[] getBytes() {
+        return content;
+    }
+
+    public InputStream getInputStream() {
+        return new ByteArrayInputStream(content);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Base64FileContent that)) {
+            return false;
+        }
+        return status == that.status
+                && Objects.equals(declaredMimeType, that.declaredMimeType)
+                && Arrays.equals(content, that.content);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hash(status, declaredMimeType) + Arrays.hashCode(content);
+    }
+
+    @Override
+    public String toString() {
+        return "Base64FileContent[status=" + status + ", declaredMimeType=" + declaredMimeType
+                + ", size=" + content.length + "]";
+    }
+}
@@ -0,0 +1,311 @@
+package com.example.exampleproject.configs.files.deserializers;
+
+import com.example.exampleproject.configs.files.Base64FileContent;
+import com.example.exampleproject.utils.Base64FileUtils;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A streaming deserializer for {@link Base64FileContent}, which expects a JSON string in the format
+ * {@value EXPECTED_FORMAT}.
+ * <p>
+ * The parser reads the whole string into its text buffer before handing it over, so the value is held once as
+ * characters (two bytes each) while it is decoded. {@link JsonParser#getText(Writer)} then hands over the segments
+ * of that buffer one after the other: neither a {@link String} nor a contiguous {@code char[]} copy is built for
+ * the (potentially multi-megabyte) payload. A first pass only looks at the last characters of each segment for
+ * the {@code =} padding, so that the byte array is sized exactly from the text length. The second pass decodes the
+ * Base64 characters with {@link Base64FileUtils.DecodingWriter} as the segments arrive, with the same rules used by
+ * {@code Base64FileValidator}, straight into that array.
+ * <p>
+ * The peak memory of a value is therefore its text buffer plus its decoded bytes, about 2.75 bytes per character
+ * of Base64 text, with no further copy.
+ */
+@Slf4j
+public class Base64FileContentDeserializer extends JsonDeserializer<Base64FileContent> {
+
+    private static final String EXPECTED_FORMAT = "data:[type]/[subtype];base64,[content]";
+
+    private static final char[] DATA_PREFIX = "data:".toCharArray();
+
+    private static final char[] BASE64_MARKER = ";base64,".toCharArray();
+
+    /**
+     * Longest {@code data:[type]/[subtype];base64,} prefix accepted, with the 127 characters allowed by RFC 6838
+     * for both the type and the subtype.
+     */
+    private static final int MAX_PREFIX_LENGTH = DATA_PREFIX.length + 127 + 1 + 127 + BASE64_MARKER.length;
+
+    /**
+     * Deserializes a JSON string containing a Base64 data URI into a {@link Base64FileContent} handle.
+     *
+     * @param p    the JSON parser positioned on the string value
+     * @param ctxt the deserialization context
+     * @return the decoded handle, or null if the input string is empty or blank
+     * @throws IOException if an I/O error occurs or the current token is not a string
+     */
+    @Override
+    public Base64FileContent deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (!p.hasToken(JsonToken.VALUE_STRING)) {
+            return (Base64FileContent) ctxt.handleUnexpectedToken(Base64FileContent.class, p);
+        }
+
+        PaddingCounter paddingCounter = new PaddingCounter();
+        p.getText(paddingCounter);
+        try (DataUriDecoder decoder = new DataUriDecoder(paddingCounter.length, paddingCounter.padding())) {
+            p.getText(decoder);
+            return decoder.finish();
+        }
+    }
+
+    /**
+     * Decodes a Base64 data URI held in {@code chars[offset, offset + length)}.
+     *
+     * @param chars  the buffer holding the data URI
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return the decoded handle, or null if the range is empty or blank
+     */
+    public static Base64FileContent decode(char[] chars, int offset, int length) {
+        PaddingCounter paddingCounter = new PaddingCounter();
+        paddingCounter.write(chars, offset, length);
+        try (DataUriDecoder decoder = new DataUriDecoder(length, paddingCounter.padding())) {
+            decoder.write(chars, offset, length);
+            return decoder.finish();
+        }
+    }
+
+    /**
+     * Validates the {@code data:[type]/[subtype];base64,} prefix.
+     *
+     * @return the index of the {@code ;base64,} marker, or -1 if the prefix is malformed
+     */
+    private static int findMimeTypeEnd(char[] chars, int start, int end) {
+        if (!regionMatches(chars, start, end, DATA_PREFIX)) {
+            return -1;
+        }
+
+        int i = start + DATA_PREFIX.length;
+        int typeLength = countMimeTypeChars(chars, i, end);
+        i += typeLength;
+        if (typeLength == 0 || i >= end || chars[i] != '/') {
+            return -1;
+        }
+
+        i++;
+        int subtypeLength = countMimeTypeChars(chars, i, end);
+        i += subtypeLength;
+        if (subtypeLength == 0 || !regionMatches(chars, i, end, BASE64_MARKER)) {
+            return -1;
+        }
+
+        return i;
+    }
+
+    private static int countMimeTypeChars(char[] chars, int start, int end) {
+        int i = start;
+        while (i < end && isMimeTypeChar(chars[i])) {
+            i++;
+        }
+        return i - start;
+    }
+
+    private static boolean isMimeTypeChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '.' || c == '+' || c == '-';
+    }
+
+    private static boolean regionMatches(char[] chars, int start, int end, char[] expected) {
+        if (end - start < expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (chars[start + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Counts the characters of a data URI received in any number of writes and the {@code =} at its end, at most
+     * two, looking only at the last two characters of each write.
+     */
+    private static final class PaddingCounter extends Writer {
+
+        private int length;
+
+        private int trailingPadding;
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            this.length += length;
+            // Only the last two characters can be padding that counts
+            int start = Math.max(offset, offset + length - 2);
+            if (start > offset) {
+                trailingPadding = 0;
+            }
+            for (int i = start; i < offset + length; i++) {
+                trailingPadding = chars[i] == '=' ? trailingPadding + 1 : 0;
+            }
+        }
+
+        private int padding() {
+            return Math.min(trailingPadding, 2);
+        }
+
+        @Override
+        public void flush() {
+            // Nothing is buffered
+        }
+
+        @Override
+        public void close() {
+            // Nothing is buffered
+        }
+    }
+
+    /**
+     * Receives the characters of a data URI in any number of writes: the prefix is collected up to its
+     * {@code ,} and validated, then the payload is handed to a {@link Base64FileUtils.DecodingWriter}. Once the
+     * format or the content is found invalid, the remaining characters are only checked for blankness.
+     */
+    private static final class DataUriDecoder extends Writer {
+
+        private enum State {
+            PREFIX,
+            PAYLOAD,
+            INVALID_FORMAT,
+            INVALID_CONTENT
+        }
+
+        private final int textLength;
+
+        private final int padding;
+
+        private final char[] prefix = new char[MAX_PREFIX_LENGTH];
+
+        private int prefixLength;
+
+        private State state = State.PREFIX;
+
+        private boolean blank = true;
+
+        private String declaredMimeType;
+
+        private byte[] decoded;
+
+        private int decodedLength;
+
+        private Base64FileUtils.DecodingWriter payloadDecoder;
+
+        private DataUriDecoder(int textLength, int padding) {
+            this.textLength = textLength;
+            this.padding = padding;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            int end = offset + length;
+            int i = state == State.PREFIX ? collectPrefix(chars, offset, end) : offset;
+
+            if (state == State.PAYLOAD && i < end) {
+                try {
+                    payloadDecoder.write(chars, i, end - i);
+                } catch (IllegalArgumentException e) {
+                    invalidContent(e);
+                }
+            } else if (state == State.INVALID_FORMAT && blank) {
+                while (i < end && blank) {
+                    blank = Character.isWhitespace(chars[i++]);
+                }
+            }
+        }
+
+        /**
+         * @return the index of the first character after the prefix
+         */
+        private int collectPrefix(char[] chars, int offset, int end) {
+            int i = offset;
+            while (i < end) {
+                char c = chars[i++];
+                blank = blank && Character.isWhitespace(c);
+                if (prefixLength == prefix.length) {
+                    state = State.INVALID_FORMAT;
+                    return i;
+                }
+
+                prefix[prefixLength++] = c;
+                if (c == ',') {
+                    startPayload();
+                    return i;
+                }
+            }
+            return i;
+        }
+
+        private void startPayload() {
+            // The first ',' ends the prefix, so a valid marker ends exactly there
+            int mimeTypeEnd = findMimeTypeEnd(prefix, 0, prefixLength);
+            if (mimeTypeEnd < 0) {
+                state = State.INVALID_FORMAT;
+                return;
+            }
+
+            declaredMimeType = new String(prefix, DATA_PREFIX.length, mimeTypeEnd - DATA_PREFIX.length);
+            int payloadLength = textLength - prefixLength;
+            // Exact for a valid payload; an invalid one may decode more, which is rejected as invalid content
+            decoded = new byte[Math.max(0, (int) (3L * payloadLength / 4) - padding)];
+            payloadDecoder = new Base64FileUtils.DecodingWriter((buffer, length) -> {
+                if (length > decoded.length - decodedLength) {
+                    throw new IllegalArgumentException("Input has incorrect ending");
+                }
+                System.arraycopy(buffer, 0, decoded, decodedLength, length);
+                decodedLength += length;
+            });
+            state = State.PAYLOAD;
+        }
+
+        private void invalidContent(IllegalArgumentException e) {
+            log.debug("Base64 Invalid Content: {}", e.getMessage());
+            state = State.INVALID_CONTENT;
+            decoded = null;
+        }
+
+        /**
+         * @return the decoded handle, or null if all the characters were blank
+         */
+        private Base64FileContent finish() {
+            if (state == State.PAYLOAD) {
+                try {
+                    payloadDecoder.finish();
+                } catch (IllegalArgumentException e) {
+                    invalidContent(e);
+                }
+            }
+
+            return switch (state) {
+                case PAYLOAD -> Base64FileContent.valid(declaredMimeType, decoded);
+                case INVALID_CONTENT -> Base64FileContent.invalidContent(declaredMimeType);
+                default -> blank ? null : Base64FileContent.invalidFormat();
+            };
+        }
+
+        @Override
+        public void flush() {
+            // Nothing is buffered besides the prefix, which is only complete at its ','
+        }
+
+        @Override
+        public void close() {
+            if (payloadDecoder != null) {
+                payloadDecoder.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.exampleproject.configs.filters;
+
+import com.example.exampleproject.configs.annotations.MultipartFileValidation;
+import com.example.exampleproject.configs.annotations.validators.base.AbstractFileValidator;
+import com.example.exampleproject.configs.exceptions.custom.PayloadTooLargeException;
+import com.example.exampleproject.utils.MessageUtils;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.LocaleResolver;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rejects multipart requests whose declared size already exceeds what the target endpoint accepts,
+ * before the body is parsed and buffered to disk.
+ * <p>
+ * The limit of an endpoint is derived from the {@link MultipartFileValidation} annotations of its
+ * handler method parameters: {@code maxSizeInMB} for a single file, or {@code maxSizeInMB * maxFileCount}
+ * for a collection of files, plus {@code file.validation.request-overhead} for multipart boundaries and
+ * non-file parts. An invalid {@code maxSizeInMB} falls back to the same default as in the validators.
+ * Endpoints without annotated parameters are only bound by the global {@code spring.servlet.multipart} limits.
+ * <p>
+ * Requests without a {@code Content-Length} (chunked transfer encoding) are let through; their running
+ * size is enforced by {@code spring.servlet.multipart.max-request-size} while the container reads the parts.
+ */
+@Slf4j
+@Component
+public class MultipartSizeLimitFilter extends OncePerRequestFilter {
+
+    private static final long BYTES_IN_MB = 1024L * 1024L;
+
+    private static final long NO_LIMIT = -1L;
+
+    private final RequestMappingHandlerMapping handlerMapping;
+
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    private final LocaleResolver localeResolver;
+
+    private final long requestOverhead;
+
+    private final Map<HandlerMethod, Long> limits = new ConcurrentHashMap<>();
+
+    @Autowired
+    public MultipartSizeLimitFilter(
+            @Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver,
+            LocaleResolver localeResolver,
+            @Value("${file.validation.request-overhead:1MB}") DataSize requestOverhead) {
+
+        this.handlerMapping = handlerMapping;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+        this.localeResolver = localeResolver;
+        this.requestOverhead = requestOverhead.toBytes();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType == null || !contentType.toLowerCase().startsWith(MediaType.MULTIPART_FORM_DATA_VALUE);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        long contentLength = request.getContentLengthLong();
+        if (contentLength < 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HandlerMethod handlerMethod = resolveHandlerMethod(request);
+        long limit = handlerMethod != null
+                ? limits.computeIfAbsent(handlerMethod, this::computeLimit)
+                : NO_LIMIT;
+
+        if (limit != NO_LIMIT && contentLength > limit) {
+            log.warn("Rejecting multipart request to {} before parsing: {} bytes declared, {} bytes allowed",
+                    request.getRequestURI(), contentLength, limit);
+
+            PayloadTooLargeException ex = new PayloadTooLargeException(getMessage(request, contentLength, limit));
+            handlerExceptionResolver.resolveException(request, response, handlerMethod, ex);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private HandlerMethod resolveHandlerMethod(HttpServletRequest request) {
+        boolean parsedPath = ServletRequestPathUtils.hasParsedRequestPath(request);
+        if (!parsedPath) {
+            ServletRequestPathUtils.parseAndCache(request);
+        }
+
+        try {
+            HandlerExecutionChain chain = handlerMapping.getHandler(request);
+            return chain != null && chain.getHandler() instanceof HandlerMethod handlerMethod
+                    ? handlerMethod
+                    : null;
+        } catch (Exception e) {
+            // Unmatched method, media type, etc. are reported by the DispatcherServlet itself.
+            return null;
+        } finally {
+            if (!parsedPath) {
+                ServletRequestPathUtils.clearParsedRequestPath(request);
+            }
+        }
+    }
+
+    private long computeLimit(HandlerMethod handlerMethod) {
+        long limit = 0L;
+        boolean annotated = false;
+
+        for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+            MultipartFileValidation validation = parameter.getParameterAnnotation(MultipartFileValidation.class);
+            if (validation == null) {
+                continue;
+            }
+
+            Class<?> type = parameter.getParameterType();
+            long fileCount = Collection.class.isAssignableFrom(type) || type.isArray()
+                    ? validation.maxFileCount()
+                    : 1L;
+
+            limit += AbstractFileValidator.validateMaxSizeInMB(validation.maxSizeInMB()) * BYTES_IN_MB * fileCount;
+            annotated = true;
+        }
+
+        return annotated ? limit + requestOverhead : NO_LIMIT;
+    }
+
+    private String getMessage(HttpServletRequest request, long contentLength, long limit) {
+        LocaleContext previous = LocaleContextHolder.getLocaleContext();
+        LocaleContextHolder.setLocale(localeResolver.resolveLocale(request));
+        try {
+            return MessageUtils.getMessage("msg.file.upload.request.too.large", contentLength, limit);
+        } finally {
+            LocaleContextHolder.setLocaleContext(previous);
+        }
+    }
+}
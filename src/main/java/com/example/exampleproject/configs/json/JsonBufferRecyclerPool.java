@@ -0,0 +1,109 @@
+package com.example.exampleproject.configs.json;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+
+import java.io.Serial;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of the {@link BufferRecycler}s holding the read and write buffers of the Jackson parsers and generators,
+ * shared by the JSON, Smile and CBOR mappers of {@link com.example.exampleproject.configs.JacksonConfig}.
+ * <p>
+ * Jackson's default pool keeps one recycler per thread, which only pays off when the same threads serve request
+ * after request: with a thread per request, as with virtual threads, every response allocates its buffers again.
+ * This pool is shared by all threads instead. It is lock-free, the most recently released recycler being handed
+ * out first, and retains at most {@code json.recycler-pool.max-size} recyclers; those released beyond that are
+ * left to the garbage collector.
+ * <p>
+ * {@link #getStats()} tells how many acquisitions were served by a pooled recycler.
+ */
+public class JsonBufferRecyclerPool implements RecyclerPool<BufferRecycler> {
+
+    public static final int DEFAULT_MAX_SIZE = 64;
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final int maxSize;
+
+    private final transient ConcurrentLinkedDeque<BufferRecycler> pooled = new ConcurrentLinkedDeque<>();
+
+    /**
+     * Upper bound of the number of pooled recyclers, incremented before a recycler is added and decremented after
+     * it is removed, so the deque never holds more than {@link #maxSize}.
+     */
+    private final transient AtomicInteger size = new AtomicInteger();
+
+    private final transient LongAdder hits = new LongAdder();
+
+    private final transient LongAdder misses = new LongAdder();
+
+    private final transient LongAdder dropped = new LongAdder();
+
+    /**
+     * @param maxSize the maximum number of recyclers retained, {@code 0} to never reuse them
+     * @throws IllegalArgumentException if {@code maxSize} is negative
+     */
+    public JsonBufferRecyclerPool(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The maximum size of the recycler pool cannot be negative");
+        }
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public BufferRecycler acquirePooled() {
+        BufferRecycler recycler = pooled.pollFirst();
+        if (Objects.nonNull(recycler)) {
+            size.decrementAndGet();
+            hits.increment();
+            return recycler;
+        }
+
+        misses.increment();
+        return new BufferRecycler();
+    }
+
+    @Override
+    public void releasePooled(BufferRecycler recycler) {
+        if (size.incrementAndGet() <= maxSize) {
+            pooled.offerFirst(recycler);
+            return;
+        }
+
+        size.decrementAndGet();
+        dropped.increment();
+    }
+
+    /**
+     * Returns a snapshot of the pool counters.
+     *
+     * @return the current pool statistics
+     */
+    public Stats getStats() {
+        return new Stats(hits.sum(), misses.sum(), dropped.sum(), pooled.size());
+    }
+
+    /**
+     * A deserialized mapper gets an empty pool of the same size.
+     */
+    @Serial
+    private Object readResolve() {
+        return new JsonBufferRecyclerPool(maxSize);
+    }
+
+    /**
+     * Snapshot of the pool counters.
+     *
+     * @param hits    acquisitions served by a pooled recycler
+     * @param misses  acquisitions that required a new recycler
+     * @param dropped recyclers released while the pool was full
+     * @param pooled  recyclers currently available in the pool
+     */
+    public record Stats(long hits, long misses, long dropped, int pooled) {
+    }
+}
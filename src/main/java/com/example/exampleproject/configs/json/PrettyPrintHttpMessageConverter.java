@@ -0,0 +1,51 @@
+package com.example.exampleproject.configs.json;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * JSON converter of the MVC responses, registered by {@link com.example.exampleproject.configs.JacksonConfig}.
+ * <p>
+ * Responses are written as configured on the {@link ObjectMapper}, compact unless {@code json.indent-output} is
+ * enabled. A single request can ask for an indented response with the {@value #PRETTY_PARAMETER} query
+ * parameter (any value other than {@code false}) or the {@value #PRETTY_HEADER} header with the value
+ * {@code true}, which only changes the {@link ObjectWriter} of that response.
+ */
+public class PrettyPrintHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public static final String PRETTY_PARAMETER = "pretty";
+
+    public static final String PRETTY_HEADER = "X-Pretty-Print";
+
+    public PrettyPrintHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    @NonNull
+    protected ObjectWriter customizeWriter(@NonNull ObjectWriter writer,
+                                           @Nullable JavaType javaType,
+                                           @Nullable MediaType contentType) {
+        ObjectWriter customized = super.customizeWriter(writer, javaType, contentType);
+        return isPrettyPrintRequested() ? customized.withDefaultPrettyPrinter() : customized;
+    }
+
+    private boolean isPrettyPrintRequested() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return false;
+        }
+
+        HttpServletRequest request = attributes.getRequest();
+        String pretty = request.getParameter(PRETTY_PARAMETER);
+        return (pretty != null && !"false".equalsIgnoreCase(pretty))
+                || Boolean.parseBoolean(request.getHeader(PRETTY_HEADER));
+    }
+}
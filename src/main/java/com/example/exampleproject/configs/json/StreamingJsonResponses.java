@@ -0,0 +1,120 @@
+package com.example.exampleproject.configs.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Builds responses that write the items of a {@link Stream} one at a time, for list endpoints whose result
+ * may be large.
+ * <p>
+ * Items are serialized with a {@link SequenceWriter} of the project {@link ObjectMapper}, so the custom date
+ * and time serializers apply, and are written to the response as they are produced: the response is sent in
+ * chunks, and neither the result nor its JSON is ever held in memory as a whole. The first item is flushed
+ * immediately and the following ones every {@code json.stream.flush-batch-size} items. Two modes exist:
+ * <ul>
+ *   <li>{@link #ndjson(Stream)}: one compact JSON document per line ({@code application/x-ndjson});</li>
+ *   <li>{@link #array(Stream)}: a single JSON array ({@code application/json}).</li>
+ * </ul>
+ * The stream is closed once written, including when the client disconnects before the end, in which case
+ * the remaining items are not produced and the disconnection is only logged. An item that cannot be serialized
+ * is a programming error: it is logged as such and fails the request.
+ */
+@Slf4j
+@Component
+public class StreamingJsonResponses {
+
+    private final ObjectWriter ndjsonWriter;
+
+    private final ObjectWriter arrayWriter;
+
+    private final int flushBatchSize;
+
+    /**
+     * @param objectMapper   the project mapper
+     * @param flushBatchSize the number of items written between two flushes
+     * @throws IllegalArgumentException if {@code flushBatchSize} is not positive
+     */
+    @Autowired
+    public StreamingJsonResponses(ObjectMapper objectMapper,
+                                  @Value("${json.stream.flush-batch-size:100}") int flushBatchSize) {
+        if (flushBatchSize <= 0) {
+            throw new IllegalArgumentException("The flush batch size of streamed responses must be positive");
+        }
+
+        // The output stream belongs to the container, which closes it after the body is written
+        this.arrayWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.ndjsonWriter = arrayWriter.without(SerializationFeature.INDENT_OUTPUT).withRootValueSeparator("\n");
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    /**
+     * Creates a response writing each item as a line of JSON.
+     *
+     * @param items the items to write, closed once written
+     * @param <T>   the type of the items
+     * @return a {@code 200} response of type {@code application/x-ndjson}
+     */
+    public <T> ResponseEntity<StreamingResponseBody> ndjson(Stream<T> items) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> write(items, outputStream, false));
+    }
+
+    /**
+     * Creates a response writing the items as the elements of a JSON array.
+     *
+     * @param items the items to write, closed once written
+     * @param <T>   the type of the items
+     * @return a {@code 200} response of type {@code application/json}
+     */
+    public <T> ResponseEntity<StreamingResponseBody> array(Stream<T> items) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(outputStream -> write(items, outputStream, true));
+    }
+
+    <T> void write(Stream<T> items, OutputStream outputStream, boolean asArray) throws IOException {
+        long written = 0;
+        try (items; SequenceWriter writer = asArray
+                ? arrayWriter.writeValuesAsArray(outputStream)
+                : ndjsonWriter.writeValues(outputStream)) {
+
+            Iterator<T> iterator = items.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                written++;
+                if (written == 1 || written % flushBatchSize == 0) {
+                    writer.flush();
+                }
+            }
+
+            if (!asArray && written > 0) {
+                // The separator only goes between lines, the last one is terminated here
+                writer.flush();
+                outputStream.write('\n');
+            }
+        } catch (JsonProcessingException e) {
+            log.error("Streamed response failed after {} item(s), an item could not be serialized", written, e);
+            throw e;
+        } catch (IOException e) {
+            log.debug("Streamed response interrupted after {} item(s), the client probably disconnected: {}",
+                    written, e.getMessage());
+        }
+    }
+}
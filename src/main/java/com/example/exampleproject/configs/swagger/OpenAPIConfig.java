@@ -2,6 +2,8 @@ package com.example.exampleproject.configs.swagger;
 
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import org.springdoc.core.customizers.OpenApiCustomizer;
@@ -10,6 +12,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 
 import java.util.List;
 import java.util.Locale;
@@ -19,6 +23,12 @@ import java.util.stream.Collectors;
 @Configuration
 public class OpenAPIConfig {
 
+    private static final String JSON_MEDIA_TYPE = org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+    private static final List<String> BINARY_MEDIA_TYPES = List.of(
+            "application/x-jackson-smile",
+            org.springframework.http.MediaType.APPLICATION_CBOR_VALUE);
+
     @Value("${api.title}")
     private String apiTitle;
 
@@ -73,4 +83,34 @@ public class OpenAPIConfig {
                 }));
     }
 
+    /**
+     * Documents the Smile and CBOR alternatives of every JSON request and response body, served by the converters
+     * of {@link com.example.exampleproject.configs.JacksonConfig} ({@link MappingJackson2SmileHttpMessageConverter},
+     * {@link MappingJackson2CborHttpMessageConverter}) with the same schema.
+     */
+    @Bean
+    public OpenApiCustomizer binaryMediaTypesCustomizer() {
+        return openApi -> openApi.getPaths().forEach((_, pathItem) ->
+                pathItem.readOperations().forEach(operation -> {
+                    if (operation.getRequestBody() != null) {
+                        addBinaryMediaTypes(operation.getRequestBody().getContent());
+                    }
+                    if (operation.getResponses() != null) {
+                        operation.getResponses().values()
+                                .forEach(response -> addBinaryMediaTypes(response.getContent()));
+                    }
+                }));
+    }
+
+    private void addBinaryMediaTypes(Content content) {
+        if (content == null || !content.containsKey(JSON_MEDIA_TYPE)) {
+            return;
+        }
+
+        Schema<?> schema = content.get(JSON_MEDIA_TYPE).getSchema();
+        for (String mediaType : BINARY_MEDIA_TYPES) {
+            content.putIfAbsent(mediaType, new MediaType().schema(schema));
+        }
+    }
+
 }
@@ -0,0 +1,112 @@
+package com.example.exampleproject.configs.validation;
+
+import com.example.exampleproject.configs.annotations.FailFastValidation;
+import com.example.exampleproject.configs.annotations.groups.CostOrderedChecks;
+import jakarta.servlet.http.HttpServletRequest;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Validator of the {@code @Valid} request bodies, registered as the MVC validator by
+ * {@link com.example.exampleproject.configs.WebConfig}.
+ * <p>
+ * Bodies are validated in {@link CostOrderedChecks} order: the constraints of the
+ * {@link com.example.exampleproject.configs.annotations.groups.ExpensiveChecks ExpensiveChecks} group (file
+ * decoding and MIME type detection) only run when all the cheap constraints passed. Every cheap violation is
+ * still reported, unless the fail-fast mode is enabled, in which case validation stops at the first violation.
+ * The fail-fast mode is enabled:
+ * <ul>
+ *   <li>for every request, with {@code validation.fail-fast.enabled};</li>
+ *   <li>for a handler method or controller annotated with {@link FailFastValidation};</li>
+ *   <li>for a single request sending the {@value #FAIL_FAST_HEADER} header with the value {@code true}. The
+ *   header can only enable the mode, never disable it for an endpoint that requires it.</li>
+ * </ul>
+ * Explicit groups given with {@code @Validated(groups)} are honored as is.
+ */
+@Component
+public class CostOrderedRequestValidator implements SmartValidator {
+
+    public static final String FAIL_FAST_HEADER = "X-Validation-Fail-Fast";
+
+    private final SpringValidatorAdapter validator;
+
+    private final SpringValidatorAdapter failFastValidator;
+
+    @Value("${validation.fail-fast.enabled:false}")
+    private boolean failFastEnabled;
+
+    @Autowired
+    public CostOrderedRequestValidator(LocalValidatorFactoryBean validatorFactory) {
+        this.validator = validatorFactory;
+        // Shares the factory's metadata, message interpolation and initialized constraint validators
+        this.failFastValidator = new SpringValidatorAdapter(validatorFactory.unwrap(HibernateValidatorFactory.class)
+                .usingContext()
+                .failFast(true)
+                .getValidator());
+    }
+
+    @Override
+    public boolean supports(@NonNull Class<?> clazz) {
+        return validator.supports(clazz);
+    }
+
+    @Override
+    public void validate(@NonNull Object target, @NonNull Errors errors) {
+        validate(target, errors, new Object[0]);
+    }
+
+    @Override
+    public void validate(@NonNull Object target, @NonNull Errors errors, @NonNull Object... validationHints) {
+        SpringValidatorAdapter delegate = isFailFast() ? failFastValidator : validator;
+        if (validationHints.length > 0) {
+            delegate.validate(target, errors, validationHints);
+        } else {
+            delegate.validate(target, errors, CostOrderedChecks.class);
+        }
+    }
+
+    @Override
+    public void validateValue(@NonNull Class<?> targetType,
+                              @NonNull String fieldName,
+                              Object value,
+                              @NonNull Errors errors,
+                              @NonNull Object... validationHints) {
+        validator.validateValue(targetType, fieldName, value, errors, validationHints);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        // Lets Spring MVC run its built-in method validation with the underlying Bean Validation validator
+        return validator.unwrap(type);
+    }
+
+    private boolean isFailFast() {
+        if (failFastEnabled) {
+            return true;
+        }
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return false;
+        }
+
+        HttpServletRequest request = attributes.getRequest();
+        if (Boolean.parseBoolean(request.getHeader(FAIL_FAST_HEADER))) {
+            return true;
+        }
+
+        return request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler
+                && (handler.hasMethodAnnotation(FailFastValidation.class)
+                || AnnotatedElementUtils.hasAnnotation(handler.getBeanType(), FailFastValidation.class));
+    }
+}
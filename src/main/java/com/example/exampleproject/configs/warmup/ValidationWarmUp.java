@@ -0,0 +1,236 @@
+package com.example.exampleproject.configs.warmup;
+
+import com.example.exampleproject.ExampleProjectApplication;
+import com.example.exampleproject.configs.annotations.groups.ExpensiveChecks;
+import com.example.exampleproject.utils.CpfCnpjUtils;
+import com.example.exampleproject.utils.MessageUtils;
+import com.example.exampleproject.utils.TikaUtils;
+import jakarta.validation.Validator;
+import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.ContainerElementTypeDescriptor;
+import jakarta.validation.metadata.MethodDescriptor;
+import jakarta.validation.metadata.ParameterDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves the one-off costs of the first validations from the first requests to startup.
+ * <p>
+ * Hibernate Validator builds the constraint metadata of a class the first time it validates it, and
+ * initializes each constraint validator the first time its constraint is evaluated, which for the file
+ * validators includes loading Tika. Before the application reports itself ready, this runner builds the
+ * metadata of every {@link RestController} and of the application classes their handler methods receive
+ * (following cascaded properties), evaluates the parameter constraints of the handler methods and the property
+ * constraints of those classes against {@code null} (initializing their validators, such as the file validators
+ * of the multipart parameters, and the message interpolation without invoking any method), resolves
+ * the validation messages in both supported locales, and runs a MIME type detection and a CPF/CNPJ check.
+ * <p>
+ * Enabled by {@code validation.warm-up.enabled}. Failures are logged and never prevent the startup, the
+ * affected classes are then simply prepared on first use as before.
+ */
+@Slf4j
+@Component
+public class ValidationWarmUp implements ApplicationRunner {
+
+    private static final String APPLICATION_PACKAGE = ExampleProjectApplication.class.getPackageName() + ".";
+
+    private static final String[] MESSAGE_KEYS = {
+            "msg.validation.request.field.cpfcnpj.invalid",
+            "msg.validation.request.field.date.range.invalid",
+            "msg.validation.request.field.base64file.invalid.format"
+    };
+
+    private static final byte[] SAMPLE_PDF = "%PDF-1.4\n1 0 obj\n".getBytes(StandardCharsets.US_ASCII);
+
+    private static final String[] SAMPLE_DOCUMENTS = {"81865839043", "09795208000119", "12ABC34501DE35"};
+
+    private final Validator validator;
+
+    private final ApplicationContext applicationContext;
+
+    @Value("${validation.warm-up.enabled:true}")
+    private boolean enabled;
+
+    @Autowired
+    public ValidationWarmUp(Validator validator, ApplicationContext applicationContext) {
+        this.validator = validator;
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.nanoTime();
+
+        Set<Class<?>> beanTypes = new LinkedHashSet<>();
+        int handlerMethods = 0;
+        int constraints = 0;
+        for (Object controller : applicationContext.getBeansWithAnnotation(RestController.class).values()) {
+            Class<?> controllerClass = ClassUtils.getUserClass(controller);
+            BeanDescriptor descriptor = describe(controllerClass);
+
+            for (Method method : controllerClass.getMethods()) {
+                if (AnnotatedElementUtils.hasAnnotation(method, RequestMapping.class)) {
+                    handlerMethods++;
+                    constraints += initializeParameterValidators(controller, descriptor, method);
+                    for (Class<?> parameterType : method.getParameterTypes()) {
+                        collectBeanTypes(parameterType, beanTypes);
+                    }
+                }
+            }
+        }
+
+        for (Class<?> beanType : beanTypes) {
+            constraints += initializeValidators(beanType);
+        }
+
+        warmUpMessages();
+        warmUpDetection();
+
+        log.info("Validation warm-up prepared {} handler method(s), {} request class(es) and {} constraint(s) "
+                        + "in {} ms", handlerMethods, beanTypes.size(), constraints,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private BeanDescriptor describe(Class<?> type) {
+        try {
+            return validator.getConstraintsForClass(type);
+        } catch (RuntimeException e) {
+            log.warn("Could not build the constraint metadata of {}: {}", type.getName(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Adds the type and the application classes reachable through its cascaded properties.
+     */
+    private void collectBeanTypes(Class<?> type, Set<Class<?>> beanTypes) {
+        if (type.isArray()) {
+            collectBeanTypes(type.getComponentType(), beanTypes);
+            return;
+        }
+        if (type.isPrimitive() || !type.getName().startsWith(APPLICATION_PACKAGE) || !beanTypes.add(type)) {
+            return;
+        }
+
+        BeanDescriptor descriptor = describe(type);
+        if (descriptor == null) {
+            return;
+        }
+
+        for (PropertyDescriptor property : descriptor.getConstrainedProperties()) {
+            if (property.isCascaded()) {
+                collectBeanTypes(property.getElementClass(), beanTypes);
+            }
+            for (ContainerElementTypeDescriptor element : property.getConstrainedContainerElementTypes()) {
+                if (element.isCascaded()) {
+                    collectBeanTypes(element.getElementClass(), beanTypes);
+                }
+            }
+        }
+    }
+
+    /**
+     * Evaluates the parameter constraints of the handler method against {@code null} arguments, which initializes
+     * their validators without invoking the method. Cascaded parameters are skipped when {@code null}, their
+     * classes are prepared by {@link #initializeValidators(Class)}.
+     *
+     * @return the number of parameter constraints evaluated
+     */
+    private int initializeParameterValidators(Object controller, BeanDescriptor descriptor, Method method) {
+        MethodDescriptor methodDescriptor = descriptor == null
+                ? null
+                : descriptor.getConstraintsForMethod(method.getName(), method.getParameterTypes());
+        if (methodDescriptor == null || !methodDescriptor.hasConstrainedParameters()) {
+            return 0;
+        }
+
+        // Validate against the target, as the method validation interceptor does, not against its proxy
+        Object target = Objects.requireNonNullElse(AopProxyUtils.getSingletonTarget(controller), controller);
+        try {
+            validator.forExecutables().validateParameters(target, method, new Object[method.getParameterCount()],
+                    Default.class, ExpensiveChecks.class);
+        } catch (RuntimeException e) {
+            log.warn("Could not warm up the parameter constraints of {}.{}: {}",
+                    method.getDeclaringClass().getSimpleName(), method.getName(), e.getMessage());
+            return 0;
+        }
+
+        int constraints = methodDescriptor.getCrossParameterDescriptor().getConstraintDescriptors().size();
+        for (ParameterDescriptor parameter : methodDescriptor.getParameterDescriptors()) {
+            constraints += parameter.getConstraintDescriptors().size();
+        }
+        return constraints;
+    }
+
+    /**
+     * Evaluates the property constraints of the class against {@code null}, which initializes their
+     * validators. Class-level constraints need an instance and are prepared on first use.
+     *
+     * @return the number of property constraints evaluated
+     */
+    private int initializeValidators(Class<?> beanType) {
+        BeanDescriptor descriptor = describe(beanType);
+        if (descriptor == null) {
+            return 0;
+        }
+
+        int constraints = 0;
+        for (PropertyDescriptor property : descriptor.getConstrainedProperties()) {
+            try {
+                validator.validateValue(beanType, property.getPropertyName(), null,
+                        Default.class, ExpensiveChecks.class);
+                constraints += property.getConstraintDescriptors().size();
+            } catch (RuntimeException e) {
+                log.warn("Could not warm up the constraints of {}.{}: {}",
+                        beanType.getSimpleName(), property.getPropertyName(), e.getMessage());
+            }
+        }
+        return constraints;
+    }
+
+    private void warmUpMessages() {
+        try {
+            for (String key : MESSAGE_KEYS) {
+                MessageUtils.getBrazilianPortugueseMessage(key, "", "");
+                MessageUtils.getEnglishMessage(key, "", "");
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not warm up the validation messages: {}", e.getMessage());
+        }
+    }
+
+    private void warmUpDetection() {
+        try {
+            TikaUtils.getTika().detect(SAMPLE_PDF);
+        } catch (RuntimeException e) {
+            log.warn("Could not warm up the MIME type detection: {}", e.getMessage());
+        }
+
+        for (String document : SAMPLE_DOCUMENTS) {
+            CpfCnpjUtils.check(document);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.exampleproject.controllers;
+
+import com.example.exampleproject.services.DocumentValidationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.DisconnectedClientHelper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+@Tag(name = "Documents", description = "Endpoints for validating CPF and CNPJ numbers")
+@RestController
+@RequestMapping("/api/documents")
+public class DocumentController {
+
+    private final DocumentValidationService documentValidationService;
+
+    @Autowired
+    public DocumentController(DocumentValidationService documentValidationService) {
+        this.documentValidationService = documentValidationService;
+    }
+
+    @Operation(
+            operationId = "validateDocuments",
+            summary = "Validates CPF and CNPJ numbers in bulk",
+            description = "Reads one document number per line (plain text, JSON string or JSON object with a " +
+                    "'documento' field) and streams back one NDJSON result per line, applying the same rules " +
+                    "as @CpfCnpjValidation."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200", description = "One result per non-blank input line",
+                    content = {@Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(type = "string",
+                                    example = "{\"linha\":1,\"documento\":\"52998224725\",\"valido\":true}"))})
+    })
+    @PostMapping(
+            value = "/validate",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_PLAIN_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void validateDocuments(
+            @Parameter(description = "Validates chunks of lines in parallel across the available cores",
+                    example = "false")
+            @RequestParam(value = "paralelo", defaultValue = "false")
+            boolean parallel,
+
+            InputStream body,
+
+            HttpServletResponse response) throws IOException {
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        try {
+            documentValidationService.validate(body, response.getOutputStream(), parallel);
+        } catch (IOException e) {
+            // The results are already being streamed, there is nobody left to send an error response to
+            if (!DisconnectedClientHelper.isClientDisconnectedException(e)) {
+                throw e;
+            }
+            log.debug("Client disconnected while document validation results were streamed: {}", e.getMessage());
+        }
+    }
+}
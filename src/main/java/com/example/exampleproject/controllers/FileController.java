@@ -1,14 +1,25 @@
 package com.example.exampleproject.controllers;
 
 import com.example.exampleproject.configs.annotations.MultipartFileValidation;
+import com.example.exampleproject.configs.json.StreamingJsonResponses;
 import com.example.exampleproject.dto.request.AdditionalDetails;
+import com.example.exampleproject.dto.request.Base64FilesRequest;
+import com.example.exampleproject.dto.response.FileProcessingJobResponse;
+import com.example.exampleproject.services.FileProcessingService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Arrays;
 import java.util.List;
@@ -19,6 +30,17 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/files")
 public class FileController {
 
+    private final FileProcessingService fileProcessingService;
+
+    private final StreamingJsonResponses streamingJsonResponses;
+
+    @Autowired
+    public FileController(FileProcessingService fileProcessingService,
+                          StreamingJsonResponses streamingJsonResponses) {
+        this.fileProcessingService = fileProcessingService;
+        this.streamingJsonResponses = streamingJsonResponses;
+    }
+
     @PostMapping(value = "/upload-details", consumes = "multipart/form-data")
     public String uploadFileWithDetails(
             @MultipartFileValidation(allowedTypes = {"application/pdf"}, maxSizeInMB = 5)
@@ -63,4 +85,35 @@ public class FileController {
                         .collect(Collectors.joining(", "))
         );
     }
+
+    @PostMapping(value = "/upload-base64", consumes = "application/json")
+    public String uploadBase64Files(@Valid @RequestBody Base64FilesRequest request) {
+
+        return String.format(
+                "Received %d files: %s",
+                request.files().size(),
+                request.files().stream()
+                        .map(file -> file.getDeclaredMimeType() + " (" + file.getSize() + " bytes)")
+                        .collect(Collectors.joining(", "))
+        );
+    }
+
+    @PostMapping(value = "/upload-async", consumes = "multipart/form-data")
+    public ResponseEntity<FileProcessingJobResponse> uploadFileAsync(
+            @MultipartFileValidation(maxSizeInMB = 5)
+            @RequestParam("file")
+            MultipartFile file) {
+
+        return ResponseEntity.accepted().body(fileProcessingService.submit(file));
+    }
+
+    @GetMapping("/jobs")
+    public ResponseEntity<StreamingResponseBody> getFileProcessingJobs() {
+        return streamingJsonResponses.array(fileProcessingService.getJobs());
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public FileProcessingJobResponse getFileProcessingJob(@PathVariable("jobId") String jobId) {
+        return fileProcessingService.getJob(jobId);
+    }
 }
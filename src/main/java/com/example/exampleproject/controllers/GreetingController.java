@@ -4,6 +4,7 @@ import com.example.exampleproject.dto.request.TestPostRequest;
 import com.example.exampleproject.dto.response.TestPostResponse;
 import com.example.exampleproject.enums.StatusEnum;
 import com.example.exampleproject.utils.DateUtils;
+import com.example.exampleproject.utils.ProjectTimeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,6 +14,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
@@ -31,6 +33,13 @@ import java.util.Map;
 @RestController
 public class GreetingController {
 
+    private final ProjectTimeService timeService;
+
+    @Autowired
+    public GreetingController(ProjectTimeService timeService) {
+        this.timeService = timeService;
+    }
+
     @Operation(
             operationId = "searchGreeting",
             summary = "Searches for a greeting",
@@ -88,14 +97,14 @@ public class GreetingController {
             @RequestParam(value = "preco")
             BigDecimal price) {
 
-        DateUtils.checkDateRange(initialDate, "dataInicial", finalDate, "dataFinal");
+        DateUtils.checkDateRange(initialDate, "dataInicial", finalDate, "dataFinal", timeService);
 
         return TestPostResponse.builder()
-                .date(new Date())
-                .localDateTime(LocalDateTime.now())
-                .localDate(LocalDate.now())
-                .zonedDateTime(ZonedDateTime.now())
-                .localTime(LocalTime.now())
+                .date(new Date(timeService.getClock().millis()))
+                .localDateTime(timeService.currentDateTime())
+                .localDate(timeService.today())
+                .zonedDateTime(timeService.now())
+                .localTime(timeService.currentTime())
                 .statusEnum(StatusEnum.ACTIVE.getValue())
                 .build();
     }
@@ -126,11 +135,11 @@ public class GreetingController {
         StatusEnum statusEnum = StatusEnum.fromValueOrThrow(request.statusValueEnum());
 
         return TestPostResponse.builder()
-                .date(new Date())
-                .localDateTime(LocalDateTime.now())
-                .localDate(LocalDate.now())
-                .zonedDateTime(ZonedDateTime.now())
-                .localTime(LocalTime.now())
+                .date(new Date(timeService.getClock().millis()))
+                .localDateTime(timeService.currentDateTime())
+                .localDate(timeService.today())
+                .zonedDateTime(timeService.now())
+                .localTime(timeService.currentTime())
                 .statusEnum(statusEnum.getValue())
                 .bigDecimalValue(new BigDecimal("123456789.45"))
                 .doubleValue(Double.MAX_VALUE)
@@ -0,0 +1,34 @@
+package com.example.exampleproject.dto.request;
+
+import com.example.exampleproject.configs.annotations.Base64FileValidation;
+import com.example.exampleproject.configs.annotations.groups.ExpensiveChecks;
+import com.example.exampleproject.configs.files.Base64FileContent;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+@GroupSequence({Base64FilesRequest.class, ExpensiveChecks.class})
+@Schema(description = "Representation of a request carrying files encoded in Base64, decoded while the body is read.")
+public record Base64FilesRequest(
+
+        @NotEmpty
+        @Base64FileValidation(
+                groups = ExpensiveChecks.class,
+                allowedTypes = {"image/jpeg", "image/png", "application/pdf", "text/plain"},
+                maxSizeInMB = 5,
+                maxFileCount = 5
+        )
+        @JsonProperty(value = "arquivos", required = true)
+        @ArraySchema(
+                arraySchema = @Schema(description = "List of files encoded in Base64. " +
+                        "Expected format: data:[type]/[subtype];base64,[content]"),
+                schema = @Schema(implementation = String.class,
+                        example = "data:application/pdf;base64,JVBERi0xLjMKJ1RyYWlsZXInCiUlRU9GCg=="))
+        List<Base64FileContent> files
+
+) {
+}
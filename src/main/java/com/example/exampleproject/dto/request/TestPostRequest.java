@@ -1,11 +1,13 @@
 package com.example.exampleproject.dto.request;
 
 import com.example.exampleproject.configs.annotations.*;
+import com.example.exampleproject.configs.annotations.groups.ExpensiveChecks;
 
 import com.example.exampleproject.enums.StatusEnum;
 import com.example.exampleproject.utils.DateUtils;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.GroupSequence;
 import jakarta.validation.constraints.*;
 
 import java.math.BigDecimal;
@@ -14,6 +16,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
+@GroupSequence({TestPostRequest.class, ExpensiveChecks.class})
 @DateRangeValidation(dateAField = "initialDate", dateBField = "finalDate")
 @Schema(description = "Representation of a request to create a new resource with validations and mandatory data.")
 public record TestPostRequest(
@@ -109,6 +112,7 @@ public record TestPostRequest(
 
         @NotBlank
         @Base64FileValidation(
+                groups = ExpensiveChecks.class,
                 allowedTypes = {"image/jpeg", "image/png", "image/gif", "image/bmp", "image/webp"},
                 maxSizeInMB = 3)
         @JsonProperty(value = "imagemBase64", required = true)
@@ -119,6 +123,7 @@ public record TestPostRequest(
 
         @NotEmpty
         @Base64FileValidation(
+                groups = ExpensiveChecks.class,
                 allowedTypes = {"application/pdf", "text/plain"},
                 maxSizeInMB = 4,
                 maxFileCount = 3
@@ -132,6 +137,7 @@ public record TestPostRequest(
 
         @NotEmpty
         @Base64FileValidation(
+                groups = ExpensiveChecks.class,
                 allowedTypes = {"application/pdf", "text/plain"},
                 maxSizeInMB = 4,
                 maxFileCount = 3
@@ -0,0 +1,48 @@
+package com.example.exampleproject.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+@Schema(description = "Represents the current state of a file submitted to the asynchronous processing pipeline.")
+public record FileProcessingJobResponse(
+
+        @JsonProperty("jobId")
+        @Schema(description = "Identifier used to poll the job status.",
+                example = "3f2b8c1e-6a4d-4f0e-9b7a-2d5c8e1f0a93")
+        String jobId,
+
+        @JsonProperty("fileName")
+        @Schema(description = "Original name of the uploaded file.", example = "document.pdf")
+        String fileName,
+
+        @JsonProperty("size")
+        @Schema(description = "Size of the uploaded file in bytes.", example = "102400")
+        Long size,
+
+        @JsonProperty("status")
+        @Schema(description = "Current pipeline stage.", example = "PROCESSADO")
+        String status,
+
+        @JsonProperty("detectedContentType")
+        @Schema(description = "MIME type detected from the file content once processed.",
+                example = "application/pdf")
+        String detectedContentType,
+
+        @JsonProperty("acceptedAt")
+        @Schema(description = "Moment the upload was accepted.", example = "2023-11-04T12:45:30")
+        LocalDateTime acceptedAt,
+
+        @JsonProperty("finishedAt")
+        @Schema(description = "Moment the job reached a final stage.", example = "2023-11-04T12:45:31")
+        LocalDateTime finishedAt,
+
+        @JsonProperty("errorMessage")
+        @Schema(description = "Failure reason when the job ends in the failed stage.")
+        String errorMessage
+
+) {
+}
@@ -1,5 +1,6 @@
 package com.example.exampleproject.dto.response;
 
+import com.example.exampleproject.processor.GenerateJsonSerializer;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
@@ -11,6 +12,7 @@ import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.util.Date;
 
+@GenerateJsonSerializer
 @Builder
 @Schema(description = "Represents the response from a test post endpoint, containing various date, time and numeric formats.")
 public record TestPostResponse(
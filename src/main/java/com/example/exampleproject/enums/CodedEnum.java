@@ -0,0 +1,24 @@
+package com.example.exampleproject.enums;
+
+import java.util.Optional;
+
+/**
+ * Implemented by enums identified by a numeric code, which makes them resolvable by code through
+ * {@link #fromCode(Class, int)} without scanning their constants.
+ */
+public interface CodedEnum {
+
+    int getCode();
+
+    /**
+     * Retrieves the constant of the enum with the given code.
+     *
+     * @param type the enum class
+     * @param code the numeric code to match
+     * @param <E>  the enum type
+     * @return an {@link Optional} containing the matching constant, or {@link Optional#empty()} if no match is found.
+     */
+    static <E extends Enum<E> & CodedEnum> Optional<E> fromCode(Class<E> type, int code) {
+        return EnumIndex.codesOf(type).find(code);
+    }
+}
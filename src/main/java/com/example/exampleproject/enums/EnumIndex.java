@@ -0,0 +1,257 @@
+package com.example.exampleproject.enums;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Immutable hash index from a key of each enum constant to the constant, replacing linear scans over
+ * {@code values()} (which also clones the constants array on every call).
+ * <p>
+ * Indexes are meant to be built once, typically in a {@code static final} field of the enum itself:
+ * <pre>{@code
+ * private static final EnumIndex<MimeTypeEnum, String> BY_MIME_TYPE =
+ *         EnumIndex.of(MimeTypeEnum.class, MimeTypeEnum::getMimeType);
+ * }</pre>
+ * Enums implementing {@link CodedEnum} or {@link ValuedEnum}, and any enum by constant name, get shared
+ * indexes through {@link #codesOf(Class)}, {@link #valuesOf(Class)} and {@link #namesOf(Class)}, built on
+ * first use and cached per class.
+ * <p>
+ * When several constants share a key, the first declared one wins, like a scan with {@code findFirst()}.
+ *
+ * @param <E> the enum type
+ * @param <K> the key type
+ */
+public final class EnumIndex<E extends Enum<E>, K> {
+
+    /** Codes from zero up to this bound are resolved through an array instead of a map. */
+    private static final int MAX_DENSE_CODE = 1024;
+
+    private static final ClassValue<Codes<?>> CODES = new ClassValue<>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected Codes<?> computeValue(Class<?> type) {
+            return createCodes((Class) asEnumClass(type), constant -> ((CodedEnum) constant).getCode());
+        }
+    };
+
+    private static final ClassValue<EnumIndex<?, String>> VALUES = new ClassValue<>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected EnumIndex<?, String> computeValue(Class<?> type) {
+            return createIgnoringCase((Class) asEnumClass(type), constant -> ((ValuedEnum) constant).getValue());
+        }
+    };
+
+    private static final ClassValue<EnumIndex<?, String>> NAMES = new ClassValue<>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected EnumIndex<?, String> computeValue(Class<?> type) {
+            return createIgnoringCase((Class) asEnumClass(type), constant -> ((Enum<?>) constant).name());
+        }
+    };
+
+    private final Map<K, E> index;
+
+    private final boolean ignoringCase;
+
+    private EnumIndex(Map<K, E> index, boolean ignoringCase) {
+        this.index = index;
+        this.ignoringCase = ignoringCase;
+    }
+
+    /**
+     * Indexes the constants by the given key, compared with {@link Object#equals(Object)}.
+     *
+     * @param type the enum class
+     * @param key  extracts the key of a constant; {@code null} keys are not indexed
+     */
+    public static <E extends Enum<E>, K> EnumIndex<E, K> of(Class<E> type, Function<? super E, ? extends K> key) {
+        Map<K, E> index = new HashMap<>();
+        for (E constant : type.getEnumConstants()) {
+            K constantKey = key.apply(constant);
+            if (constantKey != null) {
+                index.putIfAbsent(constantKey, constant);
+            }
+        }
+        return new EnumIndex<>(Map.copyOf(index), false);
+    }
+
+    /**
+     * Indexes the constants by the given textual key, compared as {@link String#equalsIgnoreCase(String)}.
+     *
+     * @param type the enum class
+     * @param key  extracts the key of a constant; {@code null} keys are not indexed
+     */
+    public static <E extends Enum<E>> EnumIndex<E, String> ofIgnoringCase(Class<E> type,
+                                                                         Function<? super E, String> key) {
+        return createIgnoringCase(type, key);
+    }
+
+    /**
+     * Indexes the constants by a numeric code. Small non-negative codes are resolved through a dense array.
+     *
+     * @param type the enum class
+     * @param code extracts the code of a constant
+     */
+    public static <E extends Enum<E>> Codes<E> ofCodes(Class<E> type, ToIntFunction<? super E> code) {
+        return createCodes(type, code);
+    }
+
+    /**
+     * @return the shared index of the enum by {@link CodedEnum#getCode()}
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E> & CodedEnum> Codes<E> codesOf(Class<E> type) {
+        return (Codes<E>) CODES.get(type);
+    }
+
+    /**
+     * @return the shared case-insensitive index of the enum by {@link ValuedEnum#getValue()}
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E> & ValuedEnum> EnumIndex<E, String> valuesOf(Class<E> type) {
+        return (EnumIndex<E, String>) VALUES.get(type);
+    }
+
+    /**
+     * @return the shared case-insensitive index of the enum by constant name
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> EnumIndex<E, String> namesOf(Class<E> type) {
+        return (EnumIndex<E, String>) NAMES.get(type);
+    }
+
+    /**
+     * Retrieves the constant with the given key.
+     *
+     * @param key the key to match; may be {@code null}
+     * @return the matching constant, or {@code null} if no match is found.
+     */
+    public E get(K key) {
+        if (key == null) {
+            return null;
+        }
+        E constant = index.get(key);
+        if (constant == null && ignoringCase) {
+            constant = index.get(foldCase((String) key));
+        }
+        return constant;
+    }
+
+    /**
+     * Retrieves the constant with the given key.
+     *
+     * @param key the key to match; may be {@code null}
+     * @return an {@link Optional} containing the matching constant, or {@link Optional#empty()} if no match is found.
+     */
+    public Optional<E> find(K key) {
+        return Optional.ofNullable(get(key));
+    }
+
+    /**
+     * @param key the key to match; may be {@code null}
+     * @return {@code true} if a constant has the given key
+     */
+    public boolean contains(K key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Folds the case of each character the way {@link String#equalsIgnoreCase(String)} compares them, so two
+     * strings are equal ignoring case exactly when their folded forms are equal.
+     *
+     * @param value the string to fold
+     * @return the folded string
+     */
+    public static String foldCase(String value) {
+        char[] folded = new char[value.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(value.charAt(i)));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Index of enum constants by numeric code.
+     *
+     * @param <E> the enum type
+     */
+    public static final class Codes<E extends Enum<E>> {
+
+        private final E[] dense;
+
+        private final Map<Integer, E> sparse;
+
+        private Codes(E[] dense, Map<Integer, E> sparse) {
+            this.dense = dense;
+            this.sparse = sparse;
+        }
+
+        /**
+         * @param code the code to match
+         * @return the matching constant, or {@code null} if no match is found.
+         */
+        public E get(int code) {
+            if (dense != null) {
+                return code >= 0 && code < dense.length ? dense[code] : null;
+            }
+            return sparse.get(code);
+        }
+
+        /**
+         * @param code the code to match
+         * @return an {@link Optional} containing the matching constant, or {@link Optional#empty()}
+         * if no match is found.
+         */
+        public Optional<E> find(int code) {
+            return Optional.ofNullable(get(code));
+        }
+    }
+
+    private static <E extends Enum<E>> EnumIndex<E, String> createIgnoringCase(Class<E> type,
+                                                                             Function<? super E, String> key) {
+        Map<String, E> index = new HashMap<>();
+        for (E constant : type.getEnumConstants()) {
+            String constantKey = key.apply(constant);
+            if (constantKey != null) {
+                index.putIfAbsent(foldCase(constantKey), constant);
+            }
+        }
+        return new EnumIndex<>(Map.copyOf(index), true);
+    }
+
+    private static <E extends Enum<E>> Codes<E> createCodes(Class<E> type, ToIntFunction<? super E> code) {
+        E[] constants = type.getEnumConstants();
+        int min = Arrays.stream(constants).mapToInt(code).min().orElse(0);
+        int max = Arrays.stream(constants).mapToInt(code).max().orElse(-1);
+
+        if (min >= 0 && max < MAX_DENSE_CODE) {
+            E[] dense = Arrays.copyOf(constants, max + 1);
+            Arrays.fill(dense, null);
+            for (E constant : constants) {
+                int constantCode = code.applyAsInt(constant);
+                if (dense[constantCode] == null) {
+                    dense[constantCode] = constant;
+                }
+            }
+            return new Codes<>(dense, null);
+        }
+
+        Map<Integer, E> sparse = new HashMap<>();
+        for (E constant : constants) {
+            sparse.putIfAbsent(code.applyAsInt(constant), constant);
+        }
+        return new Codes<>(null, Map.copyOf(sparse));
+    }
+
+    private static Class<?> asEnumClass(Class<?> type) {
+        if (!type.isEnum()) {
+            throw new IllegalArgumentException(type.getName() + " is not an enum");
+        }
+        return type;
+    }
+}
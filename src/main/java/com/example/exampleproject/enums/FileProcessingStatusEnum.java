@@ -0,0 +1,46 @@
+package com.example.exampleproject.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Optional;
+
+/**
+ * Stages a file goes through in the asynchronous post-upload pipeline.
+ * <p>
+ * {@link #PERSISTED} is reached on the request thread, before the job is returned to the client; the
+ * remaining stages are reached by the processing workers.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public enum FileProcessingStatusEnum implements ValuedEnum {
+
+    PERSISTED("PERSISTIDO"),
+    PROCESSING("PROCESSANDO"),
+    PROCESSED("PROCESSADO"),
+    FAILED("FALHOU");
+
+    private final String value;
+
+    /**
+     * Retrieves a {@link FileProcessingStatusEnum} instance based on its string value.
+     *
+     * @param value the string value to match (case-insensitive)
+     * @return an {@link Optional} containing the matching {@link FileProcessingStatusEnum} instance,
+     * or {@link Optional#empty()} if no match is found.
+     */
+    public static Optional<FileProcessingStatusEnum> fromValue(String value) {
+        return ValuedEnum.fromValue(FileProcessingStatusEnum.class, value);
+    }
+
+    /**
+     * Indicates whether the job has reached a final stage and will no longer change.
+     *
+     * @return {@code true} for {@link #PROCESSED} and {@link #FAILED}, {@code false} otherwise.
+     */
+    public boolean isFinished() {
+        return this == PROCESSED || this == FAILED;
+    }
+}
@@ -5,13 +5,12 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.ToString;
 
-import java.util.Arrays;
 import java.util.Optional;
 
 @Getter
 @ToString
 @AllArgsConstructor
-public enum StatusEnum {
+public enum StatusEnum implements CodedEnum, ValuedEnum {
 
     PENDING(5, "PENDENTE"),
     ACTIVE(1, "ATIVO"),
@@ -28,9 +27,7 @@ public enum StatusEnum {
      * or {@link Optional#empty()} if no match is found.
      */
     public static Optional<StatusEnum> fromLiteralName(String name) {
-        return Arrays.stream(StatusEnum.values())
-                .filter(statusEnum -> statusEnum.name().equalsIgnoreCase(name))
-                .findFirst();
+        return EnumIndex.namesOf(StatusEnum.class).find(name);
     }
 
     /**
@@ -41,9 +38,7 @@ public enum StatusEnum {
      * or {@link Optional#empty()} if no match is found.
      */
     public static Optional<StatusEnum> fromCode(int code) {
-        return Arrays.stream(StatusEnum.values())
-                .filter(statusEnum -> statusEnum.code == code)
-                .findFirst();
+        return CodedEnum.fromCode(StatusEnum.class, code);
     }
 
     /**
@@ -54,9 +49,7 @@ public enum StatusEnum {
      * or {@link Optional#empty()} if no match is found.
      */
     public static Optional<StatusEnum> fromValue(String value) {
-        return Arrays.stream(StatusEnum.values())
-                .filter(statusEnum -> statusEnum.value.equalsIgnoreCase(value))
-                .findFirst();
+        return ValuedEnum.fromValue(StatusEnum.class, value);
     }
 
     /**
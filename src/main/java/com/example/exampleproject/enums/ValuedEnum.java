@@ -0,0 +1,24 @@
+package com.example.exampleproject.enums;
+
+import java.util.Optional;
+
+/**
+ * Implemented by enums carrying a textual value, which makes them resolvable by value through
+ * {@link #fromValue(Class, String)} without scanning their constants.
+ */
+public interface ValuedEnum {
+
+    String getValue();
+
+    /**
+     * Retrieves the constant of the enum with the given value.
+     *
+     * @param type  the enum class
+     * @param value the string value to match (case-insensitive)
+     * @param <E>   the enum type
+     * @return an {@link Optional} containing the matching constant, or {@link Optional#empty()} if no match is found.
+     */
+    static <E extends Enum<E> & ValuedEnum> Optional<E> fromValue(Class<E> type, String value) {
+        return EnumIndex.valuesOf(type).find(value);
+    }
+}
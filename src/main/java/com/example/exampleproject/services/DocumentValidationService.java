@@ -0,0 +1,10 @@
+package com.example.exampleproject.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface DocumentValidationService {
+
+    void validate(InputStream input, OutputStream output, boolean parallel) throws IOException;
+}
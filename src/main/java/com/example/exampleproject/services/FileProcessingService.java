@@ -0,0 +1,15 @@
+package com.example.exampleproject.services;
+
+import com.example.exampleproject.dto.response.FileProcessingJobResponse;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.stream.Stream;
+
+public interface FileProcessingService {
+
+    FileProcessingJobResponse submit(MultipartFile file);
+
+    FileProcessingJobResponse getJob(String jobId);
+
+    Stream<FileProcessingJobResponse> getJobs();
+}
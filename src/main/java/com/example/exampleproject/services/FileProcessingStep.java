@@ -0,0 +1,15 @@
+package com.example.exampleproject.services;
+
+import java.nio.file.Path;
+
+/**
+ * A unit of heavy post-upload work (thumbnailing, text extraction, virus-scan hand-off, ...)
+ * executed by the processing workers of {@link FileProcessingService}, never on a request thread.
+ * <p>
+ * Every Spring bean implementing this interface is executed in {@link org.springframework.core.annotation.Order}
+ * for each persisted file. Throwing any exception marks the job as failed.
+ */
+public interface FileProcessingStep {
+
+    void process(Path file, String detectedContentType) throws Exception;
+}
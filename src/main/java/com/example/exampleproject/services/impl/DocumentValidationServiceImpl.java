@@ -0,0 +1,376 @@
+package com.example.exampleproject.services.impl;
+
+import com.example.exampleproject.services.DocumentValidationService;
+import com.example.exampleproject.utils.CpfCnpjUtils;
+import com.example.exampleproject.utils.MessageUtils;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Validates a stream of CPF/CNPJ numbers, one per line, and writes one NDJSON result per line.
+ * <p>
+ * A line holds the plain document number, a JSON string or a JSON object with a {@code documento} field.
+ * Blank lines are skipped but still counted, so {@code linha} always matches the input line. Lines longer than
+ * {@code document.validation.bulk.max-line-length} are not buffered beyond that length and are reported as
+ * invalid, echoing their first characters.
+ * <p>
+ * The input is read and the output written incrementally. In parallel mode, lines are validated in chunks
+ * of {@code document.validation.bulk.chunk-size} on a shared worker pool, with at most two chunks per
+ * worker in flight per request, and results are written in input order. If a chunk fails or the output cannot be
+ * written, the chunks still in flight are cancelled. Memory stays constant either way.
+ */
+@Slf4j
+@Service
+public class DocumentValidationServiceImpl implements DocumentValidationService {
+
+    private static final String LINE_FIELD = "linha";
+
+    private static final String DOCUMENT_FIELD = "documento";
+
+    private static final String VALID_FIELD = "valido";
+
+    private static final String MESSAGE_FIELD = "mensagem";
+
+    private final ObjectMapper objectMapper;
+
+    private final ExecutorService executor;
+
+    private final int workers;
+
+    private final int chunkSize;
+
+    private final int maxLineLength;
+
+    @Autowired
+    public DocumentValidationServiceImpl(
+            ObjectMapper objectMapper,
+            @Value("${document.validation.bulk.workers:0}") int workers,
+            @Value("${document.validation.bulk.chunk-size:4096}") int chunkSize,
+            @Value("${document.validation.bulk.max-line-length:1024}") int maxLineLength) {
+
+        this.objectMapper = objectMapper;
+        this.workers = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.chunkSize = chunkSize;
+        this.maxLineLength = maxLineLength;
+        this.executor = Executors.newFixedThreadPool(this.workers,
+                new CustomizableThreadFactory("document-validation-"));
+    }
+
+    @Override
+    public void validate(InputStream input, OutputStream output, boolean parallel) throws IOException {
+        // Resolved on the request thread, where the request locale is available
+        Map<CpfCnpjUtils.Result, String> messages = resolveMessages();
+
+        BoundedLineReader reader =
+                new BoundedLineReader(new InputStreamReader(input, StandardCharsets.UTF_8), maxLineLength);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            if (parallel) {
+                validateInParallel(reader, generator, messages);
+            } else {
+                validateSequentially(reader, generator, messages);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void validateSequentially(BoundedLineReader reader,
+                                      JsonGenerator generator,
+                                      Map<CpfCnpjUtils.Result, String> messages) throws IOException {
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            boolean truncated = reader.isTruncated();
+            if (isSkipped(line, truncated)) {
+                continue;
+            }
+            String document = documentOf(line, truncated);
+            writeResult(generator, lineNumber, displayed(document, line), check(document), messages);
+        }
+    }
+
+    private void validateInParallel(BoundedLineReader reader,
+                                    JsonGenerator generator,
+                                    Map<CpfCnpjUtils.Result, String> messages) throws IOException {
+        ArrayDeque<Future<Chunk>> inFlight = new ArrayDeque<>();
+        int maxInFlight = workers * 2;
+        long lineNumber = 0;
+
+        String[] lines = new String[chunkSize];
+        boolean[] truncated = new boolean[chunkSize];
+        int count = 0;
+        long firstLine = 1;
+        String line;
+
+        try {
+            while ((line = reader.readLine()) != null) {
+                truncated[count] = reader.isTruncated();
+                lines[count++] = line;
+                lineNumber++;
+
+                if (count == chunkSize) {
+                    inFlight.add(submit(firstLine, lines, truncated, count));
+                    lines = new String[chunkSize];
+                    truncated = new boolean[chunkSize];
+                    count = 0;
+                    firstLine = lineNumber + 1;
+
+                    if (inFlight.size() >= maxInFlight) {
+                        writeChunk(generator, await(inFlight.poll()), messages);
+                    }
+                }
+            }
+
+            if (count > 0) {
+                inFlight.add(submit(firstLine, lines, truncated, count));
+            }
+            while (!inFlight.isEmpty()) {
+                writeChunk(generator, await(inFlight.poll()), messages);
+            }
+        } catch (IOException | RuntimeException e) {
+            // Nobody will read the results of the remaining chunks, free the workers for the other requests
+            inFlight.forEach(future -> future.cancel(true));
+            throw e;
+        }
+    }
+
+    private Future<Chunk> submit(long firstLine, String[] lines, boolean[] truncated, int count) {
+        return executor.submit(() -> {
+            String[] documents = new String[count];
+            String[] displayed = new String[count];
+            for (int i = 0; i < count; i++) {
+                if (!isSkipped(lines[i], truncated[i])) {
+                    documents[i] = documentOf(lines[i], truncated[i]);
+                    displayed[i] = displayed(documents[i], lines[i]);
+                }
+            }
+
+            // Only the invalid documents are checked again, to find the rule they break
+            CpfCnpjUtils.BulkResult bulkResult = CpfCnpjUtils.validateAll(documents);
+            CpfCnpjUtils.Result[] results = new CpfCnpjUtils.Result[count];
+            for (int i = 0; i < count; i++) {
+                if (displayed[i] != null) {
+                    results[i] = bulkResult.isValid(i) ? CpfCnpjUtils.Result.VALID : check(documents[i]);
+                }
+            }
+            return new Chunk(firstLine, displayed, results, count);
+        });
+    }
+
+    private Chunk await(Future<Chunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while validating documents", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to validate documents", e.getCause());
+        }
+    }
+
+    private void writeChunk(JsonGenerator generator,
+                            Chunk chunk,
+                            Map<CpfCnpjUtils.Result, String> messages) throws IOException {
+        for (int i = 0; i < chunk.count(); i++) {
+            if (chunk.results()[i] != null) {
+                writeResult(generator, chunk.firstLine() + i, chunk.documents()[i], chunk.results()[i], messages);
+            }
+        }
+    }
+
+    private void writeResult(JsonGenerator generator,
+                             long lineNumber,
+                             String document,
+                             CpfCnpjUtils.Result result,
+                             Map<CpfCnpjUtils.Result, String> messages) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField(LINE_FIELD, lineNumber);
+        generator.writeStringField(DOCUMENT_FIELD, document);
+        generator.writeBooleanField(VALID_FIELD, result == CpfCnpjUtils.Result.VALID);
+        if (result != CpfCnpjUtils.Result.VALID) {
+            generator.writeStringField(MESSAGE_FIELD, messages.get(result));
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * Blank lines are skipped, unless they were truncated: what follows the blank prefix is unknown.
+     */
+    private static boolean isSkipped(String line, boolean truncated) {
+        return !truncated && line.isBlank();
+    }
+
+    /**
+     * @return the document number of the line, or {@code null} when it was truncated or could not be extracted
+     */
+    private String documentOf(String line, boolean truncated) {
+        return truncated ? null : extractDocument(line);
+    }
+
+    private static CpfCnpjUtils.Result check(String document) {
+        return document == null ? CpfCnpjUtils.Result.INVALID_FORMAT : CpfCnpjUtils.check(document);
+    }
+
+    /**
+     * Echoes the extracted document, or the raw line when it could not be extracted, so every result can be
+     * matched with its input.
+     */
+    private static String displayed(String document, String line) {
+        return document != null ? document : line.strip();
+    }
+
+    /**
+     * Extracts the document number of an input line.
+     *
+     * @param line a non-blank input line
+     * @return the document number, or {@code null} when the line is malformed JSON
+     * or a JSON value without a textual document
+     */
+    private String extractDocument(String line) {
+        String value = line.strip();
+        char first = value.charAt(0);
+
+        if (first != '"' && first != '{') {
+            return value;
+        }
+
+        // Plain JSON strings without escapes are the common case and need no parsing
+        if (first == '"' && value.length() > 1 && value.endsWith("\"") && value.indexOf('\\') < 0) {
+            return value.substring(1, value.length() - 1);
+        }
+
+        try {
+            JsonNode node = objectMapper.readTree(value);
+            JsonNode document = node.isObject() ? node.get(DOCUMENT_FIELD) : node;
+            return document != null && document.isTextual() ? document.asText() : null;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static Map<CpfCnpjUtils.Result, String> resolveMessages() {
+        Map<CpfCnpjUtils.Result, String> messages = new EnumMap<>(CpfCnpjUtils.Result.class);
+        for (CpfCnpjUtils.Result result : CpfCnpjUtils.Result.values()) {
+            if (result.getMessageKey() != null) {
+                messages.put(result, MessageUtils.getMessage(result.getMessageKey()));
+            }
+        }
+        return messages;
+    }
+
+    private record Chunk(long firstLine, String[] documents, CpfCnpjUtils.Result[] results, int count) {
+    }
+
+    /**
+     * Line reader keeping at most {@code maxLength} characters of each line, unlike
+     * {@link java.io.BufferedReader#readLine()} which buffers a line whatever its length. The rest of a longer
+     * line is skipped and the line is flagged as truncated. Lines end with {@code \n} or {@code \r\n}.
+     */
+    private static final class BoundedLineReader {
+
+        private static final int BUFFER_SIZE = 8192;
+
+        private final Reader reader;
+
+        private final int maxLength;
+
+        private final char[] buffer = new char[BUFFER_SIZE];
+
+        private final StringBuilder line = new StringBuilder();
+
+        private int position;
+
+        private int limit;
+
+        private boolean truncated;
+
+        private BoundedLineReader(Reader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        /**
+         * @return the next line without its terminator, cut at {@code maxLength} characters, or {@code null}
+         * at the end of the stream
+         */
+        private String readLine() throws IOException {
+            line.setLength(0);
+            truncated = false;
+            boolean empty = true;
+
+            while (true) {
+                if (position == limit) {
+                    limit = reader.read(buffer, 0, buffer.length);
+                    position = 0;
+                    if (limit < 0) {
+                        limit = 0;
+                        return empty ? null : endLine();
+                    }
+                    continue;
+                }
+
+                empty = false;
+                char c = buffer[position++];
+                if (c == '\n') {
+                    return endLine();
+                }
+                // One character past the limit is kept, it may be the '\r' of a line ending
+                if (line.length() <= maxLength) {
+                    line.append(c);
+                } else {
+                    truncated = true;
+                }
+            }
+        }
+
+        private String endLine() {
+            int length = line.length();
+            if (!truncated && length > 0 && line.charAt(length - 1) == '\r') {
+                line.setLength(--length);
+            }
+            if (length > maxLength) {
+                truncated = true;
+                line.setLength(maxLength);
+            }
+            return line.toString();
+        }
+
+        /**
+         * @return {@code true} if the last line read was longer than {@code maxLength}
+         */
+        private boolean isTruncated() {
+            return truncated;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.exampleproject.services.impl;
+
+import com.example.exampleproject.configs.exceptions.custom.ResourceNotFoundException;
+import com.example.exampleproject.configs.exceptions.custom.TooManyRequestsException;
+import com.example.exampleproject.dto.response.FileProcessingJobResponse;
+import com.example.exampleproject.enums.FileProcessingStatusEnum;
+import com.example.exampleproject.services.FileProcessingService;
+import com.example.exampleproject.services.FileProcessingStep;
+import com.example.exampleproject.utils.MessageUtils;
+import com.example.exampleproject.utils.ProjectTimeService;
+import com.example.exampleproject.utils.TikaUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tika.Tika;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Staged post-upload pipeline: <em>accepted → persisted → processed</em>.
+ * <p>
+ * Accepting and persisting run on the request thread, limited by a fixed number of concurrent
+ * persists, so the upload latency only covers receiving and storing the file. Processing runs on a
+ * dedicated worker pool fed by a bounded queue. When either stage is saturated the upload is rejected
+ * with a {@link TooManyRequestsException} (HTTP 429) instead of queueing without limit.
+ * <p>
+ * Job states are kept in memory for polling. Beyond {@code file.processing.job-retention} jobs, the oldest
+ * finished jobs are evicted and their persisted files deleted; jobs still waiting or processing are never evicted,
+ * and are bounded anyway by the worker count and the queue capacity.
+ */
+@Slf4j
+@Service
+public class FileProcessingServiceImpl implements FileProcessingService {
+
+    private final List<FileProcessingStep> steps;
+
+    private final ProjectTimeService timeService;
+
+    private final Path storageDirectory;
+
+    private final Semaphore persistPermits;
+
+    private final ThreadPoolExecutor processingExecutor;
+
+    private final Map<String, FileProcessingJob> jobs = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private final int jobRetention;
+
+    private final Tika tika = TikaUtils.getTika();
+
+    @Autowired
+    public FileProcessingServiceImpl(
+            ObjectProvider<FileProcessingStep> steps,
+            ProjectTimeService timeService,
+            @Value("${file.processing.storage-directory:${java.io.tmpdir}/example-project/uploads}")
+            String storageDirectory,
+            @Value("${file.processing.persist.max-concurrent:8}") int persistMaxConcurrent,
+            @Value("${file.processing.process.workers:0}") int processWorkers,
+            @Value("${file.processing.process.queue-capacity:100}") int processQueueCapacity,
+            @Value("${file.processing.job-retention:1000}") int jobRetention) {
+
+        this.steps = steps.orderedStream().toList();
+        this.timeService = timeService;
+        this.storageDirectory = createStorageDirectory(storageDirectory);
+        this.persistPermits = new Semaphore(persistMaxConcurrent);
+        this.processingExecutor = createProcessingExecutor(processWorkers, processQueueCapacity);
+        this.jobRetention = jobRetention;
+    }
+
+    @Override
+    public FileProcessingJobResponse submit(MultipartFile file) {
+        if (!persistPermits.tryAcquire()) {
+            throw new TooManyRequestsException(MessageUtils.getMessage("msg.file.processing.persist.saturated"));
+        }
+
+        FileProcessingJob job = new FileProcessingJob(file.getOriginalFilename(), file.getSize(),
+                timeService.currentDateTime());
+        try {
+            persist(file, job);
+        } finally {
+            persistPermits.release();
+        }
+
+        jobs.put(job.id, job);
+        evictFinishedJobs();
+        try {
+            processingExecutor.execute(() -> process(job));
+        } catch (RejectedExecutionException e) {
+            log.warn("File processing queue is full, rejecting job {}.", job.id);
+            jobs.remove(job.id);
+            deleteQuietly(job.path);
+            throw new TooManyRequestsException(MessageUtils.getMessage("msg.file.processing.queue.saturated"));
+        }
+
+        return job.toResponse();
+    }
+
+    @Override
+    public FileProcessingJobResponse getJob(String jobId) {
+        FileProcessingJob job = jobs.get(jobId);
+
+        if (Objects.isNull(job)) {
+            throw new ResourceNotFoundException(MessageUtils.getMessage("msg.file.processing.job.not.found", jobId));
+        }
+
+        return job.toResponse();
+    }
+
+    @Override
+    public Stream<FileProcessingJobResponse> getJobs() {
+        List<FileProcessingJob> retainedJobs;
+        synchronized (jobs) {
+            retainedJobs = List.copyOf(jobs.values());
+        }
+        return retainedJobs.stream().map(FileProcessingJob::toResponse);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        processingExecutor.shutdown();
+        if (!processingExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("File processing workers did not finish in time, {} job(s) discarded.",
+                    processingExecutor.shutdownNow().size());
+        }
+    }
+
+    private void persist(MultipartFile file, FileProcessingJob job) {
+        job.path = storageDirectory.resolve(job.id);
+        try {
+            file.transferTo(job.path);
+        } catch (IOException e) {
+            deleteQuietly(job.path);
+            throw new UncheckedIOException(e);
+        }
+        job.status = FileProcessingStatusEnum.PERSISTED;
+    }
+
+    private void process(FileProcessingJob job) {
+        job.status = FileProcessingStatusEnum.PROCESSING;
+        try {
+            String detectedContentType = tika.detect(job.path);
+            for (FileProcessingStep step : steps) {
+                step.process(job.path, detectedContentType);
+            }
+            job.finish(FileProcessingStatusEnum.PROCESSED, detectedContentType, null, timeService.currentDateTime());
+        } catch (Exception e) {
+            log.error("Error when processing file of job {}: {}", job.id, e.getMessage(), e);
+            // The exception details (e.g. a storage path) stay in the log, the job only reports a generic reason
+            job.finish(FileProcessingStatusEnum.FAILED, null, "msg.file.processing.failed",
+                    timeService.currentDateTime());
+        }
+    }
+
+    /**
+     * Evicts the oldest finished jobs, with their persisted files, while more than the retention are kept.
+     */
+    private void evictFinishedJobs() {
+        synchronized (jobs) {
+            Iterator<FileProcessingJob> iterator = jobs.values().iterator();
+            while (jobs.size() > jobRetention && iterator.hasNext()) {
+                FileProcessingJob job = iterator.next();
+                if (job.status.isFinished()) {
+                    iterator.remove();
+                    deleteQuietly(job.path);
+                }
+            }
+        }
+    }
+
+    private static Path createStorageDirectory(String storageDirectory) {
+        try {
+            return Files.createDirectories(Paths.get(storageDirectory));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ThreadPoolExecutor createProcessingExecutor(int workers, int queueCapacity) {
+        int poolSize = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        return new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("file-processing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (Objects.isNull(path)) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete persisted file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static final class FileProcessingJob {
+
+        private final String id = UUID.randomUUID().toString();
+        private final String fileName;
+        private final long size;
+        private final LocalDateTime acceptedAt;
+
+        private volatile Path path;
+        private volatile FileProcessingStatusEnum status;
+        private volatile String detectedContentType;
+        private volatile LocalDateTime finishedAt;
+        private volatile String errorMessageKey;
+
+        private FileProcessingJob(String fileName, long size, LocalDateTime acceptedAt) {
+            this.fileName = fileName;
+            this.size = size;
+            this.acceptedAt = acceptedAt;
+        }
+
+        private void finish(FileProcessingStatusEnum finalStatus, String contentType, String errorKey,
+                            LocalDateTime finishedAt) {
+            this.detectedContentType = contentType;
+            this.errorMessageKey = errorKey;
+            this.finishedAt = finishedAt;
+            this.status = finalStatus;
+        }
+
+        private FileProcessingJobResponse toResponse() {
+            return FileProcessingJobResponse.builder()
+                    .jobId(id)
+                    .fileName(fileName)
+                    .size(size)
+                    .status(status.getValue())
+                    .detectedContentType(detectedContentType)
+                    .acceptedAt(acceptedAt)
+                    .finishedAt(finishedAt)
+                    .errorMessage(Objects.isNull(errorMessageKey) ? null : MessageUtils.getMessage(errorMessageKey))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.exampleproject.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Binds public no-argument accessor methods (getters, record components, enum accessors) to {@link Function}
+ * instances generated with {@link LambdaMetafactory}, so reading a property by name costs a direct call the
+ * JIT can inline instead of a reflective {@link Method#invoke(Object, Object...)}.
+ * <p>
+ * Bindings are resolved once per (class, accessor name) and cached with a {@link ClassValue}, which does not
+ * keep the bound classes from being unloaded. When a class cannot be accessed with a private lookup (for example
+ * JDK classes in non-open packages), the accessor falls back to a public {@link MethodHandle}.
+ * <p>
+ * Exceptions thrown by the accessor itself propagate unwrapped to the caller of {@link Function#apply(Object)}.
+ */
+@Slf4j
+public class AccessorBinder {
+
+    private AccessorBinder() {
+        throw new IllegalStateException("Utility class cannot be instantiated");
+    }
+
+    private static final MethodType ACCESSOR_SAM_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<Map<String, Optional<Function<Object, Object>>>> BINDINGS = new ClassValue<>() {
+        @Override
+        protected Map<String, Optional<Function<Object, Object>>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Finds the public no-argument method with the given name in the class (or its supertypes) and binds it.
+     *
+     * @param type         the class declaring or inheriting the accessor
+     * @param accessorName the method name, e.g. {@code getValue} or a record component name
+     * @return the bound accessor, or {@link Optional#empty()} if the class has no such method
+     */
+    public static Optional<Function<Object, Object>> find(Class<?> type, String accessorName) {
+        return BINDINGS.get(type).computeIfAbsent(accessorName, name -> createAccessor(type, name));
+    }
+
+    /**
+     * Same as {@link #find(Class, String)}, for accessors that must exist.
+     *
+     * @param type         the class declaring or inheriting the accessor
+     * @param accessorName the method name, e.g. {@code getValue} or a record component name
+     * @return the bound accessor
+     * @throws IllegalArgumentException if the class has no public no-argument method with that name
+     */
+    public static Function<Object, Object> bind(Class<?> type, String accessorName) {
+        return find(type, accessorName).orElseThrow(() -> new IllegalArgumentException(
+                "No public no-argument method '" + accessorName + "' found in " + type.getName()));
+    }
+
+    private static Optional<Function<Object, Object>> createAccessor(Class<?> type, String accessorName) {
+        Method method;
+        try {
+            method = type.getMethod(accessorName);
+        } catch (NoSuchMethodException e) {
+            return Optional.empty();
+        }
+
+        if (Modifier.isStatic(method.getModifiers()) || method.getReturnType() == void.class) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(createLambdaAccessor(method));
+        } catch (Throwable e) {
+            log.debug("Could not generate an accessor for {}.{}, using a method handle: {}",
+                    type.getName(), accessorName, e.getMessage());
+        }
+
+        try {
+            return Optional.of(createMethodHandleAccessor(method));
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(
+                    "Method '" + accessorName + "' of " + type.getName() + " is not accessible", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> createLambdaAccessor(Method method) throws Throwable {
+        MethodHandles.Lookup lookup =
+                MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+        MethodHandle implementation = lookup.unreflect(method);
+
+        Class<?> returnType = MethodType.methodType(method.getReturnType()).wrap().returnType();
+        CallSite callSite = LambdaMetafactory.metafactory(
+                lookup,
+                "apply",
+                MethodType.methodType(Function.class),
+                ACCESSOR_SAM_TYPE,
+                implementation,
+                MethodType.methodType(returnType, method.getDeclaringClass()));
+
+        return (Function<Object, Object>) callSite.getTarget().invokeExact();
+    }
+
+    private static Function<Object, Object> createMethodHandleAccessor(Method method) throws IllegalAccessException {
+        MethodHandle handle = MethodHandles.publicLookup().unreflect(method).asType(ACCESSOR_SAM_TYPE);
+
+        return target -> {
+            try {
+                return handle.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+}
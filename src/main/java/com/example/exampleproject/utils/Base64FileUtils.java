@@ -0,0 +1,264 @@
+package com.example.exampleproject.utils;
+
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Utility methods to decode the Base64 payload of file data URIs straight from the characters, flushing
+ * the decoded bytes in chunks through a buffer from {@link BufferPool}, so callers decide which part of the
+ * decoded content to keep and no intermediate copy of the payload is made.
+ * <p>
+ * Decoding follows the {@link Base64#getDecoder() basic decoder} rules: only the standard alphabet is
+ * accepted (no line separators), padding is optional and may only appear at the end of the payload.
+ */
+public class Base64FileUtils {
+
+    private Base64FileUtils() {
+        throw new IllegalStateException("Utility class cannot be instantiated");
+    }
+
+    private static final int OUTPUT_CHUNK_SIZE = 8192;
+
+    private static final int[] DECODE_TABLE = createDecodeTable();
+
+    /**
+     * Receives each chunk of decoded bytes. The array is pooled and only valid during the call.
+     */
+    @FunctionalInterface
+    public interface ChunkConsumer {
+        void accept(byte[] buffer, int length);
+    }
+
+    /**
+     * Consumer keeping only the first {@code prefix.length} decoded bytes, typically the part of a file
+     * needed to detect its MIME type.
+     */
+    public static final class PrefixCollector implements ChunkConsumer {
+
+        private final byte[] prefix;
+
+        private int length;
+
+        public PrefixCollector(byte[] prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public void accept(byte[] buffer, int count) {
+            int copied = Math.min(count, prefix.length - length);
+            if (copied > 0) {
+                System.arraycopy(buffer, 0, prefix, length, copied);
+                length += copied;
+            }
+        }
+
+        /**
+         * @return the number of bytes stored in the prefix array
+         */
+        public int getLength() {
+            return length;
+        }
+    }
+
+    /**
+     * Decodes the Base64 characters in {@code source[start, end)}.
+     *
+     * @param source   the characters to decode
+     * @param start    the index of the first Base64 character
+     * @param end      the index after the last Base64 character
+     * @param consumer the receiver of each decoded chunk
+     * @return the total number of decoded bytes
+     * @throws IllegalArgumentException if the characters are not valid Base64
+     */
+    public static long decode(CharSequence source, int start, int end, ChunkConsumer consumer) {
+        try (DecodingWriter decoder = new DecodingWriter(consumer)) {
+            decoder.write(source, start, end);
+            return decoder.finish();
+        }
+    }
+
+    /**
+     * Computes the decoded size of {@code source[start, end)} the same way {@link Base64.Decoder} does.
+     * The result is only meaningful when the content is valid.
+     *
+     * @param source the characters to decode
+     * @param start  the index of the first Base64 character
+     * @param end    the index after the last Base64 character
+     * @return the expected number of decoded bytes
+     */
+    public static int decodedLength(CharSequence source, int start, int end) {
+        int length = end - start;
+        if (length == 0) {
+            return 0;
+        }
+
+        int padding = 0;
+        if (source.charAt(end - 1) == '=') {
+            padding++;
+            if (length > 1 && source.charAt(end - 2) == '=') {
+                padding++;
+            }
+        }
+
+        if (padding == 0 && (length & 0x3) != 0) {
+            padding = 4 - (length & 0x3);
+        }
+
+        return 3 * ((length + 3) / 4) - padding;
+    }
+
+    /**
+     * Decoder receiving the Base64 characters in any number of writes, for content that arrives in segments,
+     * such as a JSON string read through {@link com.fasterxml.jackson.core.JsonParser#getText(Writer)}. The
+     * rules are the same as {@link #decode(CharSequence, int, int, ChunkConsumer)}: a character is rejected as
+     * soon as it is written, the ending is checked by {@link #finish()}.
+     * <p>
+     * The output buffer is pooled and released by {@link #close()}.
+     */
+    public static final class DecodingWriter extends Writer {
+
+        private final ChunkConsumer consumer;
+
+        private final BufferPool.Buffer output = BufferPool.acquire(OUTPUT_CHUNK_SIZE);
+
+        private final byte[] buffer = output.array();
+
+        private int position;
+
+        private long written;
+
+        /**
+         * Number of characters received, for the error messages.
+         */
+        private long index;
+
+        private int bits;
+
+        private int count;
+
+        /**
+         * Number of {@code =} received, at most 2.
+         */
+        private int padding;
+
+        public DecodingWriter(ChunkConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        /**
+         * @throws IllegalArgumentException if a character is not valid Base64 at its position
+         */
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            write(CharBuffer.wrap(chars), offset, offset + length);
+        }
+
+        private void write(CharSequence source, int start, int end) {
+            int localBits = bits;
+            int localCount = count;
+            for (int i = start; i < end; i++) {
+                char c = source.charAt(i);
+                if (c == '=' || padding > 0) {
+                    count = localCount;
+                    acceptPadding(c, index + i - start);
+                    continue;
+                }
+
+                int value = c < DECODE_TABLE.length ? DECODE_TABLE[c] : -1;
+                if (value < 0) {
+                    throw new IllegalArgumentException("Illegal base64 character at index " + (index + i - start));
+                }
+
+                localBits = (localBits << 6) | value;
+                if (++localCount == 4) {
+                    if (position + 3 > buffer.length) {
+                        flushChunk();
+                    }
+                    buffer[position++] = (byte) (localBits >> 16);
+                    buffer[position++] = (byte) (localBits >> 8);
+                    buffer[position++] = (byte) localBits;
+                    localBits = 0;
+                    localCount = 0;
+                }
+            }
+            bits = localBits;
+            count = localCount;
+            index += end - start;
+        }
+
+        /**
+         * Checks the final 4-character unit: {@code xx==} and {@code xxx=} are the only padded forms and nothing
+         * may follow the padding.
+         */
+        private void acceptPadding(char c, long at) {
+            if (padding == 0 && count >= 2) {
+                padding = 1;
+            } else if (padding == 1 && count == 2 && c == '=') {
+                padding = 2;
+            } else if (padding == 0 || (padding == 1 && count == 2)) {
+                throw new IllegalArgumentException("Input has wrong 4-byte ending unit");
+            } else {
+                throw new IllegalArgumentException("Input has incorrect ending at index " + at);
+            }
+        }
+
+        /**
+         * Checks the ending of the content and writes its last bytes.
+         *
+         * @return the total number of decoded bytes
+         * @throws IllegalArgumentException if the content ends with an incomplete unit
+         */
+        public long finish() {
+            if (padding == 1 && count == 2) {
+                throw new IllegalArgumentException("Input has wrong 4-byte ending unit");
+            }
+            if (count == 1) {
+                throw new IllegalArgumentException("Last unit does not have enough valid bits");
+            }
+
+            if (position + 2 > buffer.length) {
+                flushChunk();
+            }
+            if (count == 2) {
+                buffer[position++] = (byte) (bits >> 4);
+            } else if (count == 3) {
+                buffer[position++] = (byte) (bits >> 10);
+                buffer[position++] = (byte) (bits >> 2);
+            }
+            count = 0;
+
+            if (position > 0) {
+                flushChunk();
+            }
+            return written;
+        }
+
+        private void flushChunk() {
+            consumer.accept(buffer, position);
+            written += position;
+            position = 0;
+        }
+
+        @Override
+        public void flush() {
+            // Decoded bytes are handed to the consumer in full chunks and by finish()
+        }
+
+        @Override
+        public void close() {
+            output.close();
+        }
+    }
+
+    private static int[] createDecodeTable() {
+        int[] table = new int[128];
+        Arrays.fill(table, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); i++) {
+            table[alphabet.charAt(i)] = i;
+        }
+        return table;
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.exampleproject.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.lang.ref.Cleaner;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of reusable byte arrays used for file decoding and MIME type sniffing, so upload bursts do not
+ * allocate fresh decoding and detection buffers for every validated file.
+ * <p>
+ * Buffers are grouped in size classes. The smaller classes keep one buffer per thread as a lock-free fast
+ * path; every class also has a bounded shared queue. Requests larger than the biggest class are served with a
+ * plain allocation and counted as misses.
+ * <p>
+ * When the {@code buffer.pool.leak-detection} system property is {@code true} (the test task sets it), each
+ * acquired buffer records its allocation site and a buffer that becomes unreachable without being closed is
+ * reported as a leak. The property is read once when the class is loaded, so every buffer, including those
+ * acquired before the application context starts, is tracked the same way.
+ * <p>
+ * The pool is reached through the static {@link #acquire(int)} by the validators and decoders, while the
+ * counters are read with {@link #getStats()} on the bean.
+ */
+@Slf4j
+@Component
+public class BufferPool {
+
+    public static final String LEAK_DETECTION_PROPERTY = "buffer.pool.leak-detection";
+
+    private static final int[] SIZE_CLASSES = {8 * 1024, 64 * 1024, 256 * 1024};
+
+    /**
+     * Largest size class cached per thread, bigger buffers only go to the shared queues.
+     */
+    private static final int MAX_THREAD_LOCAL_SIZE = 64 * 1024;
+
+    private static final int SHARED_CAPACITY_PER_CLASS = 32;
+
+    private static final ThreadLocal<byte[][]> THREAD_LOCAL_BUFFERS =
+            ThreadLocal.withInitial(() -> new byte[SIZE_CLASSES.length][]);
+
+    private static final ArrayBlockingQueue<?>[] SHARED_BUFFERS = createSharedQueues();
+
+    private static final LongAdder HITS = new LongAdder();
+
+    private static final LongAdder MISSES = new LongAdder();
+
+    private static final LongAdder LEAKS = new LongAdder();
+
+    private static final AtomicLong OUTSTANDING = new AtomicLong();
+
+    private static final Cleaner LEAK_CLEANER = Cleaner.create();
+
+    private static final boolean LEAK_DETECTION = Boolean.getBoolean(LEAK_DETECTION_PROPERTY);
+
+    /**
+     * Acquires a buffer with at least {@code minCapacity} bytes. The content of the returned array is
+     * undefined and it must be released with {@link Buffer#close()}, preferably in a try-with-resources block.
+     *
+     * @param minCapacity the minimum number of bytes required
+     * @return a pooled buffer
+     */
+    public static Buffer acquire(int minCapacity) {
+        int sizeClass = sizeClassOf(minCapacity);
+        byte[] array = sizeClass < 0 ? null : poll(sizeClass);
+
+        if (Objects.nonNull(array)) {
+            HITS.increment();
+        } else {
+            MISSES.increment();
+            array = new byte[sizeClass < 0 ? minCapacity : SIZE_CLASSES[sizeClass]];
+        }
+
+        OUTSTANDING.incrementAndGet();
+        return new Buffer(array, sizeClass);
+    }
+
+    /**
+     * Returns a snapshot of the pool counters. The buffers are shared by the whole process, so every instance
+     * reports the same counters; the method is exposed on the bean like the other pools of the application.
+     *
+     * @return the current pool statistics
+     */
+    public Stats getStats() {
+        return new Stats(HITS.sum(), MISSES.sum(), OUTSTANDING.get(), LEAKS.sum());
+    }
+
+    private static byte[] poll(int sizeClass) {
+        byte[][] local = THREAD_LOCAL_BUFFERS.get();
+        byte[] array = local[sizeClass];
+        if (Objects.nonNull(array)) {
+            local[sizeClass] = null;
+            return array;
+        }
+        return sharedQueue(sizeClass).poll();
+    }
+
+    private static void release(byte[] array, int sizeClass) {
+        OUTSTANDING.decrementAndGet();
+        if (sizeClass < 0) {
+            return;
+        }
+
+        if (SIZE_CLASSES[sizeClass] <= MAX_THREAD_LOCAL_SIZE) {
+            byte[][] local = THREAD_LOCAL_BUFFERS.get();
+            if (Objects.isNull(local[sizeClass])) {
+                local[sizeClass] = array;
+                return;
+            }
+        }
+
+        sharedQueue(sizeClass).offer(array);
+    }
+
+    private static int sizeClassOf(int capacity) {
+        for (int i = 0; i < SIZE_CLASSES.length; i++) {
+            if (capacity <= SIZE_CLASSES[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArrayBlockingQueue<byte[]> sharedQueue(int sizeClass) {
+        return (ArrayBlockingQueue<byte[]>) SHARED_BUFFERS[sizeClass];
+    }
+
+    private static ArrayBlockingQueue<?>[] createSharedQueues() {
+        ArrayBlockingQueue<?>[] queues = new ArrayBlockingQueue<?>[SIZE_CLASSES.length];
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = new ArrayBlockingQueue<byte[]>(SHARED_CAPACITY_PER_CLASS);
+        }
+        return queues;
+    }
+
+    /**
+     * Snapshot of the pool counters.
+     *
+     * @param hits        acquisitions served by a pooled buffer
+     * @param misses      acquisitions that required a new allocation
+     * @param outstanding buffers acquired and not yet released
+     * @param leaks       buffers garbage collected without being released (only tracked with leak detection)
+     */
+    public record Stats(long hits, long misses, long outstanding, long leaks) {
+    }
+
+    /**
+     * A buffer borrowed from the pool. The backing array must not be used after {@link #close()}.
+     */
+    public static final class Buffer implements AutoCloseable {
+
+        private final int sizeClass;
+
+        private final LeakTracker leakTracker;
+
+        private byte[] array;
+
+        private Buffer(byte[] array, int sizeClass) {
+            this.array = array;
+            this.sizeClass = sizeClass;
+            this.leakTracker = LEAK_DETECTION ? LeakTracker.register(this) : null;
+        }
+
+        /**
+         * @return the backing array, whose length may be larger than the requested capacity
+         * @throws IllegalStateException if the buffer was already released
+         */
+        public byte[] array() {
+            if (Objects.isNull(array)) {
+                throw new IllegalStateException("Buffer already released to the pool");
+            }
+            return array;
+        }
+
+        public int capacity() {
+            return array().length;
+        }
+
+        @Override
+        public void close() {
+            if (Objects.isNull(array)) {
+                return;
+            }
+
+            byte[] released = array;
+            array = null;
+            if (Objects.nonNull(leakTracker)) {
+                leakTracker.markReleased();
+            }
+            release(released, sizeClass);
+        }
+    }
+
+    private static final class LeakTracker implements Runnable {
+
+        private final Throwable allocationSite = new Throwable("Buffer acquired here");
+
+        private volatile boolean released;
+
+        private Cleaner.Cleanable cleanable;
+
+        private static LeakTracker register(Buffer buffer) {
+            LeakTracker tracker = new LeakTracker();
+            tracker.cleanable = LEAK_CLEANER.register(buffer, tracker);
+            return tracker;
+        }
+
+        private void markReleased() {
+            released = true;
+            cleanable.clean();
+        }
+
+        @Override
+        public void run() {
+            if (!released) {
+                LEAKS.increment();
+                OUTSTANDING.decrementAndGet();
+                log.error("A pooled buffer was garbage collected without being released.", allocationSite);
+            }
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package com.example.exampleproject.utils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Check-digit engine for CPF (Cadastro de Pessoas Físicas) and CNPJ (Cadastro Nacional da Pessoa Jurídica)
+ * numbers, usable inside and outside Bean Validation.
+ * <p>
+ * A value is checked in a single scan of its characters against static weight tables, without regular
+ * expressions, intermediate strings or arrays, so validating millions of values only costs the scan itself.
+ * Only unformatted values are accepted, like {@code CpfCnpjValidation}: CPFs are numeric, and CNPJs are
+ * either numeric or follow the alphanumeric format of the Receita Federal (uppercase letters and digits in the
+ * first 12 positions, each character weighing its ASCII code minus 48, and two numeric check digits).
+ */
+public class CpfCnpjUtils {
+
+    private CpfCnpjUtils() {
+        throw new IllegalStateException("Utility class cannot be instantiated");
+    }
+
+    public static final int CPF_LENGTH = 11;
+
+    public static final int CNPJ_LENGTH = 14;
+
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private static final int MAX_DIGIT_VALUE = '9' - '0';
+
+    private static final int MAX_ALPHANUMERIC_VALUE = 'Z' - '0';
+
+    /** Check digit value of each ASCII character, {@code -1} for characters not allowed anywhere. */
+    private static final int[] CHARACTER_VALUES = createCharacterValues();
+
+    /** CPFs are numeric only. */
+    private static final int[] CPF_MAX_VALUES = createMaxValues(CPF_LENGTH, 0);
+
+    /** CNPJs may have uppercase letters in their first 12 positions, the check digits are always numeric. */
+    private static final int[] CNPJ_MAX_VALUES = createMaxValues(CNPJ_LENGTH, CNPJ_LENGTH - 2);
+
+    // Weights cover the whole value, with zeros for the positions that are not part of each sum
+
+    private static final int[] CPF_FIRST_WEIGHTS = {10, 9, 8, 7, 6, 5, 4, 3, 2, 0, 0};
+
+    private static final int[] CPF_SECOND_WEIGHTS = {11, 10, 9, 8, 7, 6, 5, 4, 3, 2, 0};
+
+    private static final int[] CNPJ_FIRST_WEIGHTS = {5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2, 0, 0};
+
+    private static final int[] CNPJ_SECOND_WEIGHTS = {6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2, 0};
+
+    /**
+     * Outcome of checking a single value, in the order the rules are applied, with the key of the message
+     * describing the broken rule.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Result {
+        VALID(null),
+        /**
+         * The value is empty, or has characters other than digits in a CPF, or other than digits and uppercase
+         * letters in a CNPJ (whose two check digits are always numeric).
+         */
+        INVALID_FORMAT("msg.validation.request.field.cpfcnpj.invalid"),
+        /** The value has neither the CPF nor the CNPJ length. */
+        INVALID_LENGTH("msg.validation.request.field.cpfcnpj.invalidLength"),
+        /** The value has the CPF length but its check digits do not match (or all its digits are equal). */
+        INVALID_CPF_CHECK_DIGIT("msg.validation.request.field.cpf.invalidCheckDigit"),
+        /** The value has the CNPJ length but its check digits do not match (or all its digits are equal). */
+        INVALID_CNPJ_CHECK_DIGIT("msg.validation.request.field.cnpj.invalidCheckDigit");
+
+        /**
+         * The message key describing the broken rule, {@code null} for {@link #VALID}.
+         */
+        private final String messageKey;
+    }
+
+    /**
+     * Validation outcome of a batch of values.
+     *
+     * @param count the number of values checked
+     * @param valid bit {@code i} is set when the {@code i}-th value is a valid CPF or CNPJ
+     */
+    public record BulkResult(int count, BitSet valid) {
+
+        public boolean isValid(int index) {
+            return valid.get(index);
+        }
+
+        public int validCount() {
+            return valid.cardinality();
+        }
+
+        public int invalidCount() {
+            return count - valid.cardinality();
+        }
+    }
+
+    /**
+     * Checks whether the value is a valid CPF or CNPJ.
+     *
+     * @param value the unformatted CPF or CNPJ
+     * @return {@code true} if the value is a valid CPF or CNPJ
+     */
+    public static boolean isValid(CharSequence value) {
+        return check(value) == Result.VALID;
+    }
+
+    /**
+     * Checks the value against the CPF/CNPJ rules: allowed characters, CPF or CNPJ length, not all characters
+     * equal, and matching check digits.
+     *
+     * @param value the unformatted CPF or CNPJ
+     * @return the first rule the value breaks, or {@link Result#VALID}
+     */
+    public static Result check(CharSequence value) {
+        if (value == null || value.isEmpty()) {
+            return Result.INVALID_FORMAT;
+        }
+
+        int length = value.length();
+        int[] maxValues;
+        int[] firstWeights;
+        int[] secondWeights;
+        if (length == CPF_LENGTH) {
+            maxValues = CPF_MAX_VALUES;
+            firstWeights = CPF_FIRST_WEIGHTS;
+            secondWeights = CPF_SECOND_WEIGHTS;
+        } else if (length == CNPJ_LENGTH) {
+            maxValues = CNPJ_MAX_VALUES;
+            firstWeights = CNPJ_FIRST_WEIGHTS;
+            secondWeights = CNPJ_SECOND_WEIGHTS;
+        } else {
+            return isAlphanumeric(value) ? Result.INVALID_LENGTH : Result.INVALID_FORMAT;
+        }
+
+        int firstSum = 0;
+        int secondSum = 0;
+        int invalid = 0;
+        boolean repeated = true;
+        char first = value.charAt(0);
+
+        // Branch-free scan: a character outside the table or above the position's maximum turns "invalid"
+        // negative, and the check digit positions have a zero weight in the sums they are compared with.
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            int characterValue = characterValue(c);
+            invalid |= characterValue | (maxValues[i] - characterValue);
+            repeated &= c == first;
+            firstSum += characterValue * firstWeights[i];
+            secondSum += characterValue * secondWeights[i];
+        }
+
+        if (invalid < 0) {
+            return Result.INVALID_FORMAT;
+        }
+
+        int body = length - 2;
+        boolean valid = !repeated
+                && value.charAt(body) - '0' == checkDigit(firstSum)
+                && value.charAt(body + 1) - '0' == checkDigit(secondSum);
+
+        if (valid) {
+            return Result.VALID;
+        }
+        return length == CPF_LENGTH ? Result.INVALID_CPF_CHECK_DIGIT : Result.INVALID_CNPJ_CHECK_DIGIT;
+    }
+
+    /**
+     * Validates every value of the array.
+     *
+     * @param values the unformatted CPFs and CNPJs; {@code null} elements are invalid
+     * @return the validation outcome, indexed like the array
+     */
+    public static BulkResult validateAll(CharSequence[] values) {
+        BitSet valid = new BitSet(values.length);
+        for (int i = 0; i < values.length; i++) {
+            if (isValid(values[i])) {
+                valid.set(i);
+            }
+        }
+        return new BulkResult(values.length, valid);
+    }
+
+    /**
+     * Validates a newline-delimited stream of values ({@code \n} or {@code \r\n}), one value per line.
+     * A trailing newline at the end of the stream does not add an empty value. The reader is not closed.
+     *
+     * @param reader the stream of unformatted CPFs and CNPJs
+     * @return the validation outcome, indexed by line
+     * @throws IOException if reading from the stream fails
+     */
+    public static BulkResult validateAll(Reader reader) throws IOException {
+        BitSet valid = new BitSet();
+        char[] chunk = new char[READ_BUFFER_SIZE];
+        char[] line = new char[CNPJ_LENGTH + 1];
+        CharBuffer lineView = CharBuffer.wrap(line);
+
+        int count = 0;
+        int lineLength = 0;
+        boolean pending = false;
+        int read;
+
+        while ((read = reader.read(chunk)) != -1) {
+            for (int i = 0; i < read; i++) {
+                char c = chunk[i];
+                if (c == '\n') {
+                    if (isValidLine(lineView, lineLength)) {
+                        valid.set(count);
+                    }
+                    count++;
+                    lineLength = 0;
+                    pending = false;
+                    continue;
+                }
+
+                pending = true;
+                // Longer lines can never be valid, counting one character past the buffer is enough to reject them
+                if (lineLength < line.length) {
+                    line[lineLength] = c;
+                }
+                if (lineLength <= line.length) {
+                    lineLength++;
+                }
+            }
+        }
+
+        if (pending) {
+            if (isValidLine(lineView, lineLength)) {
+                valid.set(count);
+            }
+            count++;
+        }
+
+        return new BulkResult(count, valid);
+    }
+
+    private static boolean isValidLine(CharBuffer lineView, int lineLength) {
+        if (lineLength > lineView.capacity()) {
+            return false;
+        }
+        lineView.clear();
+        if (lineLength > 0 && lineView.get(lineLength - 1) == '\r') {
+            lineLength--;
+        }
+        lineView.limit(lineLength);
+        return isValid(lineView);
+    }
+
+    private static boolean isAlphanumeric(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (characterValue(value.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the check digit value of the character ({@code c - '0'}), or a negative number when the character
+     * is neither a digit nor an uppercase letter
+     */
+    private static int characterValue(char c) {
+        // Characters above the table end up with the sign bit set
+        return CHARACTER_VALUES[c & 0x7F] | ((0x7F - c) >> 31);
+    }
+
+    private static int[] createCharacterValues() {
+        int[] values = new int[128];
+        Arrays.fill(values, -1);
+        for (char c = '0'; c <= '9'; c++) {
+            values[c] = c - '0';
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            values[c] = c - '0';
+        }
+        return values;
+    }
+
+    private static int[] createMaxValues(int length, int alphanumericLength) {
+        int[] maxValues = new int[length];
+        Arrays.fill(maxValues, 0, alphanumericLength, MAX_ALPHANUMERIC_VALUE);
+        Arrays.fill(maxValues, alphanumericLength, length, MAX_DIGIT_VALUE);
+        return maxValues;
+    }
+
+    private static int checkDigit(int sum) {
+        int remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+}
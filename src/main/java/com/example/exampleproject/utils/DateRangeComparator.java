@@ -0,0 +1,138 @@
+package com.example.exampleproject.utils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Date;
+
+/**
+ * Order check between the two dates of a range, chosen once from the types of both dates so each check is a
+ * direct comparison without converting the dates to {@link java.time.Instant}.
+ * <p>
+ * Dates of the same type are compared as they are ({@link LocalDate#isAfter}, {@link LocalDateTime#isAfter},
+ * {@link ZonedDateTime#isAfter}, {@link Date#after}), local dates and times being wall-clock values of the
+ * project zone. Dates of different types are compared on their epoch second and nanosecond, local values being
+ * placed in the project zone of the given {@link ProjectTimeService} through
+ * {@link ProjectTimeService#getFixedOffset() its fixed offset} when it has one, which needs no allocation, or
+ * through its {@link ProjectTimeService#getZoneRules() rules} otherwise.
+ */
+public enum DateRangeComparator {
+
+    LOCAL_DATE {
+        @Override
+        public boolean isAfter(Object dateA, Object dateB, ProjectTimeService timeService) {
+            return ((LocalDate) dateA).isAfter((LocalDate) dateB);
+        }
+    },
+
+    LOCAL_DATE_TIME {
+        @Override
+        public boolean isAfter(Object dateA, Object dateB, ProjectTimeService timeService) {
+            return ((LocalDateTime) dateA).isAfter((LocalDateTime) dateB);
+        }
+    },
+
+    ZONED_DATE_TIME {
+        @Override
+        public boolean isAfter(Object dateA, Object dateB, ProjectTimeService timeService) {
+            return ((ZonedDateTime) dateA).isAfter((ZonedDateTime) dateB);
+        }
+    },
+
+    DATE {
+        @Override
+        public boolean isAfter(Object dateA, Object dateB, ProjectTimeService timeService) {
+            return ((Date) dateA).getTime() > ((Date) dateB).getTime();
+        }
+    },
+
+    /**
+     * Dates of different or undeclared types, resolved from the runtime types of each pair.
+     */
+    MIXED {
+        @Override
+        public boolean isAfter(Object dateA, Object dateB, ProjectTimeService timeService) {
+            DateRangeComparator exact = forTypes(dateA.getClass(), dateB.getClass());
+            if (exact != MIXED) {
+                return exact.isAfter(dateA, dateB, timeService);
+            }
+
+            long secondsA = epochSecond(dateA, timeService);
+            long secondsB = epochSecond(dateB, timeService);
+            if (secondsA != secondsB) {
+                return secondsA > secondsB;
+            }
+            return nano(dateA) > nano(dateB);
+        }
+    };
+
+    /**
+     * Checks whether the first date of the range is after the second one.
+     *
+     * @param dateA the start date of the range, not {@code null}
+     * @param dateB the end date of the range, not {@code null}
+     * @param timeService the source of the project zone in which local dates and times are placed
+     * @return {@code true} if dateA is after dateB
+     * @throws IllegalArgumentException if a date is not a {@link LocalDate}, {@link LocalDateTime},
+     *                                  {@link ZonedDateTime} or {@link Date}
+     */
+    public abstract boolean isAfter(Object dateA, Object dateB, ProjectTimeService timeService);
+
+    /**
+     * Chooses the comparison for dates of the given types, which may be declared types such as
+     * {@link Object} when the actual types are only known at runtime.
+     *
+     * @param typeA the type of the start date
+     * @param typeB the type of the end date
+     * @return the comparison of same-typed dates, or {@link #MIXED}
+     */
+    public static DateRangeComparator forTypes(Class<?> typeA, Class<?> typeB) {
+        if (typeA != typeB) {
+            return MIXED;
+        }
+        if (typeA == LocalDate.class) {
+            return LOCAL_DATE;
+        }
+        if (typeA == LocalDateTime.class) {
+            return LOCAL_DATE_TIME;
+        }
+        if (typeA == ZonedDateTime.class) {
+            return ZONED_DATE_TIME;
+        }
+        if (typeA == Date.class) {
+            return DATE;
+        }
+        return MIXED;
+    }
+
+    private static long epochSecond(Object date, ProjectTimeService timeService) {
+        return switch (date) {
+            case LocalDate localDate -> {
+                ZoneOffset offset = timeService.getFixedOffset();
+                yield offset != null
+                        ? localDate.toEpochSecond(LocalTime.MIDNIGHT, offset)
+                        : localDate.atStartOfDay(timeService.getZoneId()).toEpochSecond();
+            }
+            case LocalDateTime localDateTime -> {
+                ZoneOffset offset = timeService.getFixedOffset();
+                yield offset != null
+                        ? localDateTime.toEpochSecond(offset)
+                        : localDateTime.toEpochSecond(timeService.getZoneRules().getOffset(localDateTime));
+            }
+            case ZonedDateTime zonedDateTime -> zonedDateTime.toEpochSecond();
+            case Date legacyDate -> Math.floorDiv(legacyDate.getTime(), 1000);
+            default -> throw new IllegalArgumentException("Unsupported date type: " + date);
+        };
+    }
+
+    private static int nano(Object date) {
+        return switch (date) {
+            case LocalDateTime localDateTime -> localDateTime.getNano();
+            case ZonedDateTime zonedDateTime -> zonedDateTime.getNano();
+            case Date legacyDate -> Math.floorMod(legacyDate.getTime(), 1000) * 1_000_000;
+            default -> 0;
+        };
+    }
+}
@@ -10,9 +10,8 @@ import java.util.Objects;
 
 /**
  * Utility class providing methods and constants for handling date and time objects
- * in various formats. This class contains methods to validate date ranges and
- * convert between different types of date representations, as well as format specifications
- * for serialization and deserialization purposes.
+ * in various formats. This class contains methods to validate date ranges, as well as format
+ * specifications for serialization and deserialization purposes.
  *
  * <p>This class is not meant to be instantiated as all its methods are static.
  * Attempting to instantiate this class will result in an {@link IllegalStateException}.
@@ -40,15 +39,17 @@ public class DateUtils {
      * Checks if the provided date range is valid, ensuring that both dates are not null and dateA is
      * not after dateB.
      *
-     * @param dateA     the start date of the range; can be of type {@link LocalDate},
-     *                  {@link LocalDateTime}, {@link ZonedDateTime}, or {@link Date}
-     * @param dateAName the name of the start date field for use in error messages
-     * @param dateB     the end date of the range; can be of type {@link LocalDate},
-     *                  {@link LocalDateTime}, {@link ZonedDateTime}, or {@link Date}
-     * @param dateBName the name of the end date field for use in error messages
+     * @param dateA       the start date of the range; can be of type {@link LocalDate},
+     *                    {@link LocalDateTime}, {@link ZonedDateTime}, or {@link Date}
+     * @param dateAName   the name of the start date field for use in error messages
+     * @param dateB       the end date of the range; can be of type {@link LocalDate},
+     *                    {@link LocalDateTime}, {@link ZonedDateTime}, or {@link Date}
+     * @param dateBName   the name of the end date field for use in error messages
+     * @param timeService the source of the project zone in which local dates and times are compared
      * @throws BusinessException if either dateA or dateB is null, or if dateA is after dateB
      */
-    public static void checkDateRange(Object dateA, String dateAName, Object dateB, String dateBName) {
+    public static void checkDateRange(Object dateA, String dateAName, Object dateB, String dateBName,
+                                      ProjectTimeService timeService) {
         boolean bothDatesNull = Objects.isNull(dateA) && Objects.isNull(dateB);
         boolean eitherDateNull = Objects.isNull(dateA) || Objects.isNull(dateB);
 
@@ -62,15 +63,13 @@ public class DateUtils {
             );
         }
 
-        validateDateRange(dateA, dateAName, dateB, dateBName);
+        validateDateRange(dateA, dateAName, dateB, dateBName, timeService);
     }
 
-    private static void validateDateRange(Object dateA, String dateAName, Object dateB, String dateBName) {
+    private static void validateDateRange(Object dateA, String dateAName, Object dateB, String dateBName,
+                                          ProjectTimeService timeService) {
         try {
-            Instant instantA = toInstant(dateA);
-            Instant instantB = toInstant(dateB);
-
-            if (instantA.isAfter(instantB)) {
+            if (DateRangeComparator.forTypes(dateA.getClass(), dateB.getClass()).isAfter(dateA, dateB, timeService)) {
                 throw new BusinessException(
                         MessageUtils.getMessage(
                                 "msg.validation.request.field.date.range.invalid", dateAName, dateBName
@@ -83,22 +82,4 @@ public class DateUtils {
         }
     }
 
-    /**
-     * Converts various date/time types to Instant.
-     *
-     * @param dateObject the date/time object to convert
-     * @return the Instant representation of the date/time object
-     * @throws IllegalArgumentException Unsupported date type
-     */
-    public static Instant toInstant(Object dateObject) throws IllegalArgumentException {
-        ZoneId projectZoneId = ZoneUtils.getProjectZoneId();
-        return switch (dateObject) {
-            case LocalDate localDate -> localDate.atStartOfDay(projectZoneId).toInstant();
-            case LocalDateTime localDateTime -> localDateTime.atZone(projectZoneId).toInstant();
-            case ZonedDateTime zonedDateTime -> zonedDateTime.withZoneSameInstant(projectZoneId).toInstant();
-            case Date date -> date.toInstant().atZone(projectZoneId).toInstant();
-            case null, default -> throw new IllegalArgumentException("Unsupported date type: " + dateObject);
-        };
-    }
-
 }
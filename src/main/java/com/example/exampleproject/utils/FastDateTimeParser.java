@@ -0,0 +1,202 @@
+package com.example.exampleproject.utils;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * Parsers for the fixed-width date and time formats accepted by the API (see the {@code *_DESERIALIZER_FORMAT}
+ * constants of {@link DateUtils}), reading straight from a character buffer such as the one of a Jackson parser.
+ * <p>
+ * Each character is checked against its position in the format and the {@code java.time} object is built
+ * directly, without the intermediate {@code String} and field maps of {@link java.time.format.DateTimeFormatter}.
+ * The parsers only accept the common case: field values within their regular ranges (no day-of-month past the
+ * end of the month, no hour 24, ...) and exactly the characters of the format. Anything else returns
+ * {@code null}, and the caller must then parse the text with the formatter, which applies its own resolution
+ * rules and produces the error.
+ */
+public class FastDateTimeParser {
+
+    private FastDateTimeParser() {
+        throw new IllegalStateException("Utility class cannot be instantiated");
+    }
+
+    private static final int LOCAL_DATE_LENGTH = 10;
+
+    private static final int LOCAL_TIME_LENGTH = 8;
+
+    private static final int LOCAL_DATE_TIME_LENGTH = LOCAL_DATE_LENGTH + 1 + LOCAL_TIME_LENGTH;
+
+    /** {@code yyyy-MM-dd'T'HH:mm:ss.SSS} before the offset. */
+    private static final int ZONED_DATE_TIME_LOCAL_LENGTH = LOCAL_DATE_TIME_LENGTH + 4;
+
+    /**
+     * Parses {@value DateUtils#LOCAL_DATE_DESERIALIZER_FORMAT}.
+     *
+     * @param chars  the buffer holding the text
+     * @param offset the index of the first character of the text
+     * @param length the length of the text
+     * @return the date, or {@code null} if the text must be parsed by the formatter
+     */
+    public static LocalDate parseLocalDate(char[] chars, int offset, int length) {
+        if (chars == null || length != LOCAL_DATE_LENGTH) {
+            return null;
+        }
+        return readDate(chars, offset);
+    }
+
+    /**
+     * Parses {@value DateUtils#LOCAL_TIME_DESERIALIZER_FORMAT}.
+     *
+     * @param chars  the buffer holding the text
+     * @param offset the index of the first character of the text
+     * @param length the length of the text
+     * @return the time, or {@code null} if the text must be parsed by the formatter
+     */
+    public static LocalTime parseLocalTime(char[] chars, int offset, int length) {
+        if (chars == null || length != LOCAL_TIME_LENGTH) {
+            return null;
+        }
+        return readTime(chars, offset, 0);
+    }
+
+    /**
+     * Parses {@value DateUtils#LOCAL_DATE_TIME_DESERIALIZER_FORMAT}, which is also the format of
+     * {@link java.util.Date} values.
+     *
+     * @param chars  the buffer holding the text
+     * @param offset the index of the first character of the text
+     * @param length the length of the text
+     * @return the date and time, or {@code null} if the text must be parsed by the formatter
+     */
+    public static LocalDateTime parseLocalDateTime(char[] chars, int offset, int length) {
+        if (chars == null || length != LOCAL_DATE_TIME_LENGTH) {
+            return null;
+        }
+        return readDateTime(chars, offset, ' ', 0);
+    }
+
+    /**
+     * Parses {@value DateUtils#ZONED_DATE_TIME_DESERIALIZER_FORMAT}, with a {@code Z} or {@code ±HH:mm} offset.
+     *
+     * @param chars  the buffer holding the text
+     * @param offset the index of the first character of the text
+     * @param length the length of the text
+     * @return the date and time at the parsed offset, or {@code null} if the text must be parsed by the formatter
+     */
+    public static ZonedDateTime parseZonedDateTime(char[] chars, int offset, int length) {
+        if (chars == null || length < ZONED_DATE_TIME_LOCAL_LENGTH + 1
+                || chars[offset + LOCAL_DATE_TIME_LENGTH] != '.') {
+            return null;
+        }
+
+        int millis = readDigits(chars, offset + LOCAL_DATE_TIME_LENGTH + 1, 3);
+        if (millis < 0) {
+            return null;
+        }
+
+        ZoneOffset zoneOffset = readOffset(chars, offset + ZONED_DATE_TIME_LOCAL_LENGTH,
+                length - ZONED_DATE_TIME_LOCAL_LENGTH);
+        if (zoneOffset == null) {
+            return null;
+        }
+
+        LocalDateTime dateTime = readDateTime(chars, offset, 'T', millis * 1_000_000);
+        return dateTime != null ? ZonedDateTime.of(dateTime, zoneOffset) : null;
+    }
+
+    private static LocalDateTime readDateTime(char[] chars, int offset, char separator, int nanos) {
+        if (chars[offset + LOCAL_DATE_LENGTH] != separator) {
+            return null;
+        }
+        LocalDate date = readDate(chars, offset);
+        LocalTime time = readTime(chars, offset + LOCAL_DATE_LENGTH + 1, nanos);
+        return date != null && time != null ? LocalDateTime.of(date, time) : null;
+    }
+
+    /**
+     * Reads {@code yyyy-MM-dd}. Days past the end of the month are left to the formatter, which adjusts them.
+     */
+    private static LocalDate readDate(char[] chars, int offset) {
+        if (chars[offset + 4] != '-' || chars[offset + 7] != '-') {
+            return null;
+        }
+
+        int year = readDigits(chars, offset, 4);
+        int month = readDigits(chars, offset + 5, 2);
+        int day = readDigits(chars, offset + 8, 2);
+        if (year < 1 || month < 1 || month > 12 || day < 1) {
+            return null;
+        }
+        if (day > 28 && day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * Reads {@code HH:mm:ss}. Hour 24 (end of day) is left to the formatter.
+     */
+    private static LocalTime readTime(char[] chars, int offset, int nanos) {
+        if (chars[offset + 2] != ':' || chars[offset + 5] != ':') {
+            return null;
+        }
+
+        int hour = readDigits(chars, offset, 2);
+        int minute = readDigits(chars, offset + 3, 2);
+        int second = readDigits(chars, offset + 6, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        return LocalTime.of(hour, minute, second, nanos);
+    }
+
+    /**
+     * Reads {@code Z} or {@code ±HH:mm}, the forms produced for the {@code XXX} pattern.
+     */
+    private static ZoneOffset readOffset(char[] chars, int offset, int length) {
+        if (length == 1) {
+            return chars[offset] == 'Z' ? ZoneOffset.UTC : null;
+        }
+
+        char sign = chars[offset];
+        if (length != 6 || (sign != '+' && sign != '-') || chars[offset + 3] != ':') {
+            return null;
+        }
+
+        int hours = readDigits(chars, offset + 1, 2);
+        int minutes = readDigits(chars, offset + 4, 2);
+        if (hours < 0 || minutes < 0 || minutes > 59) {
+            return null;
+        }
+
+        try {
+            return sign == '+'
+                    ? ZoneOffset.ofHoursMinutes(hours, minutes)
+                    : ZoneOffset.ofHoursMinutes(-hours, -minutes);
+        } catch (DateTimeException e) {
+            // Beyond ±18:00, rejected by the formatter
+            return null;
+        }
+    }
+
+    /**
+     * @return the value of the decimal digits, or {@code -1} if a character is not a digit
+     */
+    private static int readDigits(char[] chars, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = chars[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.exampleproject.utils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits a log statement to one occurrence per interval, for warnings that a single misbehaving client can
+ * trigger on every request.
+ * <p>
+ * The first call is always permitted. The calls made within the interval that follows are suppressed and
+ * counted; the next permitted call reports how many were suppressed, so the log still shows the volume.
+ * Lock-free and safe for concurrent use.
+ */
+public final class LogRateLimiter {
+
+    private final long intervalNanos;
+
+    private final AtomicLong nextPermitted;
+
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public LogRateLimiter(Duration interval) {
+        this.intervalNanos = interval.toNanos();
+        this.nextPermitted = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Asks whether the log statement may be written now.
+     *
+     * @return the number of calls suppressed since the last permitted one, or {@code -1} if this call is
+     * suppressed as well
+     */
+    public long tryAcquire() {
+        long now = System.nanoTime();
+        long next = nextPermitted.get();
+        if (now - next >= 0 && nextPermitted.compareAndSet(next, now + intervalNanos)) {
+            return suppressed.getAndSet(0);
+        }
+        suppressed.incrementAndGet();
+        return -1;
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.exampleproject.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneRules;
+
+/**
+ * Central source of the project time zone and of the current time, injected where dates and times are produced,
+ * written or compared (the JSON serializers, the controllers, the exception handler and the date range checks)
+ * instead of each resolving the zone or reading the system clock on its own.
+ * <p>
+ * The zone ({@code spring.jackson.time-zone}) is resolved once, along with its {@link ZoneRules} and, when the
+ * zone never changes offset (as "UTC"), its fixed offset, which converts local dates and times without looking
+ * up any transition.
+ * <p>
+ * The current date and time is offered at two precisions: {@link #now()} reads the clock, while
+ * {@link #currentDateTime()}, {@link #today()} and {@link #currentTime()} are truncated to the second and shared
+ * by all the callers within that second, for the response timestamps written with second precision.
+ */
+@Slf4j
+@Component
+public class ProjectTimeService {
+
+    private static final ZoneId DEFAULT_ZONE_ID = ZoneId.of("UTC");
+
+    private final ZoneId zoneId;
+
+    private final ZoneRules zoneRules;
+
+    /** Offset of the zone when its rules never change, {@code null} otherwise. */
+    private final ZoneOffset fixedOffset;
+
+    private final Clock clock;
+
+    private volatile Second currentSecond = new Second(Long.MIN_VALUE, null);
+
+    @Autowired
+    public ProjectTimeService(@Value("${spring.jackson.time-zone:UTC}") String configuredZoneId) {
+        this(resolveZoneId(configuredZoneId), Clock.systemUTC());
+    }
+
+    public ProjectTimeService(ZoneId zoneId, Clock clock) {
+        this.zoneId = zoneId;
+        this.zoneRules = zoneId.getRules();
+        this.fixedOffset = zoneRules.isFixedOffset() ? zoneRules.getOffset(Instant.EPOCH) : null;
+        this.clock = clock.withZone(zoneId);
+    }
+
+    /**
+     * Returns the project time zone.
+     *
+     * @return the configured zone, or "UTC" if the configuration is invalid
+     */
+    public ZoneId getZoneId() {
+        return zoneId;
+    }
+
+    /**
+     * Returns the rules of the project zone, resolved once.
+     *
+     * @return the rules of the project zone
+     */
+    public ZoneRules getZoneRules() {
+        return zoneRules;
+    }
+
+    /**
+     * Returns the offset of the project zone when it never changes (e.g. "UTC" or "-03:00").
+     *
+     * @return the fixed offset of the project zone, or {@code null} if the zone has offset transitions
+     */
+    public ZoneOffset getFixedOffset() {
+        return fixedOffset;
+    }
+
+    /**
+     * Returns the offset of the project zone at the given instant, without any lookup for a fixed offset zone.
+     *
+     * @param instant the instant
+     * @return the offset in effect at that instant
+     */
+    public ZoneOffset getOffset(Instant instant) {
+        return fixedOffset != null ? fixedOffset : zoneRules.getOffset(instant);
+    }
+
+    /**
+     * Returns the clock of the service, in the project zone.
+     *
+     * @return the clock
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Returns the current date and time in the project zone, with the precision of the clock.
+     *
+     * @return the current date and time
+     */
+    public ZonedDateTime now() {
+        return ZonedDateTime.now(clock);
+    }
+
+    /**
+     * Returns the current local date and time in the project zone, truncated to the second.
+     *
+     * @return the current date and time, the same instance for all the calls within a second
+     */
+    public LocalDateTime currentDateTime() {
+        long epochSecond = Math.floorDiv(clock.millis(), 1000);
+        Second second = currentSecond;
+        if (second.epochSecond() != epochSecond) {
+            // Concurrent callers may each build it, the last one written being as valid as the others
+            second = new Second(epochSecond,
+                    LocalDateTime.ofEpochSecond(epochSecond, 0, getOffset(Instant.ofEpochSecond(epochSecond))));
+            currentSecond = second;
+        }
+        return second.dateTime();
+    }
+
+    /**
+     * Returns the current date in the project zone.
+     *
+     * @return the current date
+     */
+    public LocalDate today() {
+        return currentDateTime().toLocalDate();
+    }
+
+    /**
+     * Returns the current local time in the project zone, truncated to the second.
+     *
+     * @return the current time
+     */
+    public LocalTime currentTime() {
+        return currentDateTime().toLocalTime();
+    }
+
+    private static ZoneId resolveZoneId(String configuredZoneId) {
+        try {
+            return ZoneId.of(configuredZoneId);
+        } catch (DateTimeException e) {
+            log.error("Invalid spring.jackson.time-zone configuration in file application: {}", configuredZoneId, e);
+            return DEFAULT_ZONE_ID;
+        }
+    }
+
+    private record Second(long epochSecond, LocalDateTime dateTime) {
+    }
+}
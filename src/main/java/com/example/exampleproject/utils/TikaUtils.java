@@ -0,0 +1,28 @@
+package com.example.exampleproject.utils;
+
+import org.apache.tika.Tika;
+
+/**
+ * Holder of the {@link Tika} facade shared by the file validators and the file processing service.
+ * <p>
+ * Creating a {@code Tika} loads its detectors and the MIME type registry from the classpath, which takes far
+ * longer than a detection, while the facade itself is thread-safe. A single instance is created on first use
+ * (or by the startup warm-up) instead of one per validator.
+ */
+public class TikaUtils {
+
+    private TikaUtils() {
+        throw new IllegalStateException("Utility class cannot be instantiated");
+    }
+
+    private static final class Holder {
+        private static final Tika TIKA = new Tika();
+    }
+
+    /**
+     * @return the shared Tika instance
+     */
+    public static Tika getTika() {
+        return Holder.TIKA;
+    }
+}
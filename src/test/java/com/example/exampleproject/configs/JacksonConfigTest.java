@@ -0,0 +1,77 @@
+package com.example.exampleproject.configs;
+
+import com.example.exampleproject.dto.response.TestPostResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for class {@link JacksonConfig}
+ */
+@SpringBootTest
+@Tag("JacksonConfig_Tests")
+@DisplayName("JacksonConfig Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class JacksonConfigTest {
+
+    private static final String BINARY_CONVERTERS = "binaryConverters";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    /**
+     * Method test for
+     * {@link JacksonConfig#mappingJackson2SmileHttpMessageConverter()} and
+     * {@link JacksonConfig#mappingJackson2CborHttpMessageConverter()}
+     */
+    @Order(1)
+    @Tag(value = BINARY_CONVERTERS)
+    @DisplayName(BINARY_CONVERTERS + " - Given a response, then should write the same content as JSON in fewer bytes")
+    @Test
+    void binaryConverters_WhenResponse_ThenShouldWriteSameContentAsJson() throws IOException {
+        // Arrange
+        TestPostResponse response = TestPostResponse.builder()
+                .date(new Date())
+                .localDateTime(LocalDateTime.now())
+                .localDate(LocalDate.now())
+                .zonedDateTime(ZonedDateTime.now())
+                .localTime(LocalTime.now())
+                .statusEnum("ATIVO")
+                .integerValue(42)
+                .longValue(Long.MAX_VALUE)
+                .build();
+        ObjectMapper smileMapper = smileConverter.getObjectMapper();
+        ObjectMapper cborMapper = cborConverter.getObjectMapper();
+
+        // Act
+        byte[] json = objectMapper.writeValueAsBytes(response);
+        byte[] smile = smileMapper.writeValueAsBytes(response);
+        byte[] cbor = cborMapper.writeValueAsBytes(response);
+
+        // Assert
+        JsonNode expected = objectMapper.readTree(json);
+        assertEquals(expected, smileMapper.readTree(smile));
+        assertEquals(expected, cborMapper.readTree(cbor));
+        assertTrue(smile.length < json.length);
+        assertTrue(cbor.length < json.length);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.exampleproject.configs;
+
+import org.junit.jupiter.api.*;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@code server.compression} settings of the embedded Tomcat
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Tag("ResponseCompression_Tests")
+@DisplayName("ResponseCompression Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ResponseCompressionTest {
+
+    private static final String COMPRESSION = "compression";
+    private static final String GZIP = "gzip";
+    private static final int MIN_RESPONSE_SIZE = 2048;
+
+    // Static Swagger UI page, served by the resource handler with its length
+    private static final String SMALL_RESPONSE_PATH = "/swagger-ui/index.html";
+
+    // Client that does not decompress the body, so the Content-Encoding sent by the server can be checked
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    /**
+     * Method test for the compression of a large JSON response
+     */
+    @Order(1)
+    @Tag(value = COMPRESSION)
+    @DisplayName(COMPRESSION + " - Given a JSON response larger than the minimum size, then should be sent gzipped")
+    @Test
+    void compression_WhenLargeJsonResponse_ThenShouldBeGzipped() throws IOException, InterruptedException {
+        // Act
+        HttpResponse<byte[]> response = get("/v3/api-docs");
+
+        // Assert
+        assertEquals(200, response.statusCode());
+        assertEquals(GZIP, response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null));
+
+        String body = gunzip(response.body());
+        assertTrue(body.length() >= MIN_RESPONSE_SIZE);
+        assertTrue(body.startsWith("{") && body.contains("\"openapi\""));
+    }
+
+    /**
+     * Method test for the compression of a small response with a known length.
+     * <p>
+     * The minimum size is only checked against the {@code Content-Length}, JSON written by Jackson is flushed
+     * without one and is always compressed.
+     */
+    @Order(2)
+    @Tag(value = COMPRESSION)
+    @DisplayName(COMPRESSION + " - Given a response with a Content-Length below the minimum size, " +
+            "then should be sent as is")
+    @Test
+    void compression_WhenSmallResponseWithLength_ThenShouldNotBeGzipped() throws IOException, InterruptedException {
+        // Act
+        HttpResponse<byte[]> response = get(SMALL_RESPONSE_PATH);
+
+        // Assert
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).isEmpty());
+
+        long contentLength = response.headers().firstValueAsLong(HttpHeaders.CONTENT_LENGTH).orElse(-1);
+        assertTrue(contentLength > 0 && contentLength < MIN_RESPONSE_SIZE);
+        assertEquals(contentLength, response.body().length);
+        assertTrue(new String(response.body(), StandardCharsets.UTF_8).contains("<html"));
+    }
+
+    private HttpResponse<byte[]> get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header(HttpHeaders.ACCEPT_ENCODING, GZIP)
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (InputStream input = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.exampleproject.configs.annotations.validators;
+
+import com.example.exampleproject.configs.annotations.Base64FileValidation;
+import com.example.exampleproject.configs.files.Base64FileContent;
+import com.example.exampleproject.configs.files.deserializers.Base64FileContentDeserializer;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.validation.ConstraintValidatorContext;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for class {@link Base64FileContentListValidator}
+ */
+@SpringBootTest
+@Tag("Base64FileContentListValidator_Tests")
+@DisplayName("Base64FileContentListValidator Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ExtendWith(MockitoExtension.class)
+class Base64FileContentListValidatorTest {
+
+    private static final char CSV_DELIMITER = '|';
+    private static final String IS_VALID = "isValid";
+    private static final String VALID_PDF_MIME_TYPE = "application/pdf";
+    private static final String VALID_JPEG_MIME_TYPE = "image/jpeg";
+
+    // Small base64 encoded PDF (just a few bytes)
+    private static final String VALID_SMALL_PDF = "data:application/pdf;base64,JVBERi0xLjAKJeKAow==";
+
+    // Small base64 encoded JPEG (just a few bytes)
+    private static final String VALID_SMALL_JPEG = "data:image/jpeg;base64,/9j/4AAQSkZJRgABAQEAYABgAAD/2wBDAFA=";
+
+    // Invalid base64 format (missing MIME type)
+    private static final String INVALID_FORMAT = "JVBERi0xLjAKJeKAow==";
+
+    // Invalid base64 content (not a valid base64 string)
+    private static final String INVALID_CONTENT = "data:application/pdf;base64,@#$%^&*()";
+
+    // Invalid MIME type (text file content that Tika will detect as text/plain)
+    private static final String INVALID_TYPE =
+            "data:application/invalid;base64,SGVsbG8gV29ybGQhIFRoaXMgaXMgYSB0ZXh0IGZpbGUu";
+
+    private Locale defaultLocale;
+
+    private ConstraintValidatorContext context;
+
+    @InjectMocks
+    private Base64FileContentListValidator base64FileContentListValidator;
+
+    @BeforeEach
+    void setUp() {
+        defaultLocale = LocaleContextHolder.getLocale();
+        context = mock(ConstraintValidatorContext.class);
+        Base64FileValidation base64FileValidation = mock(Base64FileValidation.class);
+        when(base64FileValidation.allowedTypes()).thenReturn(new String[]{VALID_PDF_MIME_TYPE, VALID_JPEG_MIME_TYPE});
+        when(base64FileValidation.maxSizeInMB()).thenReturn(5);
+        when(base64FileValidation.maxFileCount()).thenReturn(3);
+        base64FileContentListValidator.initialize(base64FileValidation);
+    }
+
+    @AfterEach
+    void tearDown() {
+        LocaleContextHolder.setLocale(defaultLocale);
+    }
+
+    /**
+     * Method test for
+     * {@link Base64FileContentListValidator#isValid(List, ConstraintValidatorContext)}
+     */
+    @Order(1)
+    @Tag(value = IS_VALID)
+    @DisplayName(IS_VALID + " - Given a list with valid handles, then should return true")
+    @Test
+    void isValid_WhenValidHandleList_ThenShouldReturnTrue() {
+        // Arrange
+        List<Base64FileContent> validFiles = Arrays.asList(decode(VALID_SMALL_PDF), decode(VALID_SMALL_JPEG), null);
+
+        // Act
+        boolean isValid = base64FileContentListValidator.isValid(validFiles, context);
+
+        // Assert
+        assertTrue(isValid, "isValid should return true for a list with valid handles");
+    }
+
+    /**
+     * Method test for
+     * {@link Base64FileContentListValidator#isValid(List, ConstraintValidatorContext)}
+     */
+    @Order(2)
+    @Tag(value = IS_VALID)
+    @DisplayName(IS_VALID + " - Given a null or empty list, then should return true")
+    @Test
+    void isValid_WhenNullOrEmptyList_ThenShouldReturnTrue() {
+        // Act
+        boolean isValidNull = base64FileContentListValidator.isValid(null, context);
+        boolean isValidEmpty = base64FileContentListValidator.isValid(List.of(), context);
+
+        // Assert
+        assertTrue(isValidNull, "isValid should return true for a null list");
+        assertTrue(isValidEmpty, "isValid should return true for an empty list");
+    }
+
+    /**
+     * Method test for
+     * {@link Base64FileContentListValidator#isValid(List, ConstraintValidatorContext)}
+     */
+    @Order(3)
+    @Tag(value = IS_VALID)
+    @DisplayName(IS_VALID + " - Given a list exceeding max file count, then should return false")
+    @ParameterizedTest(name = "Test {index} => locale={0} | expectedMessage={1}")
+    @CsvSource(value = {
+            "pt_BR|Número máximo de arquivos permitidos para envio é 3.",
+            "en_US|Maximum number of allowed files is 3."
+    }, delimiter = CSV_DELIMITER)
+    void isValid_WhenExceedingMaxFileCount_ThenShouldReturnFalse(String languageTag, String expectedMessage) {
+        assertViolation(languageTag, expectedMessage,
+                VALID_SMALL_PDF, VALID_SMALL_JPEG, VALID_SMALL_PDF, VALID_SMALL_JPEG);
+    }
+
+    /**
+     * Method test for
+     * {@link Base64FileContentListValidator#isValid(List, ConstraintValidatorContext)}
+     */
+    @Order(4)
+    @Tag(value = IS_VALID)
+    @DisplayName(IS_VALID + " - Given a list with identical files, then should return false")
+    @ParameterizedTest(name = "Test {index} => locale={0} | expectedMessage={1}")
+    @CsvSource(value = {
+            "pt_BR|A lista não deve conter arquivos idênticos. Envie apenas arquivos únicos.",
+            "en_US|The list must not contain identical files. Please send only unique files."
+    }, delimiter = CSV_DELIMITER)
+    void isValid_WhenDuplicateFiles_ThenShouldReturnFalse(String languageTag, String expectedMessage) {
+        assertViolation(languageTag, expectedMessage, VALID_SMALL_PDF, VALID_SMALL_JPEG, VALID_SMALL_PDF);
+    }
+
+    /**
+     * Method test for
+     * {@link Base64FileContentListValidator#isValid(List, ConstraintValidatorContext)}
+     */
+    @Order(5)
+    @Tag(value = IS_VALID)
+    @DisplayName(IS_VALID + " - Given a list with an invalid handle, then should report its position")
+    @ParameterizedTest(name = "Test {index} => invalidFile={0} | locale={1} | expectedMessage={2}")
+    @CsvSource(value = {
+            INVALID_FORMAT + "|pt_BR|O 2º item da lista está inválido.",
+            INVALID_FORMAT + "|en_US|The item #2 in the list is invalid.",
+            INVALID_CONTENT + "|en_US|The item #2 in the list is invalid.",
+            INVALID_TYPE + "|en_US|The item #2 in the list is invalid."
+    }, delimiter = CSV_DELIMITER)
+    void isValid_WhenInvalidHandle_ThenShouldReportItsPosition(String invalidFile,
+                                                              String languageTag,
+                                                              String expectedMessage) {
+        assertViolation(languageTag, expectedMessage, VALID_SMALL_PDF, invalidFile);
+    }
+
+    private void assertViolation(String languageTag, String expectedMessage, String... files) {
+        LocaleContextHolder.setLocale(Locale.forLanguageTag(languageTag.replace('_', '-')));
+
+        // Arrange
+        List<Base64FileContent> values = Arrays.stream(files).map(Base64FileContentListValidatorTest::decode).toList();
+        var builder = mock(ConstraintValidatorContext.ConstraintViolationBuilder.class);
+        doNothing().when(context).disableDefaultConstraintViolation();
+        when(context.buildConstraintViolationWithTemplate(anyString())).thenReturn(builder);
+        when(builder.addConstraintViolation()).thenReturn(context);
+
+        // Act
+        boolean isValid = base64FileContentListValidator.isValid(values, context);
+
+        ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+        verify(context, atLeastOnce()).buildConstraintViolationWithTemplate(messageCaptor.capture());
+
+        // Assert
+        assertEquals(expectedMessage, messageCaptor.getValue());
+        assertFalse(isValid, "isValid should return false");
+    }
+
+    private static Base64FileContent decode(String value) {
+        return Base64FileContentDeserializer.decode(value.toCharArray(), 0, value.length());
+    }
+}
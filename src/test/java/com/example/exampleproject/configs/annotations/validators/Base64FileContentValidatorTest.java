@@ -0,0 +1,200 @@
+package com.example.exampleproject.configs.annotations.validators;
+
+import com.example.exampleproject.configs.annotations.Base64FileValidation;
+import com.example.exampleproject.configs.files.Base64FileContent;
+import com.example.exampleproject.configs.files.deserializers.Base64FileContentDeserializer;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.validation.ConstraintValidatorContext;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+import java.util.Base64;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for class {@link Base64FileContentValidator}
+ */
+@SpringBootTest
+@Tag("Base64FileContentValidator_Tests")
+@DisplayName("Base64FileContentValidator Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ExtendWith(MockitoExtension.class)
+class Base64FileContentValidatorTest {
+
+    private static final char CSV_DELIMITER = '|';
+    private static final String IS_VALID = "isValid";
+    private static final String VALID_PDF_MIME_TYPE = "application/pdf";
+    private static final String VALID_JPEG_MIME_TYPE = "image/jpeg";
+
+    // Small base64 encoded PDF (just a few bytes)
+    private static final String VALID_SMALL_PDF = "data:application/pdf;base64,JVBERi0xLjAKJeKAow==";
+
+    // Invalid base64 format (missing MIME type)
+    private static final String INVALID_FORMAT = "JVBERi0xLjAKJeKAow==";
+
+    // Invalid base64 content (not a valid base64 string)
+    private static final String INVALID_CONTENT = "data:application/pdf;base64,@#$%^&*()";
+
+    // Invalid MIME type (text file content that Tika will detect as text/plain)
+    private static final String INVALID_TYPE =
+            "data:application/invalid;base64,SGVsbG8gV29ybGQhIFRoaXMgaXMgYSB0ZXh0IGZpbGUu";
+
+    private Locale defaultLocale;
+
+    private ConstraintValidatorContext context;
+
+    @InjectMocks
+    private Base64FileContentValidator base64FileContentValidator;
+
+    @BeforeEach
+    void setUp() {
+        defaultLocale = LocaleContextHolder.getLocale();
+        context = mock(ConstraintValidatorContext.class);
+        Base64FileValidation base64FileValidation = mock(Base64FileValidation.class);
+        when(base64FileValidation.allowedTypes()).thenReturn(new String[]{VALID_PDF_MIME_TYPE, VALID_JPEG_MIME_TYPE});
+        when(base64FileValidation.maxSizeInMB()).thenReturn(5);
+        base64FileContentValidator.initialize(base64FileValidation);
+    }
+
+    @AfterEach
+    void tearDown() {
+        LocaleContextHolder.setLocale(defaultLocale);
+    }
+
+    /**
+     * Method test for
+     * {@link Base64FileContentValidator#isValid(Base64FileContent, ConstraintValidatorContext)}
+     */
+    @Order(1)
+    @Tag(value = IS_VALID)
+    @DisplayName(IS_VALID + " - Given a valid PDF handle, then should return true")
+    @Test
+    void isValid_WhenValidPdfHandle_ThenShouldReturnTrue() {
+        // Act
+        boolean isValid = base64FileContentValidator.isValid(decode(VALID_SMALL_PDF), context);
+
+        // Assert
+        assertTrue(isValid, "isValid should return true for a valid PDF handle");
+    }
+
+    /**
+     * Method test for
+     * {@link Base64FileContentValidator#isValid(Base64FileContent, ConstraintValidatorContext)}
+     */
+    @Order(2)
+    @Tag(value = IS_VALID)
+    @DisplayName(IS_VALID + " - Given a null or blank value, then should return true")
+    @Test
+    void isValid_WhenNullOrBlankValue_ThenShouldReturnTrue() {
+        // Act
+        boolean isValidNull = base64FileContentValidator.isValid(null, context);
+        boolean isValidBlank = base64FileContentValidator.isValid(decode("  "), context);
+
+        // Assert
+        assertTrue(isValidNull, "isValid should return true for a null value");
+        assertTrue(isValidBlank, "isValid should return true for a blank value");
+    }
+
+    /**
+     * Method test for
+     * {@link Base64FileContentValidator#isValid(Base64FileContent, ConstraintValidatorContext)}
+     */
+    @Order(3)
+    @Tag(value = IS_VALID)
+    @DisplayName(IS_VALID + " - Given an invalid format, then should return false")
+    @ParameterizedTest(name = "Test {index} => locale={0} | expectedMessage={1}")
+    @CsvSource(value = {
+            "pt_BR|Formato de arquivo base64 inválido. Formato esperado: data:[tipo]/[subtipo];base64,[conteúdo]",
+            "en_US|Invalid base64 file format. Expected format: data:[type]/[subtype];base64,[content]"
+    }, delimiter = CSV_DELIMITER)
+    void isValid_WhenInvalidFormat_ThenShouldReturnFalse(String languageTag, String expectedMessage) {
+        assertViolation(languageTag, INVALID_FORMAT, expectedMessage);
+    }
+
+    /**
+     * Method test for
+     * {@link Base64FileContentValidator#isValid(Base64FileContent, ConstraintValidatorContext)}
+     */
+    @Order(4)
+    @Tag(value = IS_VALID)
+    @DisplayName(IS_VALID + " - Given an invalid MIME type, then should return false")
+    @ParameterizedTest(name = "Test {index} => locale={0} | expectedMessage={1}")
+    @CsvSource(value = {
+            "pt_BR|O tipo de arquivo detectado text/plain não é permitido. Tipos esperados: application/pdf, image/jpeg.",
+            "en_US|The file type detected text/plain is not allowed. Expected types: application/pdf, image/jpeg."
+    }, delimiter = CSV_DELIMITER)
+    void isValid_WhenInvalidMimeType_ThenShouldReturnFalse(String languageTag, String expectedMessage) {
+        assertViolation(languageTag, INVALID_TYPE, expectedMessage);
+    }
+
+    /**
+     * Method test for
+     * {@link Base64FileContentValidator#isValid(Base64FileContent, ConstraintValidatorContext)}
+     */
+    @Order(5)
+    @Tag(value = IS_VALID)
+    @DisplayName(IS_VALID + " - Given invalid base64 content, then should return false")
+    @ParameterizedTest(name = "Test {index} => locale={0} | expectedMessage={1}")
+    @CsvSource(value = {
+            "pt_BR|O conteúdo não é um arquivo codificado em base64 válido.",
+            "en_US|The content is not a valid base64-encoded file."
+    }, delimiter = CSV_DELIMITER)
+    void isValid_WhenInvalidBase64Content_ThenShouldReturnFalse(String languageTag, String expectedMessage) {
+        assertViolation(languageTag, INVALID_CONTENT, expectedMessage);
+    }
+
+    /**
+     * Method test for
+     * {@link Base64FileContentValidator#isValid(Base64FileContent, ConstraintValidatorContext)}
+     */
+    @Order(6)
+    @Tag(value = IS_VALID)
+    @DisplayName(IS_VALID + " - Given a file exceeding the size limit, then should return false")
+    @ParameterizedTest(name = "Test {index} => locale={0} | expectedMessage={1}")
+    @CsvSource(value = {
+            "pt_BR|O tamanho do arquivo enviado é de 6,0000 MB, excede o limite permitido de 5 MB.",
+            "en_US|The file size is 6,0000 MB, exceeding the allowed limit of 5 MB."
+    }, delimiter = CSV_DELIMITER)
+    void isValid_WhenFileSizeExceedsLimit_ThenShouldReturnFalse(String languageTag, String expectedMessage) {
+        byte[] largeFile = new byte[6 * 1024 * 1024]; // 6MB
+        String largeBase64 = "data:application/pdf;base64," + Base64.getEncoder().encodeToString(largeFile);
+
+        assertViolation(languageTag, largeBase64, expectedMessage);
+    }
+
+    private void assertViolation(String languageTag, String value, String expectedMessage) {
+        LocaleContextHolder.setLocale(Locale.forLanguageTag(languageTag.replace('_', '-')));
+
+        // Arrange
+        var builder = mock(ConstraintValidatorContext.ConstraintViolationBuilder.class);
+        doNothing().when(context).disableDefaultConstraintViolation();
+        when(context.buildConstraintViolationWithTemplate(anyString())).thenReturn(builder);
+        when(builder.addConstraintViolation()).thenReturn(context);
+
+        // Act
+        boolean isValid = base64FileContentValidator.isValid(decode(value), context);
+
+        ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+        verify(context).buildConstraintViolationWithTemplate(messageCaptor.capture());
+
+        // Assert
+        assertEquals(expectedMessage, messageCaptor.getValue());
+        assertFalse(isValid, "isValid should return false for " + value.substring(0, Math.min(40, value.length())));
+    }
+
+    private static Base64FileContent decode(String value) {
+        char[] chars = (" " + value + " ").toCharArray();
+        return Base64FileContentDeserializer.decode(chars, 1, value.length());
+    }
+}
@@ -73,8 +73,8 @@ class CpfCnpjValidatorTest {
     @DisplayName(IS_VALID + " - Given a valid CPF with formatting, then should return false")
     @ParameterizedTest(name = "Test {index} => locale={0} | expectedMessage={1}")
     @CsvSource(value = {
-            "pt_BR|CPF ou CNPJ deve conter apenas caracteres numéricos, sem formatação ou caracteres especiais.",
-            "en_US|CPF or CNPJ must contain only numeric characters, without formatting or special characters."
+            "pt_BR|CPF deve conter apenas dígitos e CNPJ apenas dígitos e letras maiúsculas, sem formatação ou caracteres especiais.",
+            "en_US|CPF must contain only digits and CNPJ only digits and uppercase letters, without formatting or special characters."
     }, delimiter = CSV_DELIMITER)
     void isValid_WhenValidCpfWithFormatting_ThenShouldReturnFalse(String languageTag, String expectedMessage) {
         LocaleContextHolder.setLocale(Locale.forLanguageTag(languageTag.replace('_', '-')));
@@ -122,8 +122,8 @@ class CpfCnpjValidatorTest {
     @DisplayName(IS_VALID + " - Given a valid CNPJ with formatting, then should return false")
     @ParameterizedTest(name = "Test {index} => locale={0} | expectedMessage={1}")
     @CsvSource(value = {
-            "pt_BR|CPF ou CNPJ deve conter apenas caracteres numéricos, sem formatação ou caracteres especiais.",
-            "en_US|CPF or CNPJ must contain only numeric characters, without formatting or special characters."
+            "pt_BR|CPF deve conter apenas dígitos e CNPJ apenas dígitos e letras maiúsculas, sem formatação ou caracteres especiais.",
+            "en_US|CPF must contain only digits and CNPJ only digits and uppercase letters, without formatting or special characters."
     }, delimiter = CSV_DELIMITER)
     void isValid_WhenValidCnpjWithFormatting_ThenShouldReturnFalse(String languageTag, String expectedMessage) {
         LocaleContextHolder.setLocale(Locale.forLanguageTag(languageTag.replace('_', '-')));
@@ -426,8 +426,8 @@ class CpfCnpjValidatorTest {
     @DisplayName(IS_VALID + " - Given a value with non-numeric characters, then should return false")
     @ParameterizedTest(name = "Test {index} => locale={0} | expectedMessage={1}")
     @CsvSource(value = {
-            "pt_BR|CPF ou CNPJ deve conter apenas caracteres numéricos, sem formatação ou caracteres especiais.",
-            "en_US|CPF or CNPJ must contain only numeric characters, without formatting or special characters."
+            "pt_BR|CPF deve conter apenas dígitos e CNPJ apenas dígitos e letras maiúsculas, sem formatação ou caracteres especiais.",
+            "en_US|CPF must contain only digits and CNPJ only digits and uppercase letters, without formatting or special characters."
     }, delimiter = CSV_DELIMITER)
     void isValid_WhenValueWithNonNumericCharacters_ThenShouldReturnFalse(String languageTag, String expectedMessage) {
         LocaleContextHolder.setLocale(Locale.forLanguageTag(languageTag.replace('_', '-')));
@@ -518,4 +518,59 @@ class CpfCnpjValidatorTest {
         assertEquals(expectedMessage, capturedMessage);
         assertFalse(isValid, "isValid should return false for a CNPJ with invalid check digits");
     }
+
+    /**
+     * Method test for
+     * {@link CpfCnpjValidator#isValid(String, ConstraintValidatorContext)}
+     */
+    @Order(17)
+    @Tag(value = IS_VALID)
+    @DisplayName(IS_VALID + " - Given a valid alphanumeric CNPJ, then should return true")
+    @Test
+    void isValid_WhenValidAlphanumericCnpj_ThenShouldReturnTrue() {
+        // Arrange
+        String alphanumericCnpj = "12ABC34501DE35";
+
+        // Act
+        boolean isValid = cpfCnpjValidator.isValid(alphanumericCnpj, context);
+
+        // Assert
+        assertTrue(isValid, "isValid should return true for a valid alphanumeric CNPJ");
+        verifyNoInteractions(context);
+    }
+
+    /**
+     * Method test for
+     * {@link CpfCnpjValidator#isValid(String, ConstraintValidatorContext)}
+     */
+    @Order(18)
+    @Tag(value = IS_VALID)
+    @DisplayName(IS_VALID + " - Given an alphanumeric CNPJ with invalid check digits, then should return false")
+    @ParameterizedTest(name = "Test {index} => locale={0} | expectedMessage={1}")
+    @CsvSource(value = {
+            "pt_BR|CNPJ inválido. O cálculo dos dígitos verificadores falhou.",
+            "en_US|Invalid CNPJ. Check digit validation failed."
+    }, delimiter = CSV_DELIMITER)
+    void isValid_WhenAlphanumericCnpjWithInvalidCheckDigits_ThenShouldReturnFalse(String languageTag,
+                                                                                   String expectedMessage) {
+        LocaleContextHolder.setLocale(Locale.forLanguageTag(languageTag.replace('_', '-')));
+
+        // Arrange
+        String invalidCheckDigitsCnpj = "12ABC34501DE36";
+        var builder = mock(ConstraintValidatorContext.ConstraintViolationBuilder.class);
+        doNothing().when(context).disableDefaultConstraintViolation();
+        when(context.buildConstraintViolationWithTemplate(anyString())).thenReturn(builder);
+        when(builder.addConstraintViolation()).thenReturn(context);
+
+        // Act
+        boolean isValid = cpfCnpjValidator.isValid(invalidCheckDigitsCnpj, context);
+
+        ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+        verify(context).buildConstraintViolationWithTemplate(messageCaptor.capture());
+        String capturedMessage = messageCaptor.getValue();
+
+        // Assert
+        assertEquals(expectedMessage, capturedMessage);
+        assertFalse(isValid, "isValid should return false for an alphanumeric CNPJ with invalid check digits");
+    }
 }
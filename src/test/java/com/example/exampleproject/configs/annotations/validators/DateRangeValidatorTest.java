@@ -2,6 +2,7 @@ package com.example.exampleproject.configs.annotations.validators;
 
 import com.example.exampleproject.configs.annotations.DateRangeValidation;
 import com.example.exampleproject.utils.MessageUtils;
+import com.example.exampleproject.utils.ProjectTimeService;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,6 +13,7 @@ import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import jakarta.validation.ConstraintValidatorContext;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.i18n.LocaleContextHolder;
 
@@ -64,6 +66,9 @@ class DateRangeValidatorTest {
 
     private ConstraintValidatorContext context;
 
+    @Autowired
+    private ProjectTimeService timeService;
+
     @InjectMocks
     private DateRangeValidator dateRangeValidator;
 
@@ -74,6 +79,7 @@ class DateRangeValidatorTest {
         DateRangeValidation dateRangeValidation = mock(DateRangeValidation.class);
         when(dateRangeValidation.dateAField()).thenReturn("dateA");
         when(dateRangeValidation.dateBField()).thenReturn("dateB");
+        dateRangeValidator.setTimeService(timeService);
         dateRangeValidator.initialize(dateRangeValidation);
 
     }
@@ -0,0 +1,108 @@
+package com.example.exampleproject.configs.annotations.validators.cache;
+
+import com.example.exampleproject.configs.annotations.validators.cache.DateRangePlanCache.DateRangePlan;
+import com.example.exampleproject.dto.request.TestPostRequest;
+import com.example.exampleproject.utils.DateRangeComparator;
+import com.example.exampleproject.utils.ProjectTimeService;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for class {@link DateRangePlanCache}
+ */
+@SpringBootTest
+@Tag("DateRangePlanCache_Tests")
+@DisplayName("DateRangePlanCache Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class DateRangePlanCacheTest {
+
+    private static final String GET = "get";
+
+    private record ExamplePeriod(
+            @JsonProperty("dataInicial") LocalDate start,
+            ZonedDateTime end) {
+    }
+
+    @Autowired
+    private ProjectTimeService timeService;
+
+    /**
+     * Method test for
+     * {@link DateRangePlanCache#get(Class, String, String)}
+     */
+    @Order(1)
+    @Tag(value = GET)
+    @DisplayName(GET + " - Given the same class and fields twice, then should return the same plan")
+    @Test
+    void get_WhenCalledTwice_ThenShouldReturnSamePlan() {
+        // Act
+        DateRangePlan first = DateRangePlanCache.get(ExamplePeriod.class, "start", "end");
+        DateRangePlan second = DateRangePlanCache.get(ExamplePeriod.class, "start", "end");
+
+        // Assert
+        assertSame(first, second);
+    }
+
+    /**
+     * Method test for
+     * {@link DateRangePlanCache#get(Class, String, String)}
+     */
+    @Order(2)
+    @Tag(value = GET)
+    @DisplayName(GET + " - Given a compiled plan, then should read and compare the dates and use the " +
+            "JsonProperty names")
+    @Test
+    void get_WhenPlanCompiled_ThenShouldReadAndCompareDatesAndUseJsonPropertyNames() {
+        // Arrange
+        ZonedDateTime end = ZonedDateTime.parse("2024-12-31T10:15:30-03:00");
+        ExamplePeriod period = new ExamplePeriod(LocalDate.of(2024, 1, 1), end);
+
+        // Act
+        DateRangePlan plan = DateRangePlanCache.get(ExamplePeriod.class, "start", "end");
+
+        // Assert
+        assertEquals("dataInicial", plan.dateA().jsonProperty());
+        assertEquals("end", plan.dateB().jsonProperty());
+        assertEquals(LocalDate.of(2024, 1, 1), plan.dateA().read(period));
+        assertEquals(DateRangeComparator.MIXED, plan.comparator());
+        assertFalse(plan.isAfter(plan.dateA().read(period), plan.dateB().read(period), timeService));
+    }
+
+    /**
+     * Method test for
+     * {@link DateRangePlanCache#get(Class, String, String)}
+     */
+    @Order(3)
+    @Tag(value = GET)
+    @DisplayName(GET + " - Given a missing field, then should throw IllegalArgumentException")
+    @Test
+    void get_WhenFieldMissing_ThenShouldThrow() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> DateRangePlanCache.get(ExamplePeriod.class, "start", "finish"));
+    }
+
+    /**
+     * Method test for
+     * {@link DateRangePlanCache#get(Class, String, String)}
+     */
+    @Order(4)
+    @Tag(value = GET)
+    @DisplayName(GET + " - Given an annotated request class, then should compile its annotated fields")
+    @Test
+    void get_WhenAnnotatedRequestClass_ThenShouldCompileAnnotatedFields() {
+        // Act
+        DateRangePlan plan = DateRangePlanCache.get(TestPostRequest.class, "initialDate", "finalDate");
+
+        // Assert
+        assertEquals("initialDate", plan.dateA().name());
+        assertEquals("finalDate", plan.dateB().name());
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.exampleproject.configs.annotations.validators.cache;
+
+import com.example.exampleproject.configs.annotations.groups.ExpensiveChecks;
+import com.example.exampleproject.configs.files.Base64FileContent;
+import com.example.exampleproject.configs.files.deserializers.Base64FileContentDeserializer;
+import com.example.exampleproject.dto.request.Base64FilesRequest;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for class {@link MimeTypeDetectionCache}
+ */
+@SpringBootTest
+@Tag("MimeTypeDetectionCache_Tests")
+@DisplayName("MimeTypeDetectionCache Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class MimeTypeDetectionCacheTest {
+
+    private static final String DETECT = "detect";
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private MimeTypeDetectionCache sharedMimeTypeDetectionCache;
+
+    private MimeTypeDetectionCache mimeTypeDetectionCache;
+
+    @BeforeEach
+    void setUp() {
+        mimeTypeDetectionCache = new MimeTypeDetectionCache(MimeTypeDetectionCache.DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Method test for
+     * {@link MimeTypeDetectionCache#detect(byte[], int, MimeTypeDetectionCache.Detection)}
+     */
+    @Order(1)
+    @Tag(value = DETECT)
+    @DisplayName(DETECT + " - Given the same content twice, then should run the detection only once")
+    @Test
+    void detect_WhenSameContentTwice_ThenShouldDetectOnce() throws IOException {
+        // Arrange
+        byte[] content = "%PDF-1.4 same content".getBytes(StandardCharsets.US_ASCII);
+        AtomicInteger detections = new AtomicInteger();
+        long hitsBefore = mimeTypeDetectionCache.getHits();
+
+        // Act
+        String first = mimeTypeDetectionCache.detect(content, content.length, () -> {
+            detections.incrementAndGet();
+            return "application/pdf";
+        });
+        String second = mimeTypeDetectionCache.detect(content.clone(), content.length, () -> {
+            detections.incrementAndGet();
+            return "text/plain";
+        });
+
+        // Assert
+        assertEquals("application/pdf", first);
+        assertEquals("application/pdf", second);
+        assertEquals(1, detections.get());
+        assertEquals(hitsBefore + 1, mimeTypeDetectionCache.getHits());
+    }
+
+    /**
+     * Method test for
+     * {@link MimeTypeDetectionCache#detect(byte[], int, MimeTypeDetectionCache.Detection)}
+     */
+    @Order(2)
+    @Tag(value = DETECT)
+    @DisplayName(DETECT + " - Given contents differing only after the detected length, then should share the entry")
+    @Test
+    void detect_WhenContentDiffersAfterLength_ThenShouldShareEntry() throws IOException {
+        // Arrange
+        byte[] contentA = "%PDF-1.4 AAAA".getBytes(StandardCharsets.US_ASCII);
+        byte[] contentB = "%PDF-1.4 BBBB".getBytes(StandardCharsets.US_ASCII);
+        AtomicInteger detections = new AtomicInteger();
+
+        // Act
+        mimeTypeDetectionCache.detect(contentA, 8, () -> {
+            detections.incrementAndGet();
+            return "application/pdf";
+        });
+        mimeTypeDetectionCache.detect(contentB, 8, () -> {
+            detections.incrementAndGet();
+            return "application/pdf";
+        });
+        mimeTypeDetectionCache.detect(contentB, contentB.length, () -> {
+            detections.incrementAndGet();
+            return "application/pdf";
+        });
+
+        // Assert
+        assertEquals(2, detections.get());
+    }
+
+    /**
+     * Method test for
+     * {@link MimeTypeDetectionCache#detect(byte[], int, MimeTypeDetectionCache.Detection)}
+     */
+    @Order(3)
+    @Tag(value = DETECT)
+    @DisplayName(DETECT + " - Given a failing detection, then should not cache anything")
+    @Test
+    void detect_WhenDetectionFails_ThenShouldNotCache() throws IOException {
+        // Arrange
+        byte[] content = "broken".getBytes(StandardCharsets.US_ASCII);
+
+        // Act
+        assertThrows(IOException.class, () -> mimeTypeDetectionCache.detect(content, content.length, () -> {
+            throw new IOException("Detection failed");
+        }));
+        String detected = mimeTypeDetectionCache.detect(content, content.length, () -> "text/plain");
+
+        // Assert
+        assertEquals("text/plain", detected);
+    }
+
+    /**
+     * Method test for
+     * {@link MimeTypeDetectionCache#detect(byte[], int, MimeTypeDetectionCache.Detection)}
+     */
+    @Order(4)
+    @Tag(value = DETECT)
+    @DisplayName(DETECT + " - Given more contents than the maximum entries, then should evict the least recently used")
+    @Test
+    void detect_WhenMaxEntriesExceeded_ThenShouldEvictLeastRecentlyUsed() throws IOException {
+        // Arrange
+        MimeTypeDetectionCache boundedCache = new MimeTypeDetectionCache(2);
+        byte[] contentA = "content A".getBytes(StandardCharsets.US_ASCII);
+        byte[] contentB = "content B".getBytes(StandardCharsets.US_ASCII);
+        byte[] contentC = "content C".getBytes(StandardCharsets.US_ASCII);
+        AtomicInteger detections = new AtomicInteger();
+        MimeTypeDetectionCache.Detection detection = () -> {
+            detections.incrementAndGet();
+            return "text/plain";
+        };
+
+        // Act
+        boundedCache.detect(contentA, contentA.length, detection);
+        boundedCache.detect(contentB, contentB.length, detection);
+        boundedCache.detect(contentA, contentA.length, detection);
+        boundedCache.detect(contentC, contentC.length, detection);
+        boundedCache.detect(contentA, contentA.length, detection);
+        boundedCache.detect(contentB, contentB.length, detection);
+
+        // Assert
+        assertEquals(2, boundedCache.size());
+        assertEquals(4, detections.get());
+        assertEquals(2, boundedCache.getHits());
+    }
+
+    /**
+     * Method test for
+     * {@link MimeTypeDetectionCache#detect(byte[], int, MimeTypeDetectionCache.Detection)}
+     */
+    @Order(5)
+    @Tag(value = DETECT)
+    @DisplayName(DETECT + " - Given a cache without entries, then should run the detection every time")
+    @Test
+    void detect_WhenCacheDisabled_ThenShouldDetectEveryTime() throws IOException {
+        // Arrange
+        MimeTypeDetectionCache disabledCache = new MimeTypeDetectionCache(0);
+        byte[] content = "%PDF-1.4 same content".getBytes(StandardCharsets.US_ASCII);
+        AtomicInteger detections = new AtomicInteger();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            disabledCache.detect(content, content.length, () -> {
+                detections.incrementAndGet();
+                return "application/pdf";
+            });
+        }
+
+        // Assert
+        assertEquals(3, detections.get());
+        assertEquals(0, disabledCache.size());
+    }
+
+    /**
+     * Method test for
+     * {@link MimeTypeDetectionCache#detect(byte[], int, MimeTypeDetectionCache.Detection)}
+     */
+    @Order(6)
+    @Tag(value = DETECT)
+    @DisplayName(DETECT + " - Given validators created by Spring, then should detect through the injected cache")
+    @Test
+    void detect_WhenValidatorsCreatedBySpring_ThenShouldUseInjectedCache() {
+        // Arrange
+        String text = "Plain text content " + UUID.randomUUID();
+        String file = "data:text/plain;base64," +
+                Base64.getEncoder().encodeToString(text.getBytes(StandardCharsets.US_ASCII));
+        Base64FileContent content = Base64FileContentDeserializer.decode(file.toCharArray(), 0, file.length());
+        Base64FilesRequest request = new Base64FilesRequest(List.of(content));
+        long missesBefore = sharedMimeTypeDetectionCache.getMisses();
+        long hitsBefore = sharedMimeTypeDetectionCache.getHits();
+
+        // Act
+        int firstViolations = validator.validate(request, ExpensiveChecks.class).size();
+        int secondViolations = validator.validate(request, ExpensiveChecks.class).size();
+
+        // Assert
+        assertEquals(0, firstViolations);
+        assertEquals(0, secondViolations);
+        assertEquals(missesBefore + 1, sharedMimeTypeDetectionCache.getMisses());
+        assertEquals(hitsBefore + 1, sharedMimeTypeDetectionCache.getHits());
+    }
+}
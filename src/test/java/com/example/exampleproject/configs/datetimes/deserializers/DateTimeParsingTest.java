@@ -0,0 +1,150 @@
+package com.example.exampleproject.configs.datetimes.deserializers;
+
+import com.example.exampleproject.configs.exceptions.custom.BusinessException;
+import com.example.exampleproject.dto.request.TestPostRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Tag(value = "DateTimeParsing_Tests")
+@DisplayName("DateTimeParsing Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class DateTimeParsingTest {
+
+    private static final String PARSE_OR_NULL = "parseOrNull";
+
+    private static final String INVALID_FORMAT = "invalidFormat";
+
+    private static final DateTimeFormatter ZONED_DATE_TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+
+    private static final String INVALID_DATE_TIME_REQUEST = "{\"dataInicial\":\"2024-13-45 10:00:00\"}";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    /**
+     * Method test for
+     * {@link DateTimeParsing#parseOrNull(DateTimeFormatter, String, java.time.temporal.TemporalQuery)}
+     */
+    @Order(1)
+    @Tag(value = PARSE_OR_NULL)
+    @DisplayName(PARSE_OR_NULL + " - Given valid and invalid values, then should accept the values the formatter " +
+            "accepts")
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-02-29T23:59:59.123+18:00", "2024-02-30T10:00:00.000Z", "2024-13-01T10:00:00.000Z",
+            "2024-01-01T24:00:00.000Z", "2024-01-01T24:30:00.000Z", "2024-01-01T10:00:00.000+18:01",
+            "2024-01-01T10:00:00.000+10:70", "2024-01-01T10:00:00.000+30:00", "2024-01-01 10:00:00", "", "2024"})
+    void parseOrNull_WhenValues_ThenShouldAcceptAsFormatter(String text) {
+        // Arrange
+        ZonedDateTime expected;
+        try {
+            expected = ZonedDateTime.parse(text, ZONED_DATE_TIME_FORMATTER);
+        } catch (DateTimeParseException e) {
+            expected = null;
+        }
+
+        // Act
+        ZonedDateTime parsed = DateTimeParsing.parseOrNull(ZONED_DATE_TIME_FORMATTER, text, ZonedDateTime::from);
+
+        // Assert
+        assertEquals(expected, parsed);
+    }
+
+    /**
+     * Method test for
+     * {@link DateTimeParsing#invalidFormat(com.fasterxml.jackson.core.JsonParser, String, String)}
+     */
+    @Order(2)
+    @Tag(value = INVALID_FORMAT)
+    @DisplayName(INVALID_FORMAT + " - Given invalid values, then should throw a business exception without stack " +
+            "trace")
+    @Test
+    void invalidFormat_WhenInvalidValues_ThenShouldThrowStacklessBusinessException() {
+        // Arrange
+        String invalidTime = "\"25:61:00\"";
+        String invalidDateTime = "\"2024-13-45 10:00:00\"";
+        String invalidDate = "\"not a date\"";
+
+        // Act
+        BusinessException timeException = assertThrows(BusinessException.class,
+                () -> objectMapper.readValue(invalidTime, LocalTime.class));
+        BusinessException dateTimeException = assertThrows(BusinessException.class,
+                () -> objectMapper.readValue(invalidDateTime, LocalDateTime.class));
+        BusinessException dateException = assertThrows(BusinessException.class,
+                () -> objectMapper.readValue(invalidDate, Date.class));
+
+        // Assert
+        for (BusinessException exception : new BusinessException[]{timeException, dateTimeException, dateException}) {
+            assertEquals(0, exception.getStackTrace().length);
+        }
+        assertTrue(timeException.getMessage().contains("25:61:00"));
+        assertTrue(timeException.getMessage().contains("HH:mm:ss"));
+        assertTrue(dateTimeException.getMessage().contains("2024-13-45 10:00:00"));
+        assertTrue(dateException.getMessage().contains("not a date"));
+    }
+
+    /**
+     * Method test for
+     * {@link DateTimeParsing#invalidFormat(com.fasterxml.jackson.core.JsonParser, String, String)}
+     */
+    @Order(3)
+    @Tag(value = INVALID_FORMAT)
+    @DisplayName(INVALID_FORMAT + " - Given an invalid property of a request, then should throw the business " +
+            "exception without wrapping it")
+    @Test
+    void invalidFormat_WhenInvalidRequestProperty_ThenShouldThrowUnwrappedBusinessException() {
+        // Act
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> objectMapper.readValue(INVALID_DATE_TIME_REQUEST, TestPostRequest.class));
+
+        // Assert
+        assertEquals(0, exception.getStackTrace().length);
+        assertNull(exception.getCause());
+        assertTrue(exception.getMessage().contains("2024-13-45 10:00:00"));
+    }
+
+    /**
+     * Method test for
+     * {@link DateTimeParsing#invalidFormat(com.fasterxml.jackson.core.JsonParser, String, String)}
+     */
+    @Order(4)
+    @Tag(value = INVALID_FORMAT)
+    @DisplayName(INVALID_FORMAT + " - Given an invalid date in a request body, then should respond with bad request " +
+            "and the business message")
+    @Test
+    void invalidFormat_WhenInvalidDateInRequestBody_ThenShouldRespondBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/create/123")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.ACCEPT_LANGUAGE, "en-US")
+                        .content(INVALID_DATE_TIME_REQUEST))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("2024-13-45 10:00:00")));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.exampleproject.configs.datetimes.serializers;
+
+import com.example.exampleproject.utils.DateUtils;
+import com.example.exampleproject.utils.ProjectTimeService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.*;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.text.SimpleDateFormat;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for class {@link CustomDateSerializer}
+ */
+@SpringBootTest
+@Tag("CustomDateSerializer_Tests")
+@DisplayName("CustomDateSerializer Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CustomDateSerializerTest {
+
+    private static final String SERIALIZE = "serialize";
+
+    /**
+     * Method test for
+     * {@link CustomDateSerializer#serialize(Date, JsonGenerator, SerializerProvider)}
+     */
+    @Order(1)
+    @Tag(value = SERIALIZE)
+    @DisplayName(SERIALIZE + " - Given dates around midnight and in old years, then should write the formatter text")
+    @Test
+    void serialize_WhenDatesAroundMidnightAndOldYears_ThenShouldWriteFormatterText() throws JsonProcessingException {
+        // Arrange
+        ZoneId zoneId = ZoneId.of("America/Sao_Paulo");
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(Date.class, new CustomDateSerializer(new ProjectTimeService(zoneId, Clock.systemUTC())));
+        ObjectMapper mapper = new ObjectMapper().registerModule(module);
+
+        SimpleDateFormat formatter = new SimpleDateFormat(DateUtils.DATE_SERIALIZER_FORMAT);
+        formatter.setTimeZone(TimeZone.getTimeZone(zoneId));
+
+        long[] starts = {
+                Instant.parse("2024-05-02T02:00:00Z").toEpochMilli(),
+                Instant.parse("1850-03-01T02:00:00Z").toEpochMilli(),
+                Instant.parse("1500-03-01T02:00:00Z").toEpochMilli()
+        };
+
+        // Act & Assert
+        for (long start : starts) {
+            for (int i = 0; i < 180; i++) {
+                Date value = new Date(start + i * 59_000L);
+                assertEquals("\"" + formatter.format(value) + "\"", mapper.writeValueAsString(value));
+            }
+        }
+    }
+}
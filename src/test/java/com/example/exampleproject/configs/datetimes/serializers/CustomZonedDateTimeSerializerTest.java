@@ -0,0 +1,117 @@
+package com.example.exampleproject.configs.datetimes.serializers;
+
+import com.example.exampleproject.utils.DateUtils;
+import com.example.exampleproject.utils.ProjectTimeService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.*;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for class {@link CustomZonedDateTimeSerializer}
+ */
+@SpringBootTest
+@Tag("CustomZonedDateTimeSerializer_Tests")
+@DisplayName("CustomZonedDateTimeSerializer Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CustomZonedDateTimeSerializerTest {
+
+    private static final String SERIALIZE = "serialize";
+
+    private static final DateTimeFormatter FORMATTER = new DateTimeFormatterBuilder()
+            .appendPattern(DateUtils.ZONED_DATE_TIME_SERIALIZER_FORMAT)
+            .appendLiteral(' ')
+            .appendZoneId()
+            .toFormatter();
+
+    /**
+     * Method test for
+     * {@link CustomZonedDateTimeSerializer#serialize(ZonedDateTime, JsonGenerator, SerializerProvider)}
+     */
+    @Order(1)
+    @Tag(value = SERIALIZE)
+    @DisplayName(SERIALIZE + " - Given instants in and across cached hours, then should write the formatter text")
+    @Test
+    void serialize_WhenInstantsInAndAcrossHours_ThenShouldWriteFormatterText() throws JsonProcessingException {
+        // Arrange
+        ZoneId zoneId = ZoneId.of("America/Sao_Paulo");
+        ObjectMapper mapper = createMapper(zoneId);
+        Instant start = Instant.parse("2024-05-01T13:58:59.987Z");
+
+        // Act & Assert
+        for (int i = 0; i < 500; i++) {
+            ZonedDateTime value = start.plusMillis(i * 7_919L).atZone(ZoneId.of("UTC"));
+            assertEquals(expected(value, zoneId), mapper.writeValueAsString(value));
+        }
+    }
+
+    /**
+     * Method test for
+     * {@link CustomZonedDateTimeSerializer#serialize(ZonedDateTime, JsonGenerator, SerializerProvider)}
+     */
+    @Order(2)
+    @Tag(value = SERIALIZE)
+    @DisplayName(SERIALIZE + " - Given instants around an offset transition, then should write the formatter text")
+    @Test
+    void serialize_WhenOffsetTransition_ThenShouldWriteFormatterText() throws JsonProcessingException {
+        // Arrange
+        ZoneId zoneId = ZoneId.of("America/Sao_Paulo");
+        ObjectMapper mapper = createMapper(zoneId);
+        Instant start = Instant.parse("2018-11-04T01:30:00Z");
+
+        // Act & Assert
+        for (int i = 0; i < 240; i++) {
+            ZonedDateTime value = start.plusSeconds(i * 60L).atZone(zoneId);
+            assertEquals(expected(value, zoneId), mapper.writeValueAsString(value));
+        }
+    }
+
+    /**
+     * Method test for
+     * {@link CustomZonedDateTimeSerializer#serialize(ZonedDateTime, JsonGenerator, SerializerProvider)}
+     */
+    @Order(3)
+    @Tag(value = SERIALIZE)
+    @DisplayName(SERIALIZE + " - Given fixed offset zones and extreme years, then should write the formatter text")
+    @Test
+    void serialize_WhenFixedOffsetsAndExtremeYears_ThenShouldWriteFormatterText() throws JsonProcessingException {
+        // Arrange
+        ZonedDateTime[] values = {
+                ZonedDateTime.parse("2024-05-01T10:15:30.123Z"),
+                ZonedDateTime.parse("0001-01-01T00:00:00.001Z"),
+                ZonedDateTime.parse("+10000-01-01T00:00:00Z")
+        };
+
+        // Act & Assert
+        for (String zone : new String[]{"UTC", "Z", "-03:00", "Asia/Kathmandu"}) {
+            ZoneId zoneId = ZoneId.of(zone);
+            ObjectMapper mapper = createMapper(zoneId);
+            for (ZonedDateTime value : values) {
+                assertEquals(expected(value, zoneId), mapper.writeValueAsString(value));
+            }
+        }
+    }
+
+    private ObjectMapper createMapper(ZoneId zoneId) {
+        SimpleModule module = new SimpleModule();
+        ProjectTimeService timeService = new ProjectTimeService(zoneId, Clock.systemUTC());
+        module.addSerializer(ZonedDateTime.class, new CustomZonedDateTimeSerializer(timeService));
+        return new ObjectMapper().registerModule(module);
+    }
+
+    private String expected(ZonedDateTime value, ZoneId zoneId) {
+        return "\"" + value.withZoneSameInstant(zoneId).format(FORMATTER) + "\"";
+    }
+}
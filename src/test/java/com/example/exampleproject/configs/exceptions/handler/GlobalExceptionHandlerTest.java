@@ -5,14 +5,17 @@ import com.example.exampleproject.configs.exceptions.BaseError;
 import com.example.exampleproject.configs.exceptions.ErrorMultipleResponse;
 import com.example.exampleproject.configs.exceptions.ErrorSingleResponse;
 import com.example.exampleproject.configs.exceptions.custom.DataIntegrityViolationException;
+import com.example.exampleproject.configs.exceptions.custom.TooManyRequestsException;
 import com.example.exampleproject.configs.exceptions.custom.UnauthorizedException;
 import com.example.exampleproject.configs.exceptions.handler.helper.ExceptionHandlerMessageHelper;
+import com.example.exampleproject.utils.ProjectTimeService;
 import feign.FeignException;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
@@ -24,6 +27,8 @@ import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import java.nio.file.AccessDeniedException;
+import java.time.Clock;
+import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeoutException;
@@ -72,9 +77,14 @@ class GlobalExceptionHandlerTest {
 
     private static final String HANDLE_MAX_UPLOAD_SIZE_EXCEEDED_EXCEPTION = "handleMaxUploadSizeExceededException";
 
+    private static final String HANDLE_TOO_MANY_REQUESTS_EXCEPTION = "handleTooManyRequestsException";
+
     record HandlerConfig(Function<FeignException, ?> function, boolean returnsString) {
     }
 
+    @Spy
+    private ProjectTimeService timeService = new ProjectTimeService(ZoneId.of("UTC"), Clock.systemUTC());
+
     @InjectMocks
     private GlobalExceptionHandler exceptionHandler;
 
@@ -608,9 +618,42 @@ class GlobalExceptionHandlerTest {
                 Arguments.of(413, HttpStatus.PAYLOAD_TOO_LARGE, "Custom payload too large message",
                         new HandlerConfig(ExceptionHandlerMessageHelper::getMaxUploadSizeExceededException, true)),
                 Arguments.of(503, HttpStatus.SERVICE_UNAVAILABLE, "Custom service unavailable message",
-                        new HandlerConfig(ExceptionHandlerMessageHelper::getServiceUnavailableMessage, true))
+                        new HandlerConfig(ExceptionHandlerMessageHelper::getServiceUnavailableMessage, true)),
+                Arguments.of(429, HttpStatus.TOO_MANY_REQUESTS, "Custom too many requests message",
+                        new HandlerConfig(ExceptionHandlerMessageHelper::getTooManyRequestsMessage, true))
         );
     }
 
+    /**
+     * Method test for
+     * {@link GlobalExceptionHandler#handleTooManyRequestsException(Exception, WebRequest)}
+     */
+    @Order(15)
+    @Tag(value = HANDLE_TOO_MANY_REQUESTS_EXCEPTION)
+    @DisplayName(HANDLE_TOO_MANY_REQUESTS_EXCEPTION + " - When TooManyRequestsException is thrown then return " +
+            "too many requests status")
+    @Test
+    void testHandleTooManyRequestsException() {
+        TooManyRequestsException ex = new TooManyRequestsException("Queue is full");
+        WebRequest request = mock(WebRequest.class);
+        when(request.getDescription(false)).thenReturn("/test/path");
+
+        try (var mockedStatic = mockStatic(ExceptionHandlerMessageHelper.class)) {
+            mockedStatic.when(() -> ExceptionHandlerMessageHelper.getTooManyRequestsMessage(ex))
+                    .thenReturn("Custom too many requests message");
+
+            ResponseEntity<ErrorSingleResponse> responseEntity =
+                    exceptionHandler.handleTooManyRequestsException(ex, request);
+
+            assertNotNull(responseEntity);
+            assertEquals(HttpStatus.TOO_MANY_REQUESTS, responseEntity.getStatusCode());
+            ErrorSingleResponse errorSingleResponse = responseEntity.getBody();
+            assertNotNull(errorSingleResponse);
+            assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), errorSingleResponse.status());
+            assertEquals(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(), errorSingleResponse.error());
+            assertEquals("Custom too many requests message", errorSingleResponse.message());
+        }
+    }
+
 
 }
@@ -75,6 +75,8 @@ class ExceptionHandlerMessageHelperTest {
 
     private static final String GET_SERVICE_UNAVAILABLE_MESSAGE = "getServiceUnavailableMessage";
 
+    private static final String GET_TOO_MANY_REQUESTS_MESSAGE = "getTooManyRequestsMessage";
+
     private static final char CSV_DELIMITER = '|';
 
     private Locale defaultLocale;
@@ -1569,6 +1571,30 @@ class ExceptionHandlerMessageHelperTest {
                         "for the locale " + languageTag + ".");
     }
 
+    /**
+     * Method test for
+     * {@link ExceptionHandlerMessageHelper#getTooManyRequestsMessage(Exception)}
+     */
+    @Order(43)
+    @Tag(value = GET_TOO_MANY_REQUESTS_MESSAGE)
+    @DisplayName(GET_TOO_MANY_REQUESTS_MESSAGE + " - with default message")
+    @ParameterizedTest(name = "Test {index} => locale={0} | expectedMessage={1}")
+    @CsvSource(value = {
+            "pt_BR|Muitas requisições. Tente novamente mais tarde.",
+            "en_US|Too many requests. Please try again later."
+    }, delimiter = CSV_DELIMITER)
+    void getTooManyRequestsMessage_WithDefaultMessage(String languageTag, String expectedMessage) {
+        LocaleContextHolder.setLocale(Locale.forLanguageTag(languageTag.replace('_', '-')));
+
+        // Act
+        String result = ExceptionHandlerMessageHelper.getTooManyRequestsMessage(new Exception());
+
+        // Assert
+        assertEquals(expectedMessage, result,
+                "Checks if the default too many requests message is returned correctly " +
+                        "for the locale " + languageTag + ".");
+    }
+
 
     /**
      * Mocks the specified annotation on a given method parameter.
@@ -0,0 +1,170 @@
+package com.example.exampleproject.configs.files.deserializers;
+
+import com.example.exampleproject.configs.files.Base64FileContent;
+import com.example.exampleproject.dto.request.Base64FilesRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for class {@link Base64FileContentDeserializer}
+ */
+@SpringBootTest
+@Tag("Base64FileContentDeserializer_Tests")
+@DisplayName("Base64FileContentDeserializer Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class Base64FileContentDeserializerTest {
+
+    private static final String DECODE = "decode";
+    private static final String DESERIALIZE = "deserialize";
+    private static final String PDF_MIME_TYPE = "application/pdf";
+    private static final String PDF_PREFIX = "data:application/pdf;base64,";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Method test for
+     * {@link Base64FileContentDeserializer#decode(char[], int, int)}
+     */
+    @Order(1)
+    @Tag(value = DECODE)
+    @DisplayName(DECODE + " - Given a payload spanning several decoding chunks, then should keep the exact bytes")
+    @ParameterizedTest(name = "Test {index} => size={0}")
+    @CsvSource(value = {"0", "1", "2", "3", "6144", "6145", "100000"})
+    void decode_WhenPayloadSpansSeveralChunks_ThenShouldKeepExactBytes(int size) {
+        // Arrange
+        byte[] original = new byte[size];
+        new Random(size).nextBytes(original);
+        String padded = PDF_PREFIX + Base64.getEncoder().encodeToString(original);
+        String unpadded = PDF_PREFIX + Base64.getEncoder().withoutPadding().encodeToString(original);
+
+        // Act
+        Base64FileContent paddedContent = decode(padded);
+        Base64FileContent unpaddedContent = decode(unpadded);
+
+        // Assert
+        assertTrue(paddedContent.isValid());
+        assertTrue(unpaddedContent.isValid());
+        assertEquals(PDF_MIME_TYPE, paddedContent.getDeclaredMimeType());
+        assertArrayEquals(original, paddedContent.getBytes());
+        assertArrayEquals(original, unpaddedContent.getBytes());
+    }
+
+    /**
+     * Method test for
+     * {@link Base64FileContentDeserializer#decode(char[], int, int)}
+     */
+    @Order(2)
+    @Tag(value = DECODE)
+    @DisplayName(DECODE + " - Given a malformed data URI, then should return a handle with the invalid format status")
+    @ParameterizedTest(name = "Test {index} => value={0}")
+    @CsvSource(value = {
+            "JVBERi0xLjAKJeKAow==",
+            "data:application/pdf,JVBERi0xLjAKJeKAow==",
+            "data:application;base64,JVBERi0xLjAKJeKAow==",
+            "data:application/pdf;charset=utf-8;base64,JVBERi0xLjAKJeKAow==",
+            "' data:application/pdf;base64,JVBERi0xLjAKJeKAow=='",
+            "data:application/pdf;base64"
+    })
+    void decode_WhenMalformedDataUri_ThenShouldReturnInvalidFormat(String value) {
+        // Act
+        Base64FileContent content = decode(value);
+
+        // Assert
+        assertEquals(Base64FileContent.Status.INVALID_FORMAT, content.getStatus());
+        assertNull(content.getDeclaredMimeType());
+        assertEquals(0, content.getSize());
+    }
+
+    /**
+     * Method test for
+     * {@link Base64FileContentDeserializer#decode(char[], int, int)}
+     */
+    @Order(3)
+    @Tag(value = DECODE)
+    @DisplayName(DECODE + " - Given an invalid Base64 payload, then should return a handle with the invalid content " +
+            "status")
+    @ParameterizedTest(name = "Test {index} => payload={0}")
+    @CsvSource(value = {"@#$%^&*()", "JVBERi0x LjAK", "JVBERi0xLjAKJeKAow=A", "JVBERi0xLjAKJeKAo=", "J", "JV-_",
+            "JVBE=", "JVBE=="})
+    void decode_WhenInvalidBase64Payload_ThenShouldReturnInvalidContent(String payload) {
+        // Act
+        Base64FileContent content = decode(PDF_PREFIX + payload);
+
+        // Assert
+        assertEquals(Base64FileContent.Status.INVALID_CONTENT, content.getStatus());
+        assertEquals(PDF_MIME_TYPE, content.getDeclaredMimeType());
+        assertEquals(0, content.getSize());
+    }
+
+    /**
+     * Method test for
+     * {@link Base64FileContentDeserializer#deserialize}
+     */
+    @Order(4)
+    @Tag(value = DESERIALIZE)
+    @DisplayName(DESERIALIZE + " - Given a request body read with the project mapper, then should decode each file")
+    @Test
+    void deserialize_WhenRequestBodyReadWithProjectMapper_ThenShouldDecodeEachFile() throws IOException {
+        // Arrange
+        byte[] large = new byte[3 * 1024 * 1024 + 1];
+        new Random(42).nextBytes(large);
+        String json = "{\"arquivos\":[" +
+                "\"" + PDF_PREFIX + Base64.getEncoder().encodeToString(large) + "\"," +
+                "\"" + PDF_PREFIX + "@#$%\"," +
+                "\"invalid\"," +
+                "\"  \"," +
+                "null]}";
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        Base64FilesRequest fromStream =
+                objectMapper.readValue(new ByteArrayInputStream(body), Base64FilesRequest.class);
+        Base64FilesRequest fromString = objectMapper.readValue(json, Base64FilesRequest.class);
+
+        // Assert
+        for (Base64FilesRequest request : new Base64FilesRequest[]{fromStream, fromString}) {
+            assertEquals(5, request.files().size());
+            assertTrue(request.files().get(0).isValid());
+            assertArrayEquals(large, request.files().get(0).getBytes());
+            assertEquals(Base64FileContent.Status.INVALID_CONTENT, request.files().get(1).getStatus());
+            assertEquals(Base64FileContent.Status.INVALID_FORMAT, request.files().get(2).getStatus());
+            assertNull(request.files().get(3));
+            assertNull(request.files().get(4));
+        }
+    }
+
+    /**
+     * Method test for
+     * {@link Base64FileContentDeserializer#deserialize}
+     */
+    @Order(5)
+    @Tag(value = DESERIALIZE)
+    @DisplayName(DESERIALIZE + " - Given a value that is not a string, then should throw MismatchedInputException")
+    @Test
+    void deserialize_WhenValueIsNotString_ThenShouldThrowMismatchedInputException() {
+        // Arrange
+        String json = "{\"arquivos\":[{\"content\":\"JVBERi0xLjAKJeKAow==\"}]}";
+
+        // Act & Assert
+        assertThrows(MismatchedInputException.class, () -> objectMapper.readValue(json, Base64FilesRequest.class));
+    }
+
+    private static Base64FileContent decode(String value) {
+        char[] chars = (" " + value + " ").toCharArray();
+        return Base64FileContentDeserializer.decode(chars, 1, value.length());
+    }
+}
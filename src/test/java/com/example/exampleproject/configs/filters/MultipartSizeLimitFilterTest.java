@@ -0,0 +1,186 @@
+package com.example.exampleproject.configs.filters;
+
+import com.example.exampleproject.configs.annotations.MultipartFileValidation;
+import com.example.exampleproject.configs.exceptions.custom.PayloadTooLargeException;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for class {@link MultipartSizeLimitFilter}
+ */
+@SpringBootTest
+@Tag(value = "MultipartSizeLimitFilter_Tests")
+@DisplayName("MultipartSizeLimitFilter Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class MultipartSizeLimitFilterTest {
+
+    private static final String DO_FILTER = "doFilter";
+
+    private static final int ONE_MB = 1024 * 1024;
+
+    @Autowired
+    private MultipartSizeLimitFilter filter;
+
+    private static MockHttpServletRequest createMultipartRequest(String uri, int contentLength) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setContentType("multipart/form-data; boundary=example-boundary");
+        request.addHeader(HttpHeaders.ACCEPT_LANGUAGE, "en-US");
+        request.setContent(new byte[contentLength]);
+        return request;
+    }
+
+    /**
+     * Method test for
+     * {@link MultipartSizeLimitFilter#doFilter(jakarta.servlet.ServletRequest, jakarta.servlet.ServletResponse,
+     * jakarta.servlet.FilterChain)}
+     */
+    @Order(1)
+    @Tag(value = DO_FILTER)
+    @DisplayName(DO_FILTER + " - Given a request within the endpoint limit, then should continue the chain")
+    @Test
+    void doFilter_WhenWithinEndpointLimit_ThenShouldContinueChain() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = createMultipartRequest("/api/files/upload-details", ONE_MB);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertSame(request, chain.getRequest());
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+    }
+
+    /**
+     * Method test for
+     * {@link MultipartSizeLimitFilter#doFilter(jakarta.servlet.ServletRequest, jakarta.servlet.ServletResponse,
+     * jakarta.servlet.FilterChain)}
+     */
+    @Order(2)
+    @Tag(value = DO_FILTER)
+    @DisplayName(DO_FILTER + " - Given a request above the endpoint limit, then should answer 413 without " +
+            "continuing the chain")
+    @Test
+    void doFilter_WhenAboveEndpointLimit_ThenShouldRejectWithPayloadTooLarge() throws Exception {
+        // Arrange
+        // upload-details accepts one file of 5MB plus the default 1MB request overhead
+        MockHttpServletRequest request = createMultipartRequest("/api/files/upload-details", 7 * ONE_MB);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertNull(chain.getRequest());
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE.value(), response.getStatus());
+        assertTrue(response.getContentAsString().contains("exceeds the limit"));
+    }
+
+    /**
+     * Method test for
+     * {@link MultipartSizeLimitFilter#doFilter(jakarta.servlet.ServletRequest, jakarta.servlet.ServletResponse,
+     * jakarta.servlet.FilterChain)}
+     */
+    @Order(3)
+    @Tag(value = DO_FILTER)
+    @DisplayName(DO_FILTER + " - Given a list endpoint, then should multiply the file limit by the file count")
+    @Test
+    void doFilter_WhenListEndpoint_ThenShouldAllowMaxFileCountFiles() throws Exception {
+        // Arrange
+        // upload-multiple-list accepts three files of 5MB each
+        MockHttpServletRequest request = createMultipartRequest("/api/files/upload-multiple-list", 12 * ONE_MB);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertSame(request, chain.getRequest());
+    }
+
+    /**
+     * Method test for
+     * {@link MultipartSizeLimitFilter#doFilter(jakarta.servlet.ServletRequest, jakarta.servlet.ServletResponse,
+     * jakarta.servlet.FilterChain)}
+     */
+    @Order(4)
+    @Tag(value = DO_FILTER)
+    @DisplayName(DO_FILTER + " - Given an unmapped path, then should leave the request to the dispatcher")
+    @Test
+    void doFilter_WhenNoHandler_ThenShouldContinueChain() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = createMultipartRequest("/api/unknown", 7 * ONE_MB);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertSame(request, chain.getRequest());
+    }
+
+    /**
+     * Method test for
+     * {@link MultipartSizeLimitFilter#doFilter(jakarta.servlet.ServletRequest, jakarta.servlet.ServletResponse,
+     * jakarta.servlet.FilterChain)}
+     */
+    @Order(5)
+    @Tag(value = DO_FILTER)
+    @DisplayName(DO_FILTER + " - Given a non-positive maxSizeInMB, then should apply the validators' default size")
+    @Test
+    void doFilter_WhenNonPositiveMaxSize_ThenShouldApplyValidatorDefault() throws Exception {
+        // Arrange
+        RequestMappingHandlerMapping handlerMapping = mock(RequestMappingHandlerMapping.class);
+        HandlerExceptionResolver handlerExceptionResolver = mock(HandlerExceptionResolver.class);
+        HandlerMethod handlerMethod = new HandlerMethod(new UnsizedUploadHandler(),
+                UnsizedUploadHandler.class.getMethod("upload", MultipartFile.class));
+        when(handlerMapping.getHandler(any())).thenReturn(new HandlerExecutionChain(handlerMethod));
+        MultipartSizeLimitFilter unsizedFilter = new MultipartSizeLimitFilter(handlerMapping,
+                handlerExceptionResolver, new AcceptHeaderLocaleResolver(), DataSize.ofMegabytes(1));
+
+        // maxSizeInMB = 0 falls back to the 2MB default of the validators, plus 1MB of request overhead
+        MockHttpServletRequest within = createMultipartRequest("/unsized-upload", 3 * ONE_MB);
+        MockHttpServletRequest above = createMultipartRequest("/unsized-upload", 3 * ONE_MB + 1);
+        MockFilterChain withinChain = new MockFilterChain();
+        MockFilterChain aboveChain = new MockFilterChain();
+
+        // Act
+        unsizedFilter.doFilter(within, new MockHttpServletResponse(), withinChain);
+        unsizedFilter.doFilter(above, new MockHttpServletResponse(), aboveChain);
+
+        // Assert
+        assertSame(within, withinChain.getRequest());
+        assertNull(aboveChain.getRequest());
+        verify(handlerExceptionResolver).resolveException(eq(above), any(), eq(handlerMethod),
+                any(PayloadTooLargeException.class));
+    }
+
+    static class UnsizedUploadHandler {
+
+        public void upload(@MultipartFileValidation(maxSizeInMB = 0) MultipartFile file) {
+            // Handler signature only, read by the filter
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.exampleproject.configs.json;
+
+import com.example.exampleproject.clients.models.Address;
+import com.example.exampleproject.clients.models.JsonPlaceholderPost;
+import com.example.exampleproject.clients.models.JsonPlaceholderPostJsonSerializer;
+import com.example.exampleproject.configs.JacksonConfig;
+import com.example.exampleproject.dto.response.TestPostResponse;
+import com.example.exampleproject.dto.response.TestPostResponseJsonSerializer;
+import com.example.exampleproject.utils.ProjectTimeService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for class {@link GeneratedSerializersModule}
+ */
+@SpringBootTest
+@Tag("GeneratedSerializersModule_Tests")
+@DisplayName("GeneratedSerializersModule Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class GeneratedSerializersModuleTest {
+
+    private static final String SERIALIZE = "serialize";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectTimeService timeService;
+
+    /**
+     * Mapper with the same configuration, without the generated serializers.
+     */
+    private ObjectMapper jacksonMapper;
+
+    @BeforeEach
+    void setUp() throws JsonMappingException {
+        JacksonConfig jacksonConfig = new JacksonConfig(timeService);
+        ReflectionTestUtils.setField(jacksonConfig, "generatedSerializersEnabled", false);
+        jacksonMapper = jacksonConfig.objectMapper();
+        JsonSerializer<?> baseline = jacksonMapper.getSerializerProviderInstance()
+                .findValueSerializer(TestPostResponse.class);
+        assertFalse(baseline instanceof TestPostResponseJsonSerializer,
+                "The baseline mapper must use Jackson's own serializer");
+    }
+
+    /**
+     * Method test for {@link TestPostResponseJsonSerializer#serialize}
+     */
+    @Order(1)
+    @Tag(value = SERIALIZE)
+    @DisplayName(SERIALIZE + " - Given a complete response, then should write the same JSON as Jackson")
+    @Test
+    void serialize_WhenCompleteResponse_ThenShouldWriteSameJsonAsJackson() throws JsonProcessingException {
+        // Arrange
+        TestPostResponse response = TestPostResponse.builder()
+                .date(new Date())
+                .localDateTime(LocalDateTime.now())
+                .localDate(LocalDate.now())
+                .zonedDateTime(ZonedDateTime.now())
+                .localTime(LocalTime.now())
+                .statusEnum("ATIVO")
+                .bigDecimalValue(new BigDecimal("123.456789"))
+                .integerValue(42)
+                .doubleValue(3.14159265359)
+                .longValue(Long.MAX_VALUE)
+                .floatValue(3.14f)
+                .build();
+
+        // Act
+        String json = objectMapper.writeValueAsString(response);
+
+        // Assert
+        assertInstanceOf(TestPostResponseJsonSerializer.class,
+                objectMapper.getSerializerProviderInstance().findValueSerializer(TestPostResponse.class));
+        assertEquals(jacksonMapper.writeValueAsString(response), json);
+    }
+
+    /**
+     * Method test for {@link TestPostResponseJsonSerializer#serialize}
+     */
+    @Order(2)
+    @Tag(value = SERIALIZE)
+    @DisplayName(SERIALIZE + " - Given null components, then should leave them out as Jackson does")
+    @Test
+    void serialize_WhenNullComponents_ThenShouldLeaveThemOutAsJackson() throws JsonProcessingException {
+        // Arrange
+        TestPostResponse response = TestPostResponse.builder().statusEnum("ATIVO").build();
+        JsonPlaceholderPost post = new JsonPlaceholderPost(1L, null, "Title", null);
+
+        // Act
+        String responseJson = objectMapper.writeValueAsString(response);
+        String postJson = objectMapper.writeValueAsString(post);
+
+        // Assert
+        assertEquals("{\"status\":\"ATIVO\"}", responseJson);
+        assertEquals(jacksonMapper.writeValueAsString(post), postJson);
+    }
+
+    /**
+     * Method test for {@link GeneratedSerializersModule}
+     */
+    @Order(3)
+    @Tag(value = SERIALIZE)
+    @DisplayName(SERIALIZE + " - Given renamed and escaped values, then should write the same JSON as Jackson")
+    @Test
+    void serialize_WhenRenamedValuesInList_ThenShouldWriteSameJsonAsJackson() throws JsonProcessingException {
+        // Arrange
+        List<Object> values = List.of(
+                new Address("01001-000", "Praça da Sé", "lado \"ímpar\"", "Sé", "São Paulo", "SP", "Sudeste",
+                        null, "3550308", "1004", "11"),
+                new JsonPlaceholderPost(1L, 10L, "Introduction to Swagger", "Line 1\nLine 2"));
+
+        // Act
+        String json = objectMapper.writeValueAsString(values);
+
+        // Assert
+        assertEquals(jacksonMapper.writeValueAsString(values), json);
+        assertEquals(values.getFirst(), objectMapper.readValue(
+                objectMapper.writeValueAsString(values.getFirst()), Address.class));
+    }
+
+    /**
+     * Method test for {@link JsonPlaceholderPostJsonSerializer#createContextual}
+     */
+    @Order(4)
+    @Tag(value = SERIALIZE)
+    @DisplayName(SERIALIZE + " - Given mappers ordering the properties differently, then should follow the order of " +
+            "each mapper")
+    @Test
+    void serialize_WhenMappersOrderPropertiesDifferently_ThenShouldFollowEachMapper() throws JsonProcessingException {
+        // Arrange
+        ObjectMapper sortedMapper = sortAlphabetically((JsonMapper) objectMapper);
+        ObjectMapper sortedJacksonMapper = sortAlphabetically((JsonMapper) jacksonMapper);
+        JsonPlaceholderPost post = new JsonPlaceholderPost(1L, 10L, "Title", "Body");
+
+        // Act
+        String sortedJson = sortedMapper.writeValueAsString(post);
+        String json = objectMapper.writeValueAsString(post);
+
+        // Assert
+        assertInstanceOf(JsonPlaceholderPostJsonSerializer.class,
+                sortedMapper.getSerializerProviderInstance().findValueSerializer(JsonPlaceholderPost.class));
+        assertEquals(sortedJacksonMapper.writeValueAsString(post), sortedJson);
+        assertEquals(jacksonMapper.writeValueAsString(post), json);
+        assertNotEquals(json, sortedJson);
+        assertEquals(json, objectMapper.writeValueAsString(post));
+    }
+
+    private static ObjectMapper sortAlphabetically(JsonMapper mapper) {
+        return mapper.rebuild()
+                .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                .disable(MapperFeature.SORT_CREATOR_PROPERTIES_FIRST)
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.exampleproject.configs.json;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Tag(value = "JsonBufferRecyclerPool_Tests")
+@DisplayName("JsonBufferRecyclerPool Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class JsonBufferRecyclerPoolTest {
+
+    private static final String ACQUIRE_POOLED = "acquirePooled";
+
+    private static final String RELEASE_POOLED = "releasePooled";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JsonBufferRecyclerPool jsonBufferRecyclerPool;
+
+    /**
+     * Method test for
+     * {@link JsonBufferRecyclerPool#acquirePooled()}
+     */
+    @Order(1)
+    @Tag(value = ACQUIRE_POOLED)
+    @DisplayName(ACQUIRE_POOLED + " - Given a released recycler, when acquiring from another thread, " +
+            "then should reuse it")
+    @Test
+    void acquirePooled_WhenRecyclerReleased_ThenShouldReuseItFromAnyThread() throws InterruptedException {
+        // Arrange
+        JsonBufferRecyclerPool pool = new JsonBufferRecyclerPool(4);
+        BufferRecycler first = pool.acquirePooled();
+        pool.releasePooled(first);
+        BufferRecycler[] second = new BufferRecycler[1];
+
+        // Act
+        Thread.ofVirtual().start(() -> second[0] = pool.acquirePooled()).join();
+
+        // Assert
+        assertSame(first, second[0]);
+        assertEquals(new JsonBufferRecyclerPool.Stats(1, 1, 0, 0), pool.getStats());
+    }
+
+    /**
+     * Method test for
+     * {@link JsonBufferRecyclerPool#releasePooled(BufferRecycler)}
+     */
+    @Order(2)
+    @Tag(value = RELEASE_POOLED)
+    @DisplayName(RELEASE_POOLED + " - Given a full pool, then should drop the released recycler")
+    @Test
+    void releasePooled_WhenPoolFull_ThenShouldDropRecycler() {
+        // Arrange
+        JsonBufferRecyclerPool pool = new JsonBufferRecyclerPool(1);
+        BufferRecycler first = pool.acquirePooled();
+        BufferRecycler second = pool.acquirePooled();
+
+        // Act
+        pool.releasePooled(first);
+        pool.releasePooled(second);
+
+        // Assert
+        assertEquals(new JsonBufferRecyclerPool.Stats(0, 2, 1, 1), pool.getStats());
+        assertSame(first, pool.acquirePooled());
+    }
+
+    /**
+     * Method test for
+     * {@link JsonBufferRecyclerPool#acquirePooled()}
+     */
+    @Order(3)
+    @Tag(value = ACQUIRE_POOLED)
+    @DisplayName(ACQUIRE_POOLED + " - Given the project mapper, when writing to a stream, " +
+            "then should take its buffers from the shared pool")
+    @Test
+    void acquirePooled_WhenProjectMapperWrites_ThenShouldUseSharedPool() throws IOException {
+        // Arrange
+        objectMapper.writeValue(new ByteArrayOutputStream(), Map.of("warm", "up"));
+        JsonBufferRecyclerPool.Stats before = jsonBufferRecyclerPool.getStats();
+
+        // Act
+        objectMapper.writeValue(new ByteArrayOutputStream(), Map.of("key", "value"));
+        JsonBufferRecyclerPool.Stats after = jsonBufferRecyclerPool.getStats();
+
+        // Assert
+        assertTrue(after.hits() + after.misses() > before.hits() + before.misses());
+        assertTrue(after.pooled() > 0);
+    }
+
+    /**
+     * Method test for
+     * {@link JsonBufferRecyclerPool#JsonBufferRecyclerPool(int)}
+     */
+    @Order(4)
+    @Tag(value = RELEASE_POOLED)
+    @DisplayName(RELEASE_POOLED + " - Given a negative maximum size, then should throw IllegalArgumentException")
+    @Test
+    void jsonBufferRecyclerPool_WhenNegativeMaxSize_ThenShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new JsonBufferRecyclerPool(-1));
+    }
+}
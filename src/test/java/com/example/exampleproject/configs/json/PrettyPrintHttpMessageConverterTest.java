@@ -0,0 +1,115 @@
+package com.example.exampleproject.configs.json;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for class {@link PrettyPrintHttpMessageConverter}
+ */
+@SpringBootTest
+@Tag("PrettyPrintHttpMessageConverter_Tests")
+@DisplayName("PrettyPrintHttpMessageConverter Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PrettyPrintHttpMessageConverterTest {
+
+    private static final String WRITE = "write";
+
+    private static final Map<String, Object> BODY = Map.of("id", 1, "title", "Example");
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter converter;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    /**
+     * Method test for
+     * {@link PrettyPrintHttpMessageConverter#write(Object, MediaType, org.springframework.http.HttpOutputMessage)}
+     */
+    @Order(1)
+    @Tag(value = WRITE)
+    @DisplayName(WRITE + " - Given a request without pretty print, then should write compact JSON")
+    @Test
+    void write_WhenPrettyPrintNotRequested_ThenShouldWriteCompactJson() throws IOException {
+        // Arrange
+        bindRequest(new MockHttpServletRequest());
+
+        // Act
+        String body = write();
+
+        // Assert
+        assertInstanceOf(PrettyPrintHttpMessageConverter.class, converter);
+        assertFalse(body.contains("\n"));
+    }
+
+    /**
+     * Method test for
+     * {@link PrettyPrintHttpMessageConverter#write(Object, MediaType, org.springframework.http.HttpOutputMessage)}
+     */
+    @Order(2)
+    @Tag(value = WRITE)
+    @DisplayName(WRITE + " - Given the pretty parameter or header, then should write indented JSON")
+    @Test
+    void write_WhenPrettyParameterOrHeader_ThenShouldWriteIndentedJson() throws IOException {
+        // Arrange
+        MockHttpServletRequest parameterRequest = new MockHttpServletRequest();
+        parameterRequest.setParameter(PrettyPrintHttpMessageConverter.PRETTY_PARAMETER, "");
+        MockHttpServletRequest headerRequest = new MockHttpServletRequest();
+        headerRequest.addHeader(PrettyPrintHttpMessageConverter.PRETTY_HEADER, "true");
+
+        // Act
+        bindRequest(parameterRequest);
+        String parameterBody = write();
+        bindRequest(headerRequest);
+        String headerBody = write();
+
+        // Assert
+        assertTrue(parameterBody.contains("\n"));
+        assertTrue(headerBody.contains("\n"));
+    }
+
+    /**
+     * Method test for
+     * {@link PrettyPrintHttpMessageConverter#write(Object, MediaType, org.springframework.http.HttpOutputMessage)}
+     */
+    @Order(3)
+    @Tag(value = WRITE)
+    @DisplayName(WRITE + " - Given the pretty parameter set to false, then should write compact JSON")
+    @Test
+    void write_WhenPrettyParameterFalse_ThenShouldWriteCompactJson() throws IOException {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setParameter(PrettyPrintHttpMessageConverter.PRETTY_PARAMETER, "false");
+        bindRequest(request);
+
+        // Act
+        String body = write();
+
+        // Assert
+        assertFalse(body.contains("\n"));
+    }
+
+    private void bindRequest(MockHttpServletRequest request) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private String write() throws IOException {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(BODY, MediaType.APPLICATION_JSON, outputMessage);
+        return outputMessage.getBodyAsString();
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.exampleproject.configs.json;
+
+import com.example.exampleproject.clients.models.JsonPlaceholderPost;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for class {@link StreamingJsonResponses}
+ */
+@SpringBootTest
+@Tag("StreamingJsonResponses_Tests")
+@DisplayName("StreamingJsonResponses Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class StreamingJsonResponsesTest {
+
+    private static final String NDJSON = "ndjson";
+
+    private static final String ARRAY = "array";
+
+    private static final String CONSTRUCTOR = "constructor";
+
+    @Autowired
+    private StreamingJsonResponses streamingJsonResponses;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Method test for
+     * {@link StreamingJsonResponses#ndjson(Stream)}
+     */
+    @Order(1)
+    @Tag(value = NDJSON)
+    @DisplayName(NDJSON + " - Given items, then should write one JSON line per item with the custom date format")
+    @Test
+    void ndjson_WhenItems_ThenShouldWriteOneLinePerItem() throws IOException {
+        // Arrange
+        Stream<Map<String, Object>> items = Stream.of(
+                Map.of("date", LocalDate.of(2024, 5, 1)),
+                Map.of("date", LocalDate.of(2024, 5, 2)));
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = streamingJsonResponses.ndjson(items);
+        String body = write(response);
+
+        // Assert
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals("{\"date\":\"01/05/2024\"}\n{\"date\":\"02/05/2024\"}\n", body);
+    }
+
+    /**
+     * Method test for
+     * {@link StreamingJsonResponses#array(Stream)}
+     */
+    @Order(2)
+    @Tag(value = ARRAY)
+    @DisplayName(ARRAY + " - Given items, then should write them as a JSON array")
+    @Test
+    void array_WhenItems_ThenShouldWriteJsonArray() throws IOException {
+        // Arrange
+        Stream<JsonPlaceholderPost> items = LongStream.rangeClosed(1, 250)
+                .mapToObj(id -> new JsonPlaceholderPost(id, 1L, "Title " + id, "Body"));
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = streamingJsonResponses.array(items);
+        String body = write(response);
+
+        // Assert
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertTrue(body.startsWith("["));
+        assertTrue(body.endsWith("]"));
+        assertTrue(body.contains("\"title\":\"Title 250\""));
+    }
+
+    /**
+     * Method test for
+     * {@link StreamingJsonResponses#ndjson(Stream)}
+     */
+    @Order(3)
+    @Tag(value = NDJSON)
+    @DisplayName(NDJSON + " - Given the client disconnects, then should stop producing items and close the stream")
+    @Test
+    void ndjson_WhenClientDisconnects_ThenShouldStopAndCloseStream() {
+        // Arrange
+        AtomicInteger produced = new AtomicInteger();
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Map<String, Integer>> items = Stream.iterate(0, i -> i + 1)
+                .limit(100_000)
+                .peek(_ -> produced.incrementAndGet())
+                .map(i -> Map.of("id", i))
+                .onClose(() -> closed.set(true));
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // Act & Assert
+        StreamingResponseBody body = streamingJsonResponses.ndjson(items).getBody();
+        assertNotNull(body);
+        assertDoesNotThrow(() -> body.writeTo(disconnected));
+        assertTrue(closed.get());
+        assertEquals(1, produced.get());
+    }
+
+    /**
+     * Method test for
+     * {@link StreamingJsonResponses#array(Stream)}
+     */
+    @Order(4)
+    @Tag(value = ARRAY)
+    @DisplayName(ARRAY + " - Given an item that cannot be serialized, then should fail and close the stream")
+    @Test
+    void array_WhenItemCannotBeSerialized_ThenShouldFailAndCloseStream() {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Object> items = Stream.<Object>of(Map.of("id", 1), new UnserializableItem())
+                .onClose(() -> closed.set(true));
+
+        // Act
+        StreamingResponseBody body = streamingJsonResponses.array(items).getBody();
+        assertNotNull(body);
+        JsonMappingException exception = assertThrows(JsonMappingException.class,
+                () -> body.writeTo(new ByteArrayOutputStream()));
+
+        // Assert
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertTrue(closed.get());
+    }
+
+    /**
+     * Method test for
+     * {@link StreamingJsonResponses#StreamingJsonResponses(ObjectMapper, int)}
+     */
+    @Order(5)
+    @Tag(value = CONSTRUCTOR)
+    @DisplayName(CONSTRUCTOR + " - Given a flush batch size that is not positive, then should throw " +
+            "IllegalArgumentException")
+    @ParameterizedTest(name = "Test {index} => flushBatchSize={0}")
+    @ValueSource(ints = {0, -1})
+    void constructor_WhenFlushBatchSizeNotPositive_ThenShouldThrowIllegalArgumentException(int flushBatchSize) {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new StreamingJsonResponses(objectMapper, flushBatchSize));
+    }
+
+    private String write(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        StreamingResponseBody body = response.getBody();
+        assertNotNull(body);
+        body.writeTo(outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    static class UnserializableItem {
+
+        public String getValue() {
+            throw new IllegalStateException("Value not available");
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.example.exampleproject.configs.validation;
+
+import com.example.exampleproject.configs.annotations.FailFastValidation;
+import com.example.exampleproject.controllers.GreetingController;
+import com.example.exampleproject.dto.request.TestPostRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for class {@link CostOrderedRequestValidator}
+ */
+@SpringBootTest
+@Tag("CostOrderedRequestValidator_Tests")
+@DisplayName("CostOrderedRequestValidator Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CostOrderedRequestValidatorTest {
+
+    private static final String VALIDATE = "validate";
+    private static final String DEFAULT_GROUP = "defaultGroup";
+
+    private static final String VALID_PDF = "data:application/pdf;base64,JVBERi0xLjMKJ1RyYWlsZXInCiUlRU9GCg==";
+
+    private static final String INVALID_BASE64_IMAGE = "data:image/png;base64,@@@";
+
+    @Autowired
+    private CostOrderedRequestValidator requestValidator;
+
+    @Autowired
+    private LocalValidatorFactoryBean validatorFactory;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private GreetingController greetingController;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    /**
+     * Method test for
+     * {@link CostOrderedRequestValidator#validate(Object, Errors)}
+     */
+    @Order(1)
+    @Tag(value = VALIDATE)
+    @DisplayName(VALIDATE + " - Given a cheap constraint fails, then should report it and skip the file checks")
+    @Test
+    void validate_WhenCheapConstraintFails_ThenShouldSkipExpensiveChecks() {
+        // Arrange
+        TestPostRequest request = createRequest("", "joao.silva@email.com", INVALID_BASE64_IMAGE);
+        Errors errors = new MapBindingResult(new HashMap<>(), "request");
+
+        // Act
+        requestValidator.validate(request, errors);
+
+        // Assert
+        assertTrue(errors.hasFieldErrors("name"));
+        assertFalse(errors.hasFieldErrors("base64Image"));
+    }
+
+    /**
+     * Method test for
+     * {@link CostOrderedRequestValidator#validate(Object, Errors)}
+     */
+    @Order(2)
+    @Tag(value = VALIDATE)
+    @DisplayName(VALIDATE + " - Given every cheap constraint passes, then should run the file checks")
+    @Test
+    void validate_WhenCheapConstraintsPass_ThenShouldRunExpensiveChecks() {
+        // Arrange
+        TestPostRequest request = createRequest("João Silva", "joao.silva@email.com", INVALID_BASE64_IMAGE);
+        Errors errors = new MapBindingResult(new HashMap<>(), "request");
+
+        // Act
+        requestValidator.validate(request, errors);
+
+        // Assert
+        assertTrue(errors.hasFieldErrors("base64Image"));
+    }
+
+    /**
+     * Method test for
+     * {@link CostOrderedRequestValidator#validate(Object, Errors)}
+     */
+    @Order(3)
+    @Tag(value = VALIDATE)
+    @DisplayName(VALIDATE + " - Given several invalid fields without fail-fast, then should report all of them")
+    @Test
+    void validate_WhenNotFailFast_ThenShouldReportEveryCheapViolation() {
+        // Arrange
+        TestPostRequest request = createRequest("", "invalid-email", INVALID_BASE64_IMAGE);
+        Errors errors = new MapBindingResult(new HashMap<>(), "request");
+
+        // Act
+        requestValidator.validate(request, errors);
+
+        // Assert
+        assertTrue(errors.hasFieldErrors("name"));
+        assertTrue(errors.hasFieldErrors("email"));
+    }
+
+    /**
+     * Method test for
+     * {@link CostOrderedRequestValidator#validate(Object, Errors)}
+     */
+    @Order(4)
+    @Tag(value = VALIDATE)
+    @DisplayName(VALIDATE + " - Given the fail-fast header, then should stop at the first violation")
+    @Test
+    void validate_WhenFailFastHeader_ThenShouldStopAtFirstViolation() {
+        // Arrange
+        MockHttpServletRequest httpRequest = new MockHttpServletRequest();
+        httpRequest.addHeader(CostOrderedRequestValidator.FAIL_FAST_HEADER, "true");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(httpRequest));
+
+        TestPostRequest request = createRequest("", "invalid-email", INVALID_BASE64_IMAGE);
+        Errors errors = new MapBindingResult(new HashMap<>(), "request");
+
+        // Act
+        requestValidator.validate(request, errors);
+
+        // Assert
+        assertEquals(1, errors.getErrorCount());
+        assertFalse(errors.hasFieldErrors("base64Image"));
+    }
+
+    /**
+     * Method test for
+     * {@link CostOrderedRequestValidator#validate(Object, Errors)}
+     */
+    @Order(5)
+    @Tag(value = VALIDATE)
+    @DisplayName(VALIDATE + " - Given a handler annotated with @FailFastValidation, then should stop at the first " +
+            "violation even when the header asks otherwise")
+    @ParameterizedTest(name = "Test {index} => handler={0}")
+    @ValueSource(strings = {"annotatedMethod", "method"})
+    void validate_WhenHandlerAnnotated_ThenShouldStopAtFirstViolation(String handlerMethod) throws Exception {
+        // Arrange
+        Object handler = "method".equals(handlerMethod) ? new AnnotatedHandler() : new Handler();
+        setRequestHandler(handler, handler.getClass().getMethod(handlerMethod, TestPostRequest.class), "false");
+
+        TestPostRequest request = createRequest("", "invalid-email", INVALID_BASE64_IMAGE);
+        Errors errors = new MapBindingResult(new HashMap<>(), "request");
+
+        // Act
+        requestValidator.validate(request, errors);
+
+        // Assert
+        assertEquals(1, errors.getErrorCount());
+    }
+
+    /**
+     * Method test for
+     * {@link CostOrderedRequestValidator#validate(Object, Errors)}
+     */
+    @Order(6)
+    @Tag(value = VALIDATE)
+    @DisplayName(VALIDATE + " - Given an existing endpoint without the annotation, then should report every " +
+            "violation")
+    @Test
+    void validate_WhenExistingEndpointNotAnnotated_ThenShouldReportEveryViolation() throws Exception {
+        // Arrange
+        Method createGreeting = GreetingController.class.getMethod("createGreeting", String.class,
+                TestPostRequest.class);
+        setRequestHandler(greetingController, createGreeting, null);
+
+        TestPostRequest request = createRequest("", "invalid-email", INVALID_BASE64_IMAGE);
+        Errors errors = new MapBindingResult(new HashMap<>(), "request");
+
+        // Act
+        requestValidator.validate(request, errors);
+
+        // Assert
+        assertTrue(errors.hasFieldErrors("name"));
+        assertTrue(errors.hasFieldErrors("email"));
+    }
+
+    /**
+     * Method test for
+     * {@link CostOrderedRequestValidator#validate(Object, Errors)}
+     */
+    @Order(7)
+    @Tag(value = VALIDATE)
+    @DisplayName(VALIDATE + " - Given validation.fail-fast.enabled, then should stop at the first violation " +
+            "without any request")
+    @Test
+    void validate_WhenFailFastProperty_ThenShouldStopAtFirstViolation() {
+        // Arrange
+        CostOrderedRequestValidator failFastRequestValidator = new CostOrderedRequestValidator(validatorFactory);
+        ReflectionTestUtils.setField(failFastRequestValidator, "failFastEnabled", true);
+
+        TestPostRequest request = createRequest("", "invalid-email", INVALID_BASE64_IMAGE);
+        Errors errors = new MapBindingResult(new HashMap<>(), "request");
+
+        // Act
+        failFastRequestValidator.validate(request, errors);
+
+        // Assert
+        assertEquals(1, errors.getErrorCount());
+        assertFalse(errors.hasFieldErrors("base64Image"));
+    }
+
+    /**
+     * Method test for
+     * {@link TestPostRequest} default group sequence
+     */
+    @Order(8)
+    @Tag(value = DEFAULT_GROUP)
+    @DisplayName(DEFAULT_GROUP + " - Given a plain validation with the Default group, then should run the file " +
+            "checks only after the cheap constraints passed")
+    @Test
+    void defaultGroup_WhenPlainValidation_ThenShouldRunExpensiveChecksInCostOrder() {
+        // Arrange
+        TestPostRequest cheapInvalid = createRequest("", "joao.silva@email.com", INVALID_BASE64_IMAGE);
+        TestPostRequest cheapValid = createRequest("João Silva", "joao.silva@email.com", INVALID_BASE64_IMAGE);
+
+        // Act
+        Set<ConstraintViolation<TestPostRequest>> cheapInvalidViolations = validator.validate(cheapInvalid);
+        Set<ConstraintViolation<TestPostRequest>> cheapValidViolations = validator.validate(cheapValid);
+
+        // Assert
+        assertTrue(hasViolation(cheapInvalidViolations, "name"));
+        assertFalse(hasViolation(cheapInvalidViolations, "base64Image"));
+        assertTrue(hasViolation(cheapValidViolations, "base64Image"));
+    }
+
+    private static void setRequestHandler(Object handler, Method method, String failFastHeader) {
+        MockHttpServletRequest httpRequest = new MockHttpServletRequest();
+        if (failFastHeader != null) {
+            httpRequest.addHeader(CostOrderedRequestValidator.FAIL_FAST_HEADER, failFastHeader);
+        }
+        httpRequest.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, new HandlerMethod(handler, method));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(httpRequest));
+    }
+
+    private static boolean hasViolation(Set<ConstraintViolation<TestPostRequest>> violations, String property) {
+        return violations.stream().anyMatch(violation -> property.equals(violation.getPropertyPath().toString()));
+    }
+
+    private static TestPostRequest createRequest(String name, String email, String base64Image) {
+        return new TestPostRequest(
+                null,
+                null,
+                name,
+                LocalDate.of(1991, 9, 5),
+                email,
+                "09795208000119",
+                (byte) 34,
+                "(11) 98765-4321",
+                "joaosilva",
+                LocalDate.now().plusYears(1),
+                new BigDecimal("12345.67"),
+                List.of("item1"),
+                true,
+                "ATIVO",
+                1,
+                base64Image,
+                List.of(VALID_PDF),
+                Map.of("document1.pdf", VALID_PDF));
+    }
+
+    static class Handler {
+
+        @FailFastValidation
+        public void annotatedMethod(TestPostRequest request) {
+        }
+    }
+
+    @FailFastValidation
+    static class AnnotatedHandler {
+
+        public void method(TestPostRequest request) {
+        }
+    }
+}
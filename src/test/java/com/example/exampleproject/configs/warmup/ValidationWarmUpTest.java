@@ -0,0 +1,176 @@
+package com.example.exampleproject.configs.warmup;
+
+import com.example.exampleproject.configs.annotations.validators.MultipartFileListValidator;
+import com.example.exampleproject.configs.annotations.validators.MultipartFileValidator;
+import com.example.exampleproject.controllers.FileController;
+import com.example.exampleproject.controllers.GreetingController;
+import com.example.exampleproject.dto.request.Base64FilesRequest;
+import com.example.exampleproject.dto.request.TestPostRequest;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorFactory;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.validation.beanvalidation.SpringConstraintValidatorFactory;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for class {@link ValidationWarmUp}
+ */
+@SpringBootTest
+@Tag("ValidationWarmUp_Tests")
+@DisplayName("ValidationWarmUp Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ExtendWith(OutputCaptureExtension.class)
+class ValidationWarmUpTest {
+
+    private static final String RUN = "run";
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    /**
+     * Method test for
+     * {@link ValidationWarmUp#run(org.springframework.boot.ApplicationArguments)}
+     */
+    @Order(1)
+    @Tag(value = RUN)
+    @DisplayName(RUN + " - Given the application controllers, then should build the metadata of the controllers and " +
+            "initialize the validators of their request classes")
+    @Test
+    void run_WhenApplicationControllers_ThenShouldPrepareControllersAndRequestClasses(CapturedOutput output) {
+        // Arrange
+        Validator trackingValidator = mock(Validator.class, delegatesTo(validator));
+        ValidationWarmUp warmUp = createWarmUp(trackingValidator, true);
+
+        // Act
+        warmUp.run(new DefaultApplicationArguments());
+
+        // Assert
+        verify(trackingValidator).getConstraintsForClass(GreetingController.class);
+        verify(trackingValidator).getConstraintsForClass(FileController.class);
+        verify(trackingValidator, atLeastOnce()).forExecutables();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Class<Object>> beanTypes = ArgumentCaptor.forClass(Class.class);
+        verify(trackingValidator, atLeastOnce())
+                .validateValue(beanTypes.capture(), anyString(), isNull(), any(Class[].class));
+        assertTrue(beanTypes.getAllValues().contains(TestPostRequest.class));
+        assertTrue(beanTypes.getAllValues().contains(Base64FilesRequest.class));
+
+        assertTrue(output.getOut().contains("Validation warm-up prepared"));
+        assertFalse(output.getOut().contains("Could not"), "The warm-up should not report any failure");
+    }
+
+    /**
+     * Method test for
+     * {@link ValidationWarmUp#run(org.springframework.boot.ApplicationArguments)}
+     */
+    @Order(2)
+    @Tag(value = RUN)
+    @DisplayName(RUN + " - Given the metadata cannot be built, then should log the failure and not throw")
+    @Test
+    void run_WhenMetadataCannotBeBuilt_ThenShouldLogFailureAndNotThrow(CapturedOutput output) {
+        // Arrange
+        Validator failingValidator = mock(Validator.class);
+        when(failingValidator.getConstraintsForClass(any())).thenThrow(new IllegalStateException("Broken metadata"));
+        ValidationWarmUp warmUp = createWarmUp(failingValidator, true);
+
+        // Act
+        warmUp.run(new DefaultApplicationArguments());
+
+        // Assert
+        assertTrue(output.getOut().contains("Could not build the constraint metadata of "
+                + GreetingController.class.getName() + ": Broken metadata"));
+        verify(failingValidator, never()).validateValue(any(), anyString(), any(), any(Class[].class));
+    }
+
+    /**
+     * Method test for
+     * {@link ValidationWarmUp#run(org.springframework.boot.ApplicationArguments)}
+     */
+    @Order(3)
+    @Tag(value = RUN)
+    @DisplayName(RUN + " - Given the warm-up is disabled, then should not touch the validator")
+    @Test
+    void run_WhenDisabled_ThenShouldNotTouchValidator() {
+        // Arrange
+        Validator untouchedValidator = mock(Validator.class);
+        ValidationWarmUp warmUp = createWarmUp(untouchedValidator, false);
+
+        // Act
+        warmUp.run(new DefaultApplicationArguments());
+
+        // Assert
+        verifyNoInteractions(untouchedValidator);
+    }
+
+    /**
+     * Method test for
+     * {@link ValidationWarmUp#run(org.springframework.boot.ApplicationArguments)}
+     */
+    @Order(4)
+    @Tag(value = RUN)
+    @DisplayName(RUN + " - Given handler methods with constrained parameters, then should initialize the validators " +
+            "of those parameters")
+    @Test
+    void run_WhenConstrainedHandlerParameters_ThenShouldInitializeTheirValidators() {
+        // Arrange
+        Set<Class<?>> createdValidators = ConcurrentHashMap.newKeySet();
+        ConstraintValidatorFactory springFactory =
+                new SpringConstraintValidatorFactory(applicationContext.getAutowireCapableBeanFactory());
+        ConstraintValidatorFactory recordingFactory = new ConstraintValidatorFactory() {
+            @Override
+            public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+                createdValidators.add(key);
+                return springFactory.getInstance(key);
+            }
+
+            @Override
+            public void releaseInstance(ConstraintValidator<?, ?> instance) {
+                springFactory.releaseInstance(instance);
+            }
+        };
+
+        try (ValidatorFactory validatorFactory = Validation.byDefaultProvider().configure()
+                .constraintValidatorFactory(recordingFactory)
+                .buildValidatorFactory()) {
+            ValidationWarmUp warmUp = createWarmUp(validatorFactory.getValidator(), true);
+
+            // Act
+            warmUp.run(new DefaultApplicationArguments());
+        }
+
+        // Assert
+        assertTrue(createdValidators.contains(MultipartFileValidator.class));
+        assertTrue(createdValidators.contains(MultipartFileListValidator.class));
+    }
+
+    private ValidationWarmUp createWarmUp(Validator warmUpValidator, boolean enabled) {
+        ValidationWarmUp warmUp = new ValidationWarmUp(warmUpValidator, applicationContext);
+        ReflectionTestUtils.setField(warmUp, "enabled", enabled);
+        return warmUp;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.exampleproject.controllers;
+
+import com.example.exampleproject.services.DocumentValidationService;
+import org.apache.catalina.connector.ClientAbortException;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests for class {@link DocumentController}
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Tag("DocumentController_Tests")
+@DisplayName("DocumentController Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class DocumentControllerTest {
+
+    private static final String VALIDATE_DOCUMENTS = "validateDocuments";
+    private static final String VALIDATE_URL = "/api/documents/validate";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    /**
+     * Method test for
+     * {@link DocumentController#validateDocuments(boolean, InputStream, jakarta.servlet.http.HttpServletResponse)}
+     */
+    @Order(1)
+    @Tag(value = VALIDATE_DOCUMENTS)
+    @DisplayName(VALIDATE_DOCUMENTS + " - Given one document per line, then should stream one NDJSON result per line")
+    @ParameterizedTest(name = "Test {index} => paralelo={0}")
+    @ValueSource(booleans = {false, true})
+    void validateDocuments_WhenDocumentPerLine_ThenShouldStreamNdjsonResults(boolean parallel) throws Exception {
+        // Arrange
+        String body = "52998224725\n\n{\"documento\":\"52998224724\"}\n" + "9".repeat(5000) + "\n";
+
+        // Act
+        MockHttpServletResponse response = mockMvc.perform(post(VALIDATE_URL)
+                        .param("paralelo", String.valueOf(parallel))
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .header(HttpHeaders.ACCEPT_LANGUAGE, "en-US")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse();
+
+        // Assert
+        String[] lines = response.getContentAsString().split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("{\"linha\":1,\"documento\":\"52998224725\",\"valido\":true}", lines[0]);
+        assertTrue(lines[1].startsWith("{\"linha\":3,\"documento\":\"52998224724\",\"valido\":false,\"mensagem\":"));
+        assertTrue(lines[2].startsWith("{\"linha\":4,"));
+        assertTrue(lines[2].contains("\"valido\":false"));
+    }
+
+    /**
+     * Method test for
+     * {@link DocumentController#validateDocuments(boolean, InputStream, jakarta.servlet.http.HttpServletResponse)}
+     */
+    @Order(2)
+    @Tag(value = VALIDATE_DOCUMENTS)
+    @DisplayName(VALIDATE_DOCUMENTS + " - Given the client disconnects while results are streamed, then should " +
+            "end the request quietly")
+    @Test
+    void validateDocuments_WhenClientDisconnects_ThenShouldEndQuietly() throws IOException {
+        // Arrange
+        DocumentValidationService service = mock(DocumentValidationService.class);
+        doThrow(new ClientAbortException(new IOException("Broken pipe")))
+                .when(service).validate(any(InputStream.class), any(), anyBoolean());
+        DocumentController controller = new DocumentController(service);
+
+        // Act & Assert
+        assertDoesNotThrow(() -> controller.validateDocuments(false, new ByteArrayInputStream(new byte[0]),
+                new MockHttpServletResponse()));
+    }
+
+    /**
+     * Method test for
+     * {@link DocumentController#validateDocuments(boolean, InputStream, jakarta.servlet.http.HttpServletResponse)}
+     */
+    @Order(3)
+    @Tag(value = VALIDATE_DOCUMENTS)
+    @DisplayName(VALIDATE_DOCUMENTS + " - Given a failure other than a disconnection, then should rethrow it")
+    @Test
+    void validateDocuments_WhenValidationFails_ThenShouldRethrow() throws IOException {
+        // Arrange
+        DocumentValidationService service = mock(DocumentValidationService.class);
+        IOException failure = new IOException("Failed to validate documents", new IllegalStateException());
+        doThrow(failure).when(service).validate(any(InputStream.class), any(), anyBoolean());
+        DocumentController controller = new DocumentController(service);
+
+        // Act
+        IOException exception = assertThrows(IOException.class, () -> controller.validateDocuments(true,
+                new ByteArrayInputStream(new byte[0]), new MockHttpServletResponse()));
+
+        // Assert
+        assertSame(failure, exception);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.exampleproject.controllers;
+
+import com.example.exampleproject.dto.response.FileProcessingJobResponse;
+import com.example.exampleproject.services.FileProcessingService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests for class {@link FileController}
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Tag("FileController_Tests")
+@DisplayName("FileController Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class FileControllerTest {
+
+    private static final String GET_FILE_PROCESSING_JOBS = "getFileProcessingJobs";
+    private static final String JOBS_URL = "/api/files/jobs";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FileProcessingService fileProcessingService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Method test for
+     * {@link FileController#getFileProcessingJobs()}
+     */
+    @Order(1)
+    @Tag(value = GET_FILE_PROCESSING_JOBS)
+    @DisplayName(GET_FILE_PROCESSING_JOBS + " - Given submitted jobs, then should stream them as a JSON array")
+    @Test
+    void getFileProcessingJobs_WhenJobsSubmitted_ThenShouldStreamJsonArray() throws Exception {
+        // Arrange
+        FileProcessingJobResponse first = fileProcessingService.submit(createFile("first.txt"));
+        FileProcessingJobResponse second = fileProcessingService.submit(createFile("second.txt"));
+
+        // Act
+        MvcResult asyncResult = mockMvc.perform(get(JOBS_URL))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        // Assert
+        JsonNode jobs = objectMapper.readTree(body);
+        assertTrue(jobs.isArray());
+        int firstIndex = indexOf(jobs, first.jobId());
+        int secondIndex = indexOf(jobs, second.jobId());
+        assertTrue(firstIndex >= 0 && secondIndex > firstIndex, "Jobs should be listed in submission order");
+    }
+
+    private static int indexOf(JsonNode jobs, String jobId) {
+        for (int i = 0; i < jobs.size(); i++) {
+            if (jobId.equals(jobs.get(i).get("jobId").asText())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static MockMultipartFile createFile(String name) {
+        return new MockMultipartFile("file", name, "text/plain", "plain text content".getBytes());
+    }
+}
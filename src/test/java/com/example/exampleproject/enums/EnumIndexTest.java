@@ -0,0 +1,123 @@
+package com.example.exampleproject.enums;
+
+import com.example.exampleproject.configs.annotations.enums.MimeTypeEnum;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Tag(value = "EnumIndex_Tests")
+@DisplayName("EnumIndex Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class EnumIndexTest {
+
+    private static final char CSV_DELIMITER = '|';
+
+    private static final String GET = "get";
+
+    private static final String CODES_OF = "codesOf";
+
+    private static final String VALUES_OF = "valuesOf";
+
+    private enum SparseCodeEnum implements CodedEnum {
+        NEGATIVE(-1),
+        LARGE(100_000);
+
+        private final int code;
+
+        SparseCodeEnum(int code) {
+            this.code = code;
+        }
+
+        @Override
+        public int getCode() {
+            return code;
+        }
+    }
+
+    /**
+     * Method test for
+     * {@link EnumIndex#get(Object)}
+     */
+    @Order(1)
+    @Tag(value = GET)
+    @DisplayName(GET + " - Given a case-insensitive index, then should match keys ignoring case")
+    @ParameterizedTest
+    @CsvSource(value = {
+            "pdf|true",
+            "PDF|true",
+            "Docx|true",
+            "exe|false"
+    }, delimiter = CSV_DELIMITER)
+    void get_WhenIndexIgnoresCase_ThenShouldMatchIgnoringCase(String extension, boolean expected) {
+        // Arrange
+        EnumIndex<MimeTypeEnum, String> index =
+                EnumIndex.ofIgnoringCase(MimeTypeEnum.class, MimeTypeEnum::getExtension);
+
+        // Act
+        boolean contains = index.contains(extension);
+
+        // Assert
+        assertEquals(expected, contains);
+    }
+
+    /**
+     * Method test for
+     * {@link EnumIndex#get(Object)}
+     */
+    @Order(2)
+    @Tag(value = GET)
+    @DisplayName(GET + " - Given an exact index, then should only match the exact key")
+    @Test
+    void get_WhenIndexIsExact_ThenShouldMatchExactKeyOnly() {
+        // Arrange
+        EnumIndex<MimeTypeEnum, String> index = EnumIndex.of(MimeTypeEnum.class, MimeTypeEnum::getMimeType);
+
+        // Act & Assert
+        assertEquals(MimeTypeEnum.PDF, index.get("application/pdf"));
+        assertNull(index.get("APPLICATION/PDF"));
+        assertNull(index.get(null));
+    }
+
+    /**
+     * Method test for
+     * {@link EnumIndex#codesOf(Class)}
+     */
+    @Order(3)
+    @Tag(value = CODES_OF)
+    @DisplayName(CODES_OF + " - Given a coded enum, then should resolve dense and sparse codes")
+    @Test
+    void codesOf_WhenCodedEnum_ThenShouldResolveCodes() {
+        // Act & Assert
+        assertEquals(Optional.of(StatusEnum.PENDING), CodedEnum.fromCode(StatusEnum.class, 5));
+        assertEquals(Optional.of(StatusEnum.INACTIVE), CodedEnum.fromCode(StatusEnum.class, 0));
+        assertEquals(Optional.empty(), CodedEnum.fromCode(StatusEnum.class, 3));
+        assertEquals(Optional.empty(), CodedEnum.fromCode(StatusEnum.class, -1));
+        assertEquals(Optional.of(SparseCodeEnum.NEGATIVE), CodedEnum.fromCode(SparseCodeEnum.class, -1));
+        assertEquals(Optional.of(SparseCodeEnum.LARGE), CodedEnum.fromCode(SparseCodeEnum.class, 100_000));
+        assertSame(EnumIndex.codesOf(StatusEnum.class), EnumIndex.codesOf(StatusEnum.class));
+    }
+
+    /**
+     * Method test for
+     * {@link EnumIndex#valuesOf(Class)}
+     */
+    @Order(4)
+    @Tag(value = VALUES_OF)
+    @DisplayName(VALUES_OF + " - Given a valued enum, then should resolve values ignoring case")
+    @Test
+    void valuesOf_WhenValuedEnum_ThenShouldResolveValuesIgnoringCase() {
+        // Act & Assert
+        assertEquals(Optional.of(StatusEnum.ACTIVE), ValuedEnum.fromValue(StatusEnum.class, "ativo"));
+        assertEquals(Optional.of(StatusEnum.ACTIVE), ValuedEnum.fromValue(StatusEnum.class, "ATIVO"));
+        assertEquals(Optional.empty(), ValuedEnum.fromValue(StatusEnum.class, "ACTIVE"));
+        assertEquals(Optional.empty(), ValuedEnum.fromValue(StatusEnum.class, null));
+        assertEquals(Optional.of(FileProcessingStatusEnum.FAILED), FileProcessingStatusEnum.fromValue("falhou"));
+        assertEquals(Optional.empty(), FileProcessingStatusEnum.fromValue("FAILED"));
+    }
+}
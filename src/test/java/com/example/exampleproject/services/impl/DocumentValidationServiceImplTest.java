@@ -0,0 +1,206 @@
+package com.example.exampleproject.services.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for class {@link DocumentValidationServiceImpl}
+ */
+@SpringBootTest
+@Tag("DocumentValidationServiceImpl_Tests")
+@DisplayName("DocumentValidationServiceImpl Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class DocumentValidationServiceImplTest {
+
+    private static final String VALIDATE = "validate";
+    private static final long TIMEOUT_SECONDS = 10;
+    private static final int MAX_LINE_LENGTH = 64;
+
+    private static final String INPUT = String.join("\n",
+            "52998224725",
+            "\"11222333000181\"",
+            "{\"documento\":\"12ABC34501DE35\"}",
+            "",
+            "52998224724",
+            "11222333000180",
+            "123",
+            "{\"documento\":10}",
+            "  52998224725  \r",
+            "529982247AB");
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private DocumentValidationServiceImpl service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    /**
+     * Method test for
+     * {@link DocumentValidationServiceImpl#validate(java.io.InputStream, java.io.OutputStream, boolean)}
+     */
+    @Order(1)
+    @Tag(value = VALIDATE)
+    @DisplayName(VALIDATE + " - Given lines in every supported format, then should write one result per non-blank " +
+            "line")
+    @Test
+    void validate_WhenSequential_ThenShouldWriteOneResultPerNonBlankLine() throws IOException {
+        // Arrange
+        service = new DocumentValidationServiceImpl(objectMapper, 1, 4, MAX_LINE_LENGTH);
+
+        // Act
+        List<JsonNode> results = validate(INPUT, false);
+
+        // Assert
+        assertEquals(9, results.size());
+        assertResult(results.get(0), 1, "52998224725", true);
+        assertResult(results.get(1), 2, "11222333000181", true);
+        assertResult(results.get(2), 3, "12ABC34501DE35", true);
+        assertResult(results.get(3), 5, "52998224724", false);
+        assertResult(results.get(4), 6, "11222333000180", false);
+        assertResult(results.get(5), 7, "123", false);
+        assertResult(results.get(6), 8, "{\"documento\":10}", false);
+        assertResult(results.get(7), 9, "52998224725", true);
+        assertResult(results.get(8), 10, "529982247AB", false);
+    }
+
+    /**
+     * Method test for
+     * {@link DocumentValidationServiceImpl#validate(java.io.InputStream, java.io.OutputStream, boolean)}
+     */
+    @Order(2)
+    @Tag(value = VALIDATE)
+    @DisplayName(VALIDATE + " - Given parallel mode, then should write the same results in input order")
+    @Test
+    void validate_WhenParallel_ThenShouldWriteSameResultsInInputOrder() throws IOException {
+        // Arrange
+        service = new DocumentValidationServiceImpl(objectMapper, 2, 3, MAX_LINE_LENGTH);
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            input.append(INPUT).append('\n');
+        }
+
+        // Act
+        String sequential = validateToString(input.toString(), false);
+        String parallel = validateToString(input.toString(), true);
+
+        // Assert
+        assertEquals(sequential, parallel);
+        assertEquals(50 * 9, sequential.lines().count());
+    }
+
+    /**
+     * Method test for
+     * {@link DocumentValidationServiceImpl#validate(java.io.InputStream, java.io.OutputStream, boolean)}
+     */
+    @Order(3)
+    @Tag(value = VALIDATE)
+    @DisplayName(VALIDATE + " - Given a line longer than the maximum length, then should report it as invalid " +
+            "without buffering it")
+    @Test
+    void validate_WhenLineTooLong_ThenShouldReportInvalid() throws IOException {
+        // Arrange
+        service = new DocumentValidationServiceImpl(objectMapper, 2, 2, MAX_LINE_LENGTH);
+        String longLine = "1".repeat(100_000);
+        String blankPrefixedLine = " ".repeat(MAX_LINE_LENGTH) + "52998224725";
+        String exactLine = " ".repeat(MAX_LINE_LENGTH - 11) + "52998224725";
+        String input = "52998224725\n" + longLine + "\n" + blankPrefixedLine + "\r\n" + exactLine + "\r\n" +
+                "11222333000181";
+
+        for (boolean parallel : new boolean[]{false, true}) {
+            // Act
+            List<JsonNode> results = validate(input, parallel);
+
+            // Assert
+            assertEquals(5, results.size());
+            assertResult(results.get(0), 1, "52998224725", true);
+            assertResult(results.get(1), 2, "1".repeat(MAX_LINE_LENGTH), false);
+            assertResult(results.get(2), 3, "", false);
+            assertResult(results.get(3), 4, "52998224725", true);
+            assertResult(results.get(4), 5, "11222333000181", true);
+        }
+    }
+
+    /**
+     * Method test for
+     * {@link DocumentValidationServiceImpl#validate(java.io.InputStream, java.io.OutputStream, boolean)}
+     */
+    @Order(4)
+    @Tag(value = VALIDATE)
+    @DisplayName(VALIDATE + " - Given a failing chunk, then should throw IOException and cancel the chunks in flight")
+    @Test
+    void validate_WhenChunkFails_ThenShouldThrowAndCancelChunksInFlight() throws Exception {
+        // Arrange
+        CountDownLatch blockingChunkStarted = new CountDownLatch(1);
+        CountDownLatch blockingChunkInterrupted = new CountDownLatch(1);
+        ObjectMapper failingMapper = spy(objectMapper.copy());
+        doAnswer(invocation -> {
+            if (invocation.getArgument(0, String.class).contains("block")) {
+                blockingChunkStarted.countDown();
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS * 2));
+                } catch (InterruptedException e) {
+                    blockingChunkInterrupted.countDown();
+                }
+                return null;
+            }
+            assertTrue(blockingChunkStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            throw new IllegalStateException("Chunk failure");
+        }).when(failingMapper).readTree(anyString());
+        service = new DocumentValidationServiceImpl(failingMapper, 2, 1, MAX_LINE_LENGTH);
+        String input = "{\"documento\":\"fail\"}\n{\"documento\":\"block\"}";
+
+        // Act
+        IOException exception = assertThrows(IOException.class, () -> validate(input, true));
+
+        // Assert
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertEquals("Chunk failure", exception.getCause().getMessage());
+        assertTrue(blockingChunkInterrupted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS),
+                "The chunk still in flight should be cancelled");
+    }
+
+    private List<JsonNode> validate(String input, boolean parallel) throws IOException {
+        List<JsonNode> results = new ArrayList<>();
+        for (String line : validateToString(input, parallel).split("\n")) {
+            if (!line.isEmpty()) {
+                results.add(objectMapper.readTree(line));
+            }
+        }
+        return results;
+    }
+
+    private String validateToString(String input, boolean parallel) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        service.validate(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output, parallel);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private static void assertResult(JsonNode result, int line, String document, boolean valid) {
+        assertEquals(line, result.get("linha").asInt());
+        assertEquals(document, result.get("documento").asText());
+        assertEquals(valid, result.get("valido").asBoolean());
+        assertEquals(valid, !result.has("mensagem"), "Only invalid results should carry a message");
+    }
+}
@@ -0,0 +1,275 @@
+package com.example.exampleproject.services.impl;
+
+import com.example.exampleproject.configs.exceptions.custom.ResourceNotFoundException;
+import com.example.exampleproject.configs.exceptions.custom.TooManyRequestsException;
+import com.example.exampleproject.dto.response.FileProcessingJobResponse;
+import com.example.exampleproject.enums.FileProcessingStatusEnum;
+import com.example.exampleproject.services.FileProcessingStep;
+import com.example.exampleproject.utils.MessageUtils;
+import com.example.exampleproject.utils.ProjectTimeService;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for class {@link FileProcessingServiceImpl}
+ */
+@SpringBootTest
+@Tag("FileProcessingServiceImpl_Tests")
+@DisplayName("FileProcessingServiceImpl Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class FileProcessingServiceImplTest {
+
+    private static final String SUBMIT = "submit";
+    private static final String GET_JOB = "getJob";
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @TempDir
+    Path storageDirectory;
+
+    @Autowired
+    private ProjectTimeService timeService;
+
+    private final CountDownLatch stepStarted = new CountDownLatch(1);
+
+    private final CountDownLatch releaseStep = new CountDownLatch(1);
+
+    private FileProcessingServiceImpl service;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        releaseStep.countDown();
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    /**
+     * Method test for
+     * {@link FileProcessingServiceImpl#submit(MultipartFile)}
+     */
+    @Order(1)
+    @Tag(value = SUBMIT)
+    @DisplayName(SUBMIT + " - Given all persist permits in use, then should throw TooManyRequestsException")
+    @Test
+    void submit_WhenPersistPermitsInUse_ThenShouldThrowTooManyRequestsException() throws Exception {
+        // Arrange
+        service = createService(1, 1, 10, 100, file -> {
+        });
+        CountDownLatch transferStarted = new CountDownLatch(1);
+        MultipartFile slowFile = mock(MultipartFile.class);
+        doAnswer(invocation -> {
+            transferStarted.countDown();
+            assertTrue(releaseStep.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            return null;
+        }).when(slowFile).transferTo(any(Path.class));
+        CompletableFuture<FileProcessingJobResponse> first =
+                CompletableFuture.supplyAsync(() -> service.submit(slowFile));
+        assertTrue(transferStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        // Act & Assert
+        assertThrows(TooManyRequestsException.class, () -> service.submit(createFile()));
+        releaseStep.countDown();
+        assertNotNull(first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).jobId());
+        assertNotNull(service.submit(createFile()).jobId());
+    }
+
+    /**
+     * Method test for
+     * {@link FileProcessingServiceImpl#submit(MultipartFile)}
+     */
+    @Order(2)
+    @Tag(value = SUBMIT)
+    @DisplayName(SUBMIT + " - Given a busy worker and a full queue, then should reject the job and delete its file")
+    @Test
+    void submit_WhenQueueFull_ThenShouldThrowTooManyRequestsExceptionAndDeleteFile() throws Exception {
+        // Arrange
+        service = createService(2, 1, 1, 100, this::blockingStep);
+        service.submit(createFile());
+        assertTrue(stepStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        service.submit(createFile());
+
+        // Act & Assert
+        assertThrows(TooManyRequestsException.class, () -> service.submit(createFile()));
+        try (Stream<Path> files = Files.list(storageDirectory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    /**
+     * Method test for
+     * {@link FileProcessingServiceImpl#getJob(String)}
+     */
+    @Order(3)
+    @Tag(value = GET_JOB)
+    @DisplayName(GET_JOB + " - Given a submitted job, then should go from persisted to processing to processed")
+    @Test
+    void getJob_WhenJobSubmitted_ThenShouldReportEachStage() throws Exception {
+        // Arrange
+        service = createService(1, 1, 10, 100, this::blockingStep);
+
+        // Act
+        FileProcessingJobResponse submitted = service.submit(createFile());
+        assertTrue(stepStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        FileProcessingJobResponse processing = service.getJob(submitted.jobId());
+        releaseStep.countDown();
+        FileProcessingJobResponse processed = awaitFinished(submitted.jobId());
+
+        // Assert
+        assertTrue(FileProcessingStatusEnum.PERSISTED.getValue().equals(submitted.status())
+                || FileProcessingStatusEnum.PROCESSING.getValue().equals(submitted.status()));
+        assertNull(submitted.finishedAt());
+        assertEquals(FileProcessingStatusEnum.PROCESSING.getValue(), processing.status());
+        assertEquals(FileProcessingStatusEnum.PROCESSED.getValue(), processed.status());
+        assertEquals("text/plain", processed.detectedContentType());
+        assertNotNull(processed.finishedAt());
+        assertNull(processed.errorMessage());
+    }
+
+    /**
+     * Method test for
+     * {@link FileProcessingServiceImpl#getJob(String)}
+     */
+    @Order(4)
+    @Tag(value = GET_JOB)
+    @DisplayName(GET_JOB + " - Given a failing step, then should report the failed stage without the exception " +
+            "details")
+    @Test
+    void getJob_WhenStepFails_ThenShouldReportFailed() throws Exception {
+        // Arrange
+        service = createService(1, 1, 10, 100, file -> {
+            throw new IllegalStateException("Step failure");
+        });
+
+        // Act
+        FileProcessingJobResponse failed = awaitFinished(service.submit(createFile()).jobId());
+
+        // Assert
+        assertEquals(FileProcessingStatusEnum.FAILED.getValue(), failed.status());
+        assertEquals(MessageUtils.getMessage("msg.file.processing.failed"), failed.errorMessage());
+        assertFalse(failed.errorMessage().contains("Step failure"));
+    }
+
+    /**
+     * Method test for
+     * {@link FileProcessingServiceImpl#getJob(String)}
+     */
+    @Order(5)
+    @Tag(value = GET_JOB)
+    @DisplayName(GET_JOB + " - Given more jobs than the retention, then should only evict finished jobs")
+    @Test
+    void getJob_WhenRetentionExceeded_ThenShouldOnlyEvictFinishedJobs() throws Exception {
+        // Arrange
+        service = createService(1, 1, 10, 1, this::blockingStep);
+        String running = service.submit(createFile()).jobId();
+        assertTrue(stepStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        String queued = service.submit(createFile()).jobId();
+
+        // Act
+        FileProcessingJobResponse runningWhileQueued = service.getJob(running);
+        releaseStep.countDown();
+        awaitFinished(running);
+        awaitFinished(queued);
+        String latest = service.submit(createFile()).jobId();
+
+        // Assert
+        assertEquals(FileProcessingStatusEnum.PROCESSING.getValue(), runningWhileQueued.status());
+        assertThrows(ResourceNotFoundException.class, () -> service.getJob(running));
+        assertThrows(ResourceNotFoundException.class, () -> service.getJob(queued));
+        assertFalse(Files.exists(storageDirectory.resolve(running)));
+        assertFalse(Files.exists(storageDirectory.resolve(queued)));
+        assertNotNull(service.getJob(latest));
+    }
+
+    /**
+     * Method test for
+     * {@link FileProcessingServiceImpl#getJob(String)}
+     */
+    @Order(6)
+    @Tag(value = GET_JOB)
+    @DisplayName(GET_JOB + " - Given a project time service, then should report the job times in the project zone")
+    @Test
+    void getJob_WhenProjectTimeService_ThenShouldReportTimesInProjectZone() throws Exception {
+        // Arrange
+        Instant instant = Instant.parse("2024-05-01T12:00:00Z");
+        ProjectTimeService saoPauloTimeService =
+                new ProjectTimeService(ZoneId.of("America/Sao_Paulo"), Clock.fixed(instant, ZoneOffset.UTC));
+        service = createService(saoPauloTimeService, 1, 1, 10, 100, file -> {
+        });
+
+        // Act
+        FileProcessingJobResponse processed = awaitFinished(service.submit(createFile()).jobId());
+
+        // Assert
+        LocalDateTime expected = LocalDateTime.of(2024, 5, 1, 9, 0);
+        assertEquals(expected, processed.acceptedAt());
+        assertEquals(expected, processed.finishedAt());
+    }
+
+    private FileProcessingServiceImpl createService(int persistMaxConcurrent, int workers, int queueCapacity,
+                                                    int jobRetention, ThrowingStep step) {
+        return createService(timeService, persistMaxConcurrent, workers, queueCapacity, jobRetention, step);
+    }
+
+    private FileProcessingServiceImpl createService(ProjectTimeService projectTimeService, int persistMaxConcurrent,
+                                                    int workers, int queueCapacity, int jobRetention,
+                                                    ThrowingStep step) {
+        @SuppressWarnings("unchecked")
+        ObjectProvider<FileProcessingStep> steps = mock(ObjectProvider.class);
+        FileProcessingStep processingStep = (file, detectedContentType) -> step.process(file);
+        when(steps.orderedStream()).thenReturn(Stream.of(processingStep));
+        return new FileProcessingServiceImpl(steps, projectTimeService, storageDirectory.toString(),
+                persistMaxConcurrent, workers, queueCapacity, jobRetention);
+    }
+
+    private void blockingStep(Path file) throws InterruptedException {
+        stepStarted.countDown();
+        assertTrue(releaseStep.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    private FileProcessingJobResponse awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        FileProcessingJobResponse job = service.getJob(jobId);
+        while (!isFinished(job) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = service.getJob(jobId);
+        }
+        return job;
+    }
+
+    private static boolean isFinished(FileProcessingJobResponse job) {
+        return FileProcessingStatusEnum.fromValue(job.status())
+                .map(FileProcessingStatusEnum::isFinished)
+                .orElse(false);
+    }
+
+    private static MockMultipartFile createFile() {
+        return new MockMultipartFile("file", "notes.txt", "text/plain", "plain text content".getBytes());
+    }
+
+    @FunctionalInterface
+    private interface ThrowingStep {
+
+        void process(Path file) throws Exception;
+    }
+}
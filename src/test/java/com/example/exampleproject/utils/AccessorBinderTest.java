@@ -0,0 +1,104 @@
+package com.example.exampleproject.utils;
+
+import com.example.exampleproject.enums.StatusEnum;
+import org.junit.jupiter.api.*;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Tag(value = "AccessorBinder_Tests")
+@DisplayName("AccessorBinder Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class AccessorBinderTest {
+
+    private static final String FIND = "find";
+
+    private static final String BIND = "bind";
+
+    private record Period(LocalDate start, LocalDate end) {
+    }
+
+    /**
+     * Method test for
+     * {@link AccessorBinder#find(Class, String)}
+     */
+    @Order(1)
+    @Tag(value = FIND)
+    @DisplayName(FIND + " - Given a record component, then should read it from the record")
+    @Test
+    void find_WhenRecordComponent_ThenShouldReadIt() {
+        // Arrange
+        Period period = new Period(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+
+        // Act
+        Optional<Function<Object, Object>> accessor = AccessorBinder.find(Period.class, "end");
+
+        // Assert
+        assertTrue(accessor.isPresent());
+        assertEquals(LocalDate.of(2024, 12, 31), accessor.get().apply(period));
+    }
+
+    /**
+     * Method test for
+     * {@link AccessorBinder#find(Class, String)}
+     */
+    @Order(2)
+    @Tag(value = FIND)
+    @DisplayName(FIND + " - Given an accessor returning a primitive, then should return the boxed value")
+    @Test
+    void find_WhenPrimitiveAccessor_ThenShouldReturnBoxedValue() {
+        // Act
+        Function<Object, Object> accessor = AccessorBinder.find(StatusEnum.class, "getCode").orElseThrow();
+
+        // Assert
+        assertEquals(StatusEnum.ACTIVE.getCode(), accessor.apply(StatusEnum.ACTIVE));
+    }
+
+    /**
+     * Method test for
+     * {@link AccessorBinder#find(Class, String)}
+     */
+    @Order(3)
+    @Tag(value = FIND)
+    @DisplayName(FIND + " - Given the same class and accessor twice, then should return the cached binding")
+    @Test
+    void find_WhenCalledTwice_ThenShouldReturnCachedBinding() {
+        // Act
+        Function<Object, Object> first = AccessorBinder.find(Period.class, "start").orElseThrow();
+        Function<Object, Object> second = AccessorBinder.find(Period.class, "start").orElseThrow();
+
+        // Assert
+        assertSame(first, second);
+    }
+
+    /**
+     * Method test for
+     * {@link AccessorBinder#find(Class, String)}
+     */
+    @Order(4)
+    @Tag(value = FIND)
+    @DisplayName(FIND + " - Given a missing accessor, then should return empty")
+    @Test
+    void find_WhenAccessorMissing_ThenShouldReturnEmpty() {
+        // Act & Assert
+        assertTrue(AccessorBinder.find(Period.class, "duration").isEmpty());
+    }
+
+    /**
+     * Method test for
+     * {@link AccessorBinder#bind(Class, String)}
+     */
+    @Order(5)
+    @Tag(value = BIND)
+    @DisplayName(BIND + " - Given a missing accessor, then should throw IllegalArgumentException")
+    @Test
+    void bind_WhenAccessorMissing_ThenShouldThrow() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> AccessorBinder.bind(Period.class, "duration"));
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.exampleproject.utils;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Tag(value = "Base64FileUtils_Tests")
+@DisplayName("Base64FileUtils Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class Base64FileUtilsTest {
+
+    private static final String DECODE = "decode";
+    private static final String DECODED_LENGTH = "decodedLength";
+    private static final String DECODING_WRITER = "DecodingWriter";
+
+    /**
+     * Method test for
+     * {@link Base64FileUtils#decode(CharSequence, int, int, Base64FileUtils.ChunkConsumer)}
+     */
+    @Order(1)
+    @Tag(value = DECODE)
+    @DisplayName(DECODE + " - Given content of any size with or without padding, then should match java.util.Base64")
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 8191, 8192, 8193, 100000})
+    void decode_WhenValidContent_ThenShouldMatchJavaDecoder(int size) {
+        // Arrange
+        byte[] original = new byte[size];
+        new Random(size).nextBytes(original);
+        String padded = Base64.getEncoder().encodeToString(original);
+        String unpadded = Base64.getEncoder().withoutPadding().encodeToString(original);
+
+        // Act & Assert
+        assertArrayEquals(Base64.getDecoder().decode(padded), decode(padded));
+        assertArrayEquals(Base64.getDecoder().decode(unpadded), decode(unpadded));
+        assertArrayEquals(original, decode(padded));
+    }
+
+    /**
+     * Method test for
+     * {@link Base64FileUtils#decode(CharSequence, int, int, Base64FileUtils.ChunkConsumer)}
+     */
+    @Order(2)
+    @Tag(value = DECODE)
+    @DisplayName(DECODE + " - Given content rejected by java.util.Base64, then should throw IllegalArgumentException")
+    @ParameterizedTest
+    @ValueSource(strings = {"QUJD-_==", "QUJD_w", "QUJD RA==", "QUJD\nRA==", "QUJD\r\nRA==", "QUJD\tRA", "QUJD*A==",
+            "QUJDé", "Q", "QUJDR", "Q===", "QQ=", "QQ=A", "QUI=A", "QUI==", "=QUJD", "QQ==QUJD"})
+    void decode_WhenRejectedByJavaDecoder_ThenShouldThrowIllegalArgumentException(String content) {
+        // Arrange
+        assertThrows(IllegalArgumentException.class, () -> Base64.getDecoder().decode(content));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> decode(content));
+        assertThrows(IllegalArgumentException.class, () -> decodeOneCharacterPerWrite(content));
+    }
+
+    /**
+     * Method test for
+     * {@link Base64FileUtils#decode(CharSequence, int, int, Base64FileUtils.ChunkConsumer)}
+     */
+    @Order(3)
+    @Tag(value = DECODE)
+    @DisplayName(DECODE + " - Given content inside a larger sequence, then should only decode the given range")
+    @Test
+    void decode_WhenRangeInsideSequence_ThenShouldOnlyDecodeRange() {
+        // Arrange
+        String source = "data:text/plain;base64,QUJD,ignored";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long written = Base64FileUtils.decode(source, 23, 27, collector(output));
+
+        // Assert
+        assertEquals(3, written);
+        assertEquals("ABC", output.toString());
+    }
+
+    /**
+     * Method test for
+     * {@link Base64FileUtils#decodedLength(CharSequence, int, int)}
+     */
+    @Order(4)
+    @Tag(value = DECODED_LENGTH)
+    @DisplayName(DECODED_LENGTH + " - Given valid content, then should return the size decoded by java.util.Base64")
+    @ParameterizedTest
+    @ValueSource(strings = {"", "QQ", "QQ==", "QUI", "QUI=", "QUJD", "QUJDRA", "QUJDRA==", "QUJDREVG"})
+    void decodedLength_WhenValidContent_ThenShouldMatchJavaDecoder(String content) {
+        // Act & Assert
+        assertEquals(Base64.getDecoder().decode(content).length,
+                Base64FileUtils.decodedLength(content, 0, content.length()));
+    }
+
+    /**
+     * Method test for
+     * {@link Base64FileUtils.DecodingWriter#write(char[], int, int)}
+     */
+    @Order(5)
+    @Tag(value = DECODING_WRITER)
+    @DisplayName(DECODING_WRITER + " - Given content split across writes, then should decode as a single write")
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 5, 4096, 8193})
+    void decodingWriter_WhenContentSplitAcrossWrites_ThenShouldDecodeAsSingleWrite(int segmentLength) {
+        // Arrange
+        byte[] original = new byte[20000];
+        new Random(segmentLength).nextBytes(original);
+        char[] content = Base64.getEncoder().encodeToString(original).toCharArray();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long written;
+        try (Base64FileUtils.DecodingWriter decoder = new Base64FileUtils.DecodingWriter(collector(output))) {
+            for (int offset = 0; offset < content.length; offset += segmentLength) {
+                decoder.write(content, offset, Math.min(segmentLength, content.length - offset));
+            }
+            written = decoder.finish();
+        }
+
+        // Assert
+        assertEquals(original.length, written);
+        assertArrayEquals(original, output.toByteArray());
+    }
+
+    private static byte[] decode(String content) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Base64FileUtils.decode(content, 0, content.length(), collector(output));
+        return output.toByteArray();
+    }
+
+    private static byte[] decodeOneCharacterPerWrite(String content) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        char[] chars = content.toCharArray();
+        try (Base64FileUtils.DecodingWriter decoder = new Base64FileUtils.DecodingWriter(collector(output))) {
+            for (int i = 0; i < chars.length; i++) {
+                decoder.write(chars, i, 1);
+            }
+            decoder.finish();
+        }
+        return output.toByteArray();
+    }
+
+    private static Base64FileUtils.ChunkConsumer collector(ByteArrayOutputStream output) {
+        return (buffer, length) -> output.write(buffer, 0, length);
+    }
+}
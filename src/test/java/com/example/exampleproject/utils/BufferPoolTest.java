@@ -0,0 +1,132 @@
+package com.example.exampleproject.utils;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Tag(value = "BufferPool_Tests")
+@DisplayName("BufferPool Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class BufferPoolTest {
+
+    private static final String ACQUIRE = "acquire";
+
+    private static final long LEAK_TIMEOUT_SECONDS = 10;
+
+    @Autowired
+    private BufferPool bufferPool;
+
+    /**
+     * Method test for
+     * {@link BufferPool#acquire(int)}
+     */
+    @Order(1)
+    @Tag(value = ACQUIRE)
+    @DisplayName(ACQUIRE + " - Given a released buffer, when acquiring the same size class on the same thread, " +
+            "then should reuse it")
+    @Test
+    void acquire_WhenBufferReleased_ThenShouldReuseIt() {
+        // Arrange
+        byte[] first;
+        try (BufferPool.Buffer buffer = BufferPool.acquire(1000)) {
+            first = buffer.array();
+        }
+        BufferPool.Stats before = bufferPool.getStats();
+
+        // Act
+        byte[] second;
+        try (BufferPool.Buffer buffer = BufferPool.acquire(2000)) {
+            second = buffer.array();
+        }
+        BufferPool.Stats after = bufferPool.getStats();
+
+        // Assert
+        assertSame(first, second);
+        assertTrue(second.length >= 2000);
+        assertEquals(before.hits() + 1, after.hits());
+        assertEquals(before.misses(), after.misses());
+    }
+
+    /**
+     * Method test for
+     * {@link BufferPool#acquire(int)}
+     */
+    @Order(2)
+    @Tag(value = ACQUIRE)
+    @DisplayName(ACQUIRE + " - Given a capacity above the largest size class, then should allocate and count a miss")
+    @Test
+    void acquire_WhenCapacityAboveLargestClass_ThenShouldCountMiss() {
+        // Arrange
+        int capacity = 4 * 1024 * 1024;
+        BufferPool.Stats before = bufferPool.getStats();
+
+        // Act
+        try (BufferPool.Buffer buffer = BufferPool.acquire(capacity)) {
+            BufferPool.Stats during = bufferPool.getStats();
+
+            // Assert
+            assertEquals(capacity, buffer.capacity());
+            assertEquals(before.misses() + 1, during.misses());
+            assertEquals(before.outstanding() + 1, during.outstanding());
+        }
+
+        assertEquals(before.outstanding(), bufferPool.getStats().outstanding());
+    }
+
+    /**
+     * Method test for
+     * {@link BufferPool.Buffer#close()}
+     */
+    @Order(3)
+    @Tag(value = ACQUIRE)
+    @DisplayName(ACQUIRE + " - Given a released buffer, when accessing its array, then should throw")
+    @Test
+    void acquire_WhenArrayAccessedAfterClose_ThenShouldThrow() {
+        // Arrange
+        BufferPool.Buffer buffer = BufferPool.acquire(10);
+
+        // Act
+        buffer.close();
+        buffer.close();
+
+        // Assert
+        assertThrows(IllegalStateException.class, buffer::array);
+    }
+
+    /**
+     * Method test for
+     * {@link BufferPool#getStats()}
+     */
+    @Order(4)
+    @Tag(value = ACQUIRE)
+    @DisplayName(ACQUIRE + " - Given a buffer garbage collected without being released, then should count a leak")
+    @Test
+    void acquire_WhenBufferNeverReleased_ThenShouldCountLeak() throws InterruptedException {
+        // Arrange
+        BufferPool.Stats before = bufferPool.getStats();
+
+        // Act
+        acquireWithoutRelease();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(LEAK_TIMEOUT_SECONDS);
+        BufferPool.Stats after = bufferPool.getStats();
+        while (after.leaks() == before.leaks() && System.nanoTime() < deadline) {
+            System.gc();
+            Thread.sleep(10);
+            after = bufferPool.getStats();
+        }
+
+        // Assert
+        long leaks = after.leaks() - before.leaks();
+        assertTrue(leaks > 0, "The unreleased buffer should be reported as a leak");
+        assertEquals(before.outstanding() + 1 - leaks, after.outstanding());
+    }
+
+    private static void acquireWithoutRelease() {
+        assertNotNull(BufferPool.acquire(10).array());
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.exampleproject.utils;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Tag(value = "CpfCnpjUtils_Tests")
+@DisplayName("CpfCnpjUtils Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CpfCnpjUtilsTest {
+
+    private static final char CSV_DELIMITER = '|';
+
+    private static final String CHECK = "check";
+
+    private static final String VALIDATE_ALL = "validateAll";
+
+    private static final String VALID_CPF = "52998224725";
+
+    private static final String VALID_CNPJ = "11222333000181";
+
+    /**
+     * Method test for
+     * {@link CpfCnpjUtils#check(CharSequence)}
+     */
+    @Order(1)
+    @Tag(value = CHECK)
+    @DisplayName(CHECK + " - Given a value, then should return the first rule it breaks")
+    @ParameterizedTest
+    @CsvSource(value = {
+            "52998224725|VALID",
+            "11222333000181|VALID",
+            "12ABC34501DE35|VALID",
+            "529.982.247-25|INVALID_FORMAT",
+            "5299822472a|INVALID_FORMAT",
+            "abc|INVALID_FORMAT",
+            "''|INVALID_FORMAT",
+            "1234567890123|INVALID_LENGTH",
+            "12345|INVALID_LENGTH",
+            "52998224799|INVALID_CPF_CHECK_DIGIT",
+            "11111111111|INVALID_CPF_CHECK_DIGIT",
+            "11222333000199|INVALID_CNPJ_CHECK_DIGIT",
+            "00000000000000|INVALID_CNPJ_CHECK_DIGIT",
+            "12ABC34501DE36|INVALID_CNPJ_CHECK_DIGIT",
+            "12abc34501DE35|INVALID_FORMAT",
+            "12ABC34501DEA5|INVALID_FORMAT",
+            "5299822472A|INVALID_FORMAT",
+            "12ABC|INVALID_LENGTH"
+    }, delimiter = CSV_DELIMITER)
+    void check_WhenValueGiven_ThenShouldReturnExpectedResult(String value, CpfCnpjUtils.Result expected) {
+        // Act
+        CpfCnpjUtils.Result result = CpfCnpjUtils.check(value);
+
+        // Assert
+        assertEquals(expected, result);
+    }
+
+    /**
+     * Method test for
+     * {@link CpfCnpjUtils#check(CharSequence)}
+     */
+    @Order(2)
+    @Tag(value = CHECK)
+    @DisplayName(CHECK + " - Given a null value, then should return invalid format")
+    @Test
+    void check_WhenValueIsNull_ThenShouldReturnInvalidFormat() {
+        // Act & Assert
+        assertEquals(CpfCnpjUtils.Result.INVALID_FORMAT, CpfCnpjUtils.check(null));
+    }
+
+    /**
+     * Method test for
+     * {@link CpfCnpjUtils#validateAll(CharSequence[])}
+     */
+    @Order(3)
+    @Tag(value = VALIDATE_ALL)
+    @DisplayName(VALIDATE_ALL + " - Given an array of values, then should flag the valid indexes")
+    @Test
+    void validateAll_WhenArrayGiven_ThenShouldFlagValidIndexes() {
+        // Arrange
+        CharSequence[] values = {VALID_CPF, "52998224799", null, new StringBuilder(VALID_CNPJ)};
+
+        // Act
+        CpfCnpjUtils.BulkResult result = CpfCnpjUtils.validateAll(values);
+
+        // Assert
+        assertEquals(4, result.count());
+        assertTrue(result.isValid(0));
+        assertFalse(result.isValid(1));
+        assertFalse(result.isValid(2));
+        assertTrue(result.isValid(3));
+        assertEquals(2, result.validCount());
+        assertEquals(2, result.invalidCount());
+    }
+
+    /**
+     * Method test for
+     * {@link CpfCnpjUtils#validateAll(java.io.Reader)}
+     */
+    @Order(4)
+    @Tag(value = VALIDATE_ALL)
+    @DisplayName(VALIDATE_ALL + " - Given a newline-delimited stream, then should flag the valid lines")
+    @Test
+    void validateAll_WhenReaderGiven_ThenShouldFlagValidLines() throws IOException {
+        // Arrange
+        String content = VALID_CPF + "\r\n"
+                + "\n"
+                + VALID_CNPJ + "0000\n"
+                + "11222333000199\n"
+                + VALID_CNPJ + "\n";
+
+        // Act
+        CpfCnpjUtils.BulkResult result = CpfCnpjUtils.validateAll(new StringReader(content));
+
+        // Assert
+        assertEquals(5, result.count());
+        assertTrue(result.isValid(0));
+        assertFalse(result.isValid(1));
+        assertFalse(result.isValid(2));
+        assertFalse(result.isValid(3));
+        assertTrue(result.isValid(4));
+    }
+
+    /**
+     * Method test for
+     * {@link CpfCnpjUtils#validateAll(java.io.Reader)}
+     */
+    @Order(5)
+    @Tag(value = VALIDATE_ALL)
+    @DisplayName(VALIDATE_ALL + " - Given a stream without trailing newline, then should count the last line")
+    @Test
+    void validateAll_WhenNoTrailingNewline_ThenShouldCountLastLine() throws IOException {
+        // Act
+        CpfCnpjUtils.BulkResult result = CpfCnpjUtils.validateAll(new StringReader(VALID_CPF + "\n" + VALID_CNPJ));
+
+        // Assert
+        assertEquals(2, result.count());
+        assertEquals(2, result.validCount());
+    }
+}
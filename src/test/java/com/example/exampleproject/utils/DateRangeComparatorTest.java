@@ -0,0 +1,126 @@
+package com.example.exampleproject.utils;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Tag(value = "DateRangeComparator_Tests")
+@DisplayName("DateRangeComparator Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class DateRangeComparatorTest {
+
+    private static final String FOR_TYPES = "forTypes";
+
+    private static final String IS_AFTER = "isAfter";
+
+    @Autowired
+    private ProjectTimeService timeService;
+
+    /**
+     * Method test for
+     * {@link DateRangeComparator#forTypes(Class, Class)}
+     */
+    @Order(1)
+    @Tag(value = FOR_TYPES)
+    @DisplayName(FOR_TYPES + " - Given same and different types, then should choose the typed or mixed comparison")
+    @Test
+    void forTypes_WhenSameOrDifferentTypes_ThenShouldChooseComparison() {
+        // Act & Assert
+        assertEquals(DateRangeComparator.LOCAL_DATE, DateRangeComparator.forTypes(LocalDate.class, LocalDate.class));
+        assertEquals(DateRangeComparator.LOCAL_DATE_TIME,
+                DateRangeComparator.forTypes(LocalDateTime.class, LocalDateTime.class));
+        assertEquals(DateRangeComparator.ZONED_DATE_TIME,
+                DateRangeComparator.forTypes(ZonedDateTime.class, ZonedDateTime.class));
+        assertEquals(DateRangeComparator.DATE, DateRangeComparator.forTypes(Date.class, Date.class));
+        assertEquals(DateRangeComparator.MIXED, DateRangeComparator.forTypes(LocalDate.class, LocalDateTime.class));
+        assertEquals(DateRangeComparator.MIXED, DateRangeComparator.forTypes(Object.class, Object.class));
+    }
+
+    /**
+     * Method test for
+     * {@link DateRangeComparator#isAfter(Object, Object, ProjectTimeService)}
+     */
+    @Order(2)
+    @Tag(value = IS_AFTER)
+    @DisplayName(IS_AFTER + " - Given dates of different types, then should compare them in the project zone")
+    @Test
+    void isAfter_WhenMixedTypes_ThenShouldCompareInProjectZone() {
+        // Arrange
+        LocalDate date = LocalDate.of(2024, 5, 1);
+        LocalDateTime nextNanosecond = date.atTime(0, 0, 0, 1);
+        ZonedDateTime startOfDay = date.atStartOfDay(timeService.getZoneId());
+        Date legacyStartOfDay = Date.from(startOfDay.toInstant());
+
+        // Act & Assert
+        assertTrue(DateRangeComparator.MIXED.isAfter(nextNanosecond, date, timeService));
+        assertFalse(DateRangeComparator.MIXED.isAfter(date, nextNanosecond, timeService));
+        assertFalse(DateRangeComparator.MIXED.isAfter(date, startOfDay, timeService));
+        assertFalse(DateRangeComparator.MIXED.isAfter(legacyStartOfDay, date, timeService));
+        assertTrue(DateRangeComparator.MIXED.isAfter(nextNanosecond, legacyStartOfDay, timeService));
+    }
+
+    /**
+     * Method test for
+     * {@link DateRangeComparator#isAfter(Object, Object, ProjectTimeService)}
+     */
+    @Order(3)
+    @Tag(value = IS_AFTER)
+    @DisplayName(IS_AFTER + " - Given zoned dates with different offsets, then should compare their instants")
+    @Test
+    void isAfter_WhenZonedDatesWithDifferentOffsets_ThenShouldCompareInstants() {
+        // Arrange
+        ZonedDateTime dateA = ZonedDateTime.of(2024, 5, 1, 10, 0, 0, 0, ZoneOffset.ofHours(-3));
+        ZonedDateTime dateB = ZonedDateTime.of(2024, 5, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+        // Act & Assert
+        assertTrue(DateRangeComparator.ZONED_DATE_TIME.isAfter(dateA, dateB, timeService));
+        assertFalse(DateRangeComparator.ZONED_DATE_TIME.isAfter(dateB, dateA, timeService));
+    }
+
+    /**
+     * Method test for
+     * {@link DateRangeComparator#isAfter(Object, Object, ProjectTimeService)}
+     */
+    @Order(4)
+    @Tag(value = IS_AFTER)
+    @DisplayName(IS_AFTER + " - Given an unsupported date type, then should throw IllegalArgumentException")
+    @Test
+    void isAfter_WhenUnsupportedType_ThenShouldThrow() {
+        // Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> DateRangeComparator.MIXED.isAfter(123, LocalDate.now(), timeService));
+
+        // Assert
+        assertEquals("Unsupported date type: 123", exception.getMessage());
+    }
+
+    /**
+     * Method test for
+     * {@link DateRangeComparator#isAfter(Object, Object, ProjectTimeService)}
+     */
+    @Order(5)
+    @Tag(value = IS_AFTER)
+    @DisplayName(IS_AFTER + " - Given a zone with offset transitions, then should place local dates in that zone")
+    @Test
+    void isAfter_WhenZoneWithTransitions_ThenShouldPlaceLocalDatesInThatZone() {
+        // Arrange
+        ProjectTimeService parisTimeService = new ProjectTimeService(ZoneId.of("Europe/Paris"), Clock.systemUTC());
+        LocalDateTime summerNoon = LocalDateTime.of(2024, 7, 1, 12, 0);
+        ZonedDateTime elevenUtc = ZonedDateTime.of(2024, 7, 1, 11, 0, 0, 0, ZoneOffset.UTC);
+
+        // Act & Assert
+        assertFalse(DateRangeComparator.MIXED.isAfter(summerNoon, elevenUtc, parisTimeService));
+        assertTrue(DateRangeComparator.MIXED.isAfter(summerNoon, elevenUtc, timeService));
+    }
+}
@@ -4,6 +4,7 @@ import com.example.exampleproject.configs.exceptions.custom.BusinessException;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.i18n.LocaleContextHolder;
 
@@ -42,6 +43,9 @@ class DateUtilsTest {
 
     private Locale defaultLocale;
 
+    @Autowired
+    private ProjectTimeService timeService;
+
     @BeforeEach
     void setUp() {
         defaultLocale = LocaleContextHolder.getLocale();
@@ -54,7 +58,7 @@ class DateUtilsTest {
 
     /**
      * Method test for
-     * {@link DateUtils#checkDateRange(Object, String, Object, String)}
+     * {@link DateUtils#checkDateRange(Object, String, Object, String, ProjectTimeService)}
      */
     @Order(1)
     @Tag(value = CHECK_DATE_RANGE)
@@ -70,14 +74,14 @@ class DateUtilsTest {
         // Act and Assert
         assertDoesNotThrow(() ->
                         DateUtils.checkDateRange(
-                                exampleObject.dateA, "dateA", exampleObject.dateB, "dateB"),
+                                exampleObject.dateA, "dateA", exampleObject.dateB, "dateB", timeService),
                 "checkDateRange should does not throw when dateA and dateB are in valid range");
 
     }
 
     /**
      * Method test for
-     * {@link DateUtils#checkDateRange(Object, String, Object, String)}
+     * {@link DateUtils#checkDateRange(Object, String, Object, String, ProjectTimeService)}
      */
     @Order(2)
     @Tag(value = CHECK_DATE_RANGE)
@@ -93,13 +97,13 @@ class DateUtilsTest {
         // Act and Assert
         assertDoesNotThrow(() ->
                         DateUtils.checkDateRange(
-                                exampleObject.dateA, "dateA", exampleObject.dateB, "dateB"),
+                                exampleObject.dateA, "dateA", exampleObject.dateB, "dateB", timeService),
                 "checkDateRange should does not throw when dateA and dateB are in valid range");
     }
 
     /**
      * Method test for
-     * {@link DateUtils#checkDateRange(Object, String, Object, String)}
+     * {@link DateUtils#checkDateRange(Object, String, Object, String, ProjectTimeService)}
      */
     @Order(3)
     @Tag(value = CHECK_DATE_RANGE)
@@ -114,13 +118,14 @@ class DateUtilsTest {
 
         // Act and Assert
         assertDoesNotThrow(() ->
-                        DateUtils.checkDateRange(exampleObject.dateA, "dateA", exampleObject.dateB, "dateB"),
+                        DateUtils.checkDateRange(
+                                exampleObject.dateA, "dateA", exampleObject.dateB, "dateB", timeService),
                 "checkDateRange should does not throw when dateA and dateB are in valid range");
     }
 
     /**
      * Method test for
-     * {@link DateUtils#checkDateRange(Object, String, Object, String)}
+     * {@link DateUtils#checkDateRange(Object, String, Object, String, ProjectTimeService)}
      */
     @Order(4)
     @Tag(value = CHECK_DATE_RANGE)
@@ -135,13 +140,14 @@ class DateUtilsTest {
 
         // Act and Assert
         assertDoesNotThrow(() ->
-                        DateUtils.checkDateRange(exampleObject.dateA, "dateA", exampleObject.dateB, "dateB"),
+                        DateUtils.checkDateRange(
+                                exampleObject.dateA, "dateA", exampleObject.dateB, "dateB", timeService),
                 "checkDateRange should does not throw when dateA and dateB are in valid range");
     }
 
     /**
      * Method test for
-     * {@link DateUtils#checkDateRange(Object, String, Object, String)}
+     * {@link DateUtils#checkDateRange(Object, String, Object, String, ProjectTimeService)}
      */
     @Order(5)
     @Tag(value = CHECK_DATE_RANGE)
@@ -156,13 +162,14 @@ class DateUtilsTest {
 
         // Act and Assert
         assertDoesNotThrow(() ->
-                        DateUtils.checkDateRange(exampleObject.dateA, "dateA", exampleObject.dateB, "dateB"),
+                        DateUtils.checkDateRange(
+                                exampleObject.dateA, "dateA", exampleObject.dateB, "dateB", timeService),
                 "checkDateRange should does not throw when dateA and dateB are in valid range");
     }
 
     /**
      * Method test for
-     * {@link DateUtils#checkDateRange(Object, String, Object, String)}
+     * {@link DateUtils#checkDateRange(Object, String, Object, String, ProjectTimeService)}
      */
     @Order(6)
     @Tag(value = CHECK_DATE_RANGE)
@@ -186,7 +193,7 @@ class DateUtilsTest {
         // Act
         BusinessException exception =
                 assertThrows(BusinessException.class,
-                        () -> DateUtils.checkDateRange(dateA, dateAName, dateB, dateBName),
+                        () -> DateUtils.checkDateRange(dateA, dateAName, dateB, dateBName, timeService),
                         "Should throw BusinessException.");
 
         // Assert
@@ -195,7 +202,7 @@ class DateUtilsTest {
 
     /**
      * Method test for
-     * {@link DateUtils#checkDateRange(Object, String, Object, String)}
+     * {@link DateUtils#checkDateRange(Object, String, Object, String, ProjectTimeService)}
      */
     @Order(7)
     @Tag(value = CHECK_DATE_RANGE)
@@ -217,7 +224,7 @@ class DateUtilsTest {
         // Act
         BusinessException exception =
                 assertThrows(BusinessException.class,
-                        () -> DateUtils.checkDateRange(null, dateAName, dateB, dateBName),
+                        () -> DateUtils.checkDateRange(null, dateAName, dateB, dateBName, timeService),
                         "Should throw BusinessException.");
 
         // Assert
@@ -227,7 +234,7 @@ class DateUtilsTest {
 
     /**
      * Method test for
-     * {@link DateUtils#checkDateRange(Object, String, Object, String)}
+     * {@link DateUtils#checkDateRange(Object, String, Object, String, ProjectTimeService)}
      */
     @Order(8)
     @Tag(value = CHECK_DATE_RANGE)
@@ -249,7 +256,7 @@ class DateUtilsTest {
         // Act
         BusinessException exception =
                 assertThrows(BusinessException.class,
-                        () -> DateUtils.checkDateRange(dateA, dateAName, null, dateBName),
+                        () -> DateUtils.checkDateRange(dateA, dateAName, null, dateBName, timeService),
                         "Should throw BusinessException.");
 
         // Assert
@@ -258,7 +265,7 @@ class DateUtilsTest {
 
     /**
      * Method test for
-     * {@link DateUtils#checkDateRange(Object, String, Object, String)}
+     * {@link DateUtils#checkDateRange(Object, String, Object, String, ProjectTimeService)}
      */
     @Order(9)
     @Tag(value = CHECK_DATE_RANGE)
@@ -268,13 +275,13 @@ class DateUtilsTest {
 
         // Act and Assert
         assertDoesNotThrow(() ->
-                        DateUtils.checkDateRange(null, "dateA", null, "dateB"),
+                        DateUtils.checkDateRange(null, "dateA", null, "dateB", timeService),
                 "checkDateRange should does not throw when dateA and dateB are null");
     }
 
     /**
      * Method test for
-     * {@link DateUtils#checkDateRange(Object, String, Object, String)}
+     * {@link DateUtils#checkDateRange(Object, String, Object, String, ProjectTimeService)}
      */
     @Order(10)
     @Tag(value = CHECK_DATE_RANGE)
@@ -288,7 +295,7 @@ class DateUtilsTest {
         // Act
         BusinessException exception =
                 assertThrows(BusinessException.class,
-                        () -> DateUtils.checkDateRange(dateA, "dateA", dateB, "dateB"),
+                        () -> DateUtils.checkDateRange(dateA, "dateA", dateB, "dateB", timeService),
                         "Should throw BusinessException.");
 
         assertEquals("Unsupported date type: " + dateA, exception.getMessage());
@@ -0,0 +1,151 @@
+package com.example.exampleproject.utils;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Tag(value = "FastDateTimeParser_Tests")
+@DisplayName("FastDateTimeParser Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class FastDateTimeParserTest {
+
+    private static final String PARSE_LOCAL_DATE = "parseLocalDate";
+
+    private static final String PARSE_LOCAL_DATE_TIME = "parseLocalDateTime";
+
+    private static final String PARSE_LOCAL_TIME = "parseLocalTime";
+
+    private static final String PARSE_ZONED_DATE_TIME = "parseZonedDateTime";
+
+    /**
+     * Method test for
+     * {@link FastDateTimeParser#parseLocalDate(char[], int, int)}
+     */
+    @Order(1)
+    @Tag(value = PARSE_LOCAL_DATE)
+    @DisplayName(PARSE_LOCAL_DATE + " - Given a valid date inside a buffer, then should parse it as the formatter")
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-02-29", "2023-12-31", "0001-01-01", "2024-04-30"})
+    void parseLocalDate_WhenValidDate_ThenShouldParseAsFormatter(String text) {
+        // Arrange
+        char[] buffer = ("\"" + text + "\"").toCharArray();
+
+        // Act
+        LocalDate result = FastDateTimeParser.parseLocalDate(buffer, 1, text.length());
+
+        // Assert
+        assertEquals(LocalDate.parse(text, DateTimeFormatter.ofPattern(DateUtils.LOCAL_DATE_DESERIALIZER_FORMAT)),
+                result);
+    }
+
+    /**
+     * Method test for
+     * {@link FastDateTimeParser#parseLocalDate(char[], int, int)}
+     */
+    @Order(2)
+    @Tag(value = PARSE_LOCAL_DATE)
+    @DisplayName(PARSE_LOCAL_DATE + " - Given a malformed or out of range date, then should return null")
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-13-01", "2023-02-29", "2024-04-31", "0000-01-01", "2024/01/01", "2024-1-01",
+            " 2024-01-01", "2024-01-0a", "12024-01-01", ""})
+    void parseLocalDate_WhenMalformedOrOutOfRange_ThenShouldReturnNull(String text) {
+        // Act & Assert
+        assertNull(FastDateTimeParser.parseLocalDate(text.toCharArray(), 0, text.length()));
+    }
+
+    /**
+     * Method test for
+     * {@link FastDateTimeParser#parseLocalDateTime(char[], int, int)}
+     */
+    @Order(3)
+    @Tag(value = PARSE_LOCAL_DATE_TIME)
+    @DisplayName(PARSE_LOCAL_DATE_TIME + " - Given a valid date and time, then should parse it as the formatter")
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-05-01 00:00:00", "2024-05-01 23:59:59", "1999-12-31 12:34:56"})
+    void parseLocalDateTime_WhenValidDateTime_ThenShouldParseAsFormatter(String text) {
+        // Act
+        LocalDateTime result = FastDateTimeParser.parseLocalDateTime(text.toCharArray(), 0, text.length());
+
+        // Assert
+        assertEquals(LocalDateTime.parse(text,
+                DateTimeFormatter.ofPattern(DateUtils.LOCAL_DATE_TIME_DESERIALIZER_FORMAT)), result);
+    }
+
+    /**
+     * Method test for
+     * {@link FastDateTimeParser#parseLocalDateTime(char[], int, int)}
+     */
+    @Order(4)
+    @Tag(value = PARSE_LOCAL_DATE_TIME)
+    @DisplayName(PARSE_LOCAL_DATE_TIME + " - Given a malformed or out of range date and time, then should return null")
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-05-01T10:00:00", "2024-05-01 24:00:00", "2024-05-01 10:60:00",
+            "2024-05-01 10:00:60", "2024-05-01 10-00-00", "2024-05-01"})
+    void parseLocalDateTime_WhenMalformedOrOutOfRange_ThenShouldReturnNull(String text) {
+        // Act & Assert
+        assertNull(FastDateTimeParser.parseLocalDateTime(text.toCharArray(), 0, text.length()));
+    }
+
+    /**
+     * Method test for
+     * {@link FastDateTimeParser#parseLocalTime(char[], int, int)}
+     */
+    @Order(5)
+    @Tag(value = PARSE_LOCAL_TIME)
+    @DisplayName(PARSE_LOCAL_TIME + " - Given a valid and an invalid time, then should parse only the valid one")
+    @Test
+    void parseLocalTime_WhenValidAndInvalidTime_ThenShouldParseOnlyValid() {
+        // Arrange
+        String valid = "08:15:30";
+        String invalid = "8:15:30";
+
+        // Act & Assert
+        assertEquals(LocalTime.of(8, 15, 30), FastDateTimeParser.parseLocalTime(valid.toCharArray(), 0, 8));
+        assertNull(FastDateTimeParser.parseLocalTime(invalid.toCharArray(), 0, invalid.length()));
+    }
+
+    /**
+     * Method test for
+     * {@link FastDateTimeParser#parseZonedDateTime(char[], int, int)}
+     */
+    @Order(6)
+    @Tag(value = PARSE_ZONED_DATE_TIME)
+    @DisplayName(PARSE_ZONED_DATE_TIME + " - Given a valid zoned date and time, then should parse it as the formatter")
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-05-01T10:15:30.123Z", "2024-05-01T10:15:30.001-03:00",
+            "2024-05-01T10:15:30.999+05:30", "2024-05-01T10:15:30.000+00:00", "2024-05-01T10:15:30.000-18:00"})
+    void parseZonedDateTime_WhenValidZonedDateTime_ThenShouldParseAsFormatter(String text) {
+        // Act
+        ZonedDateTime result = FastDateTimeParser.parseZonedDateTime(text.toCharArray(), 0, text.length());
+
+        // Assert
+        assertEquals(ZonedDateTime.parse(text,
+                DateTimeFormatter.ofPattern(DateUtils.ZONED_DATE_TIME_DESERIALIZER_FORMAT)), result);
+    }
+
+    /**
+     * Method test for
+     * {@link FastDateTimeParser#parseZonedDateTime(char[], int, int)}
+     */
+    @Order(7)
+    @Tag(value = PARSE_ZONED_DATE_TIME)
+    @DisplayName(PARSE_ZONED_DATE_TIME + " - Given a malformed zoned date and time, then should return null")
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-05-01T10:15:30.123", "2024-05-01T10:15:30.123z", "2024-05-01T10:15:30.12Z",
+            "2024-05-01T10:15:30.123+0300", "2024-05-01T10:15:30.123+18:30", "2024-05-01 10:15:30.123Z",
+            "2024-05-01T10:15:30.123+03:00:00"})
+    void parseZonedDateTime_WhenMalformed_ThenShouldReturnNull(String text) {
+        // Act & Assert
+        assertNull(FastDateTimeParser.parseZonedDateTime(text.toCharArray(), 0, text.length()));
+    }
+}
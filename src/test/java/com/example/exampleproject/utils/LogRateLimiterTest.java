@@ -0,0 +1,63 @@
+package com.example.exampleproject.utils;
+
+import org.junit.jupiter.api.*;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Tag(value = "LogRateLimiter_Tests")
+@DisplayName("LogRateLimiter Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class LogRateLimiterTest {
+
+    private static final String TRY_ACQUIRE = "tryAcquire";
+
+    /**
+     * Method test for
+     * {@link LogRateLimiter#tryAcquire()}
+     */
+    @Order(1)
+    @Tag(value = TRY_ACQUIRE)
+    @DisplayName(TRY_ACQUIRE + " - Given calls within the interval, then should permit only the first one")
+    @Test
+    void tryAcquire_WhenCallsWithinInterval_ThenShouldPermitOnlyFirst() {
+        // Arrange
+        LogRateLimiter limiter = new LogRateLimiter(Duration.ofHours(1));
+
+        // Act
+        long first = limiter.tryAcquire();
+        long second = limiter.tryAcquire();
+        long third = limiter.tryAcquire();
+
+        // Assert
+        assertEquals(0, first);
+        assertEquals(-1, second);
+        assertEquals(-1, third);
+    }
+
+    /**
+     * Method test for
+     * {@link LogRateLimiter#tryAcquire()}
+     */
+    @Order(2)
+    @Tag(value = TRY_ACQUIRE)
+    @DisplayName(TRY_ACQUIRE + " - Given an elapsed interval, then should permit and report the suppressed calls")
+    @Test
+    void tryAcquire_WhenIntervalElapsed_ThenShouldReportSuppressedCalls() throws InterruptedException {
+        // Arrange
+        LogRateLimiter limiter = new LogRateLimiter(Duration.ofMillis(50));
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        // Act
+        Thread.sleep(100);
+        long permitted = limiter.tryAcquire();
+
+        // Assert
+        assertEquals(2, permitted);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.exampleproject.utils;
+
+import org.junit.jupiter.api.*;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Tag(value = "ProjectTimeService_Tests")
+@DisplayName("ProjectTimeService Tests")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ProjectTimeServiceTest {
+
+    private static final String CURRENT_DATE_TIME = "currentDateTime";
+
+    private static final String GET_FIXED_OFFSET = "getFixedOffset";
+
+    private static final String CONSTRUCTOR = "ProjectTimeService";
+
+    /**
+     * Method test for
+     * {@link ProjectTimeService#currentDateTime()}
+     */
+    @Order(1)
+    @Tag(value = CURRENT_DATE_TIME)
+    @DisplayName(CURRENT_DATE_TIME + " - Given calls within a second, then should return the same truncated value")
+    @Test
+    void currentDateTime_WhenCallsWithinSecond_ThenShouldReturnSameTruncatedValue() {
+        // Arrange
+        Instant instant = Instant.parse("2024-03-10T12:30:45.678Z");
+        ProjectTimeService timeService =
+                new ProjectTimeService(ZoneId.of("America/Sao_Paulo"), Clock.fixed(instant, ZoneOffset.UTC));
+
+        // Act
+        LocalDateTime first = timeService.currentDateTime();
+        LocalDateTime second = timeService.currentDateTime();
+
+        // Assert
+        assertEquals(LocalDateTime.of(2024, 3, 10, 9, 30, 45), first);
+        assertSame(first, second);
+        assertEquals(first.toLocalDate(), timeService.today());
+        assertEquals(first.toLocalTime(), timeService.currentTime());
+    }
+
+    /**
+     * Method test for
+     * {@link ProjectTimeService#getFixedOffset()}
+     */
+    @Order(2)
+    @Tag(value = GET_FIXED_OFFSET)
+    @DisplayName(GET_FIXED_OFFSET + " - Given a zone with or without transitions, then should return its fixed offset")
+    @Test
+    void getFixedOffset_WhenZoneWithOrWithoutTransitions_ThenShouldReturnFixedOffsetOrNull() {
+        // Arrange
+        ProjectTimeService utc = new ProjectTimeService(ZoneId.of("UTC"), Clock.systemUTC());
+        ProjectTimeService newYork = new ProjectTimeService(ZoneId.of("America/New_York"), Clock.systemUTC());
+
+        // Act
+        ZoneOffset utcOffset = utc.getFixedOffset();
+        ZoneOffset newYorkOffset = newYork.getFixedOffset();
+
+        // Assert
+        assertEquals(ZoneOffset.UTC, utcOffset);
+        assertNull(newYorkOffset);
+        assertEquals(ZoneOffset.ofHours(-4), newYork.getOffset(Instant.parse("2024-07-01T00:00:00Z")));
+    }
+
+    /**
+     * Method test for
+     * {@link ProjectTimeService#ProjectTimeService(String)}
+     */
+    @Order(3)
+    @Tag(value = CONSTRUCTOR)
+    @DisplayName(CONSTRUCTOR + " - Given an invalid zone configuration, then should fall back to UTC")
+    @Test
+    void projectTimeService_WhenInvalidZone_ThenShouldFallBackToUtc() {
+        // Act
+        ProjectTimeService timeService = new ProjectTimeService("Invalid/Zone");
+
+        // Assert
+        assertEquals(ZoneId.of("UTC"), timeService.getZoneId());
+    }
+}